@@ -0,0 +1,131 @@
+package com.example.AOD.api.dto;
+
+import com.example.AOD.api.dto.work.GameInfoDTO;
+import com.example.AOD.api.dto.work.PlatformInfoDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * API DTO 직렬화 처리량/할당량 비교
+ * - 목록: WorkSummaryDTO 20건 페이지, 기본 ObjectMapper vs Blackbird
+ * - 상세: 기존 Map 기반 domainInfo/platformInfo(attributes 전체 복사) vs 타입 DTO + attributes 화이트리스트
+ *
+ * 실행: ./gradlew :-AOD-All-of-Dopamine-api:jmh  (gc 프로파일러로 gc.alloc.rate.norm 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class WorkSerializationBenchmark {
+
+    private ObjectMapper plainMapper;
+    private ObjectMapper blackbirdMapper;
+
+    private PageResponse<WorkSummaryDTO> summaryPage;
+    private Map<String, Object> legacyDetail;
+    private WorkResponseDTO typedDetail;
+
+    @Setup
+    public void setUp() {
+        plainMapper = new ObjectMapper();
+        blackbirdMapper = new ObjectMapper().registerModule(new BlackbirdModule());
+
+        List<WorkSummaryDTO> items = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            items.add(WorkSummaryDTO.builder()
+                    .id((long) i)
+                    .domain("GAME")
+                    .title("작품 제목 " + i)
+                    .thumbnail("https://cdn.example.com/poster/" + i + ".jpg")
+                    .score(4.2)
+                    .releaseDate("2024-01-" + (10 + i))
+                    .build());
+        }
+        summaryPage = PageResponse.<WorkSummaryDTO>builder()
+                .content(items).page(0).size(20).totalElements(1000).totalPages(50).first(true).last(false)
+                .build();
+
+        List<String> genres = List.of("액션", "RPG", "어드벤처");
+        Map<String, Object> osPlatforms = Map.of("windows", true, "mac", false, "linux", false);
+        Map<String, Object> steamAttributes = new HashMap<>();
+        steamAttributes.put("is_free", false);
+        steamAttributes.put("required_age", 0);
+        steamAttributes.put("metacritic", Map.of("score", 88, "url", "https://www.metacritic.com/game/x"));
+        steamAttributes.put("price_overview", Map.of("currency", "KRW", "initial", 3600000, "final", 2880000));
+        steamAttributes.put("categories", List.of("Single-player", "Steam Achievements", "Full controller support"));
+        steamAttributes.put("recommendation_count", 12345);
+        steamAttributes.put("detailed_description", "<p>" + "설명 ".repeat(200) + "</p>");
+        // 원본 응답에서 딸려온 비노출 필드 (화이트리스트 대상 외)
+        steamAttributes.put("pc_requirements", Map.of("minimum", "<ul>" + "사양 ".repeat(100) + "</ul>"));
+        steamAttributes.put("screenshots", List.of("s1.jpg", "s2.jpg", "s3.jpg", "s4.jpg", "s5.jpg"));
+        steamAttributes.put("support_info", Map.of("url", "https://support.example.com", "email", "help@example.com"));
+
+        // 기존 방식: HashMap으로 조립 + attributes putAll
+        Map<String, Object> domainInfo = new HashMap<>();
+        domainInfo.put("developer", "개발사");
+        domainInfo.put("publisher", "배급사");
+        domainInfo.put("genres", genres);
+        domainInfo.putAll(osPlatforms);
+        domainInfo.put("releaseDate", "2024-01-10");
+        Map<String, Object> steamInfo = new HashMap<>();
+        steamInfo.put("url", "https://store.steampowered.com/app/1");
+        steamInfo.put("platformSpecificId", "1");
+        steamInfo.putAll(steamAttributes);
+        legacyDetail = new HashMap<>();
+        legacyDetail.put("id", 1L);
+        legacyDetail.put("domain", "GAME");
+        legacyDetail.put("title", "작품 제목");
+        legacyDetail.put("thumbnail", "https://cdn.example.com/poster/1.jpg");
+        legacyDetail.put("synopsis", "줄거리 ".repeat(50));
+        legacyDetail.put("domainInfo", domainInfo);
+        legacyDetail.put("platformInfo", Map.of("Steam", steamInfo));
+
+        // 새 방식: 타입 DTO + 허용 키만
+        Map<String, Object> allowed = new HashMap<>();
+        for (String key : List.of("price_overview", "metacritic", "is_free", "required_age", "categories",
+                "recommendation_count", "detailed_description")) {
+            allowed.put(key, steamAttributes.get(key));
+        }
+        typedDetail = WorkResponseDTO.builder()
+                .id(1L)
+                .domain("GAME")
+                .title("작품 제목")
+                .thumbnail("https://cdn.example.com/poster/1.jpg")
+                .synopsis("줄거리 ".repeat(50))
+                .domainInfo(new GameInfoDTO("개발사", "배급사", genres, "2024-01-10", osPlatforms))
+                .platformInfo(Map.of("Steam", new PlatformInfoDTO("https://store.steampowered.com/app/1", "1", allowed)))
+                .build();
+    }
+
+    @Benchmark
+    public byte[] summaryPagePlain() throws Exception {
+        return plainMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] summaryPageBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] detailLegacyMap() throws Exception {
+        return plainMapper.writeValueAsBytes(legacyDetail);
+    }
+
+    @Benchmark
+    public byte[] detailTypedBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(typedDetail);
+    }
+}
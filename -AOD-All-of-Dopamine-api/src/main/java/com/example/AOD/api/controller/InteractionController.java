@@ -1,8 +1,10 @@
 package com.example.AOD.api.controller;
 
+import com.example.AOD.api.dto.MyLibraryResponseDTO;
 import com.example.AOD.api.dto.PageResponse;
 import com.example.AOD.api.dto.WorkSummaryDTO;
 import com.example.AOD.api.service.BookmarkService;
+import com.example.AOD.api.service.LibraryService;
 import com.example.AOD.api.service.LikeService;
 import com.example.AOD.security.JwtTokenProvider;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,7 @@ public class InteractionController {
 
     private final LikeService likeService;
     private final BookmarkService bookmarkService;
+    private final LibraryService libraryService;
     private final JwtTokenProvider jwtTokenProvider;
 
     // ========== 좋아요/싫어요 API ==========
@@ -149,6 +152,29 @@ public class InteractionController {
         }
     }
 
+    /**
+     * 내 보관함 통합 조회 (좋아요 / 북마크 / 리뷰, 섹션별 커서 페이징)
+     * GET /api/my/library?size=20&likeCursor=&bookmarkCursor=&reviewCursor=
+     */
+    @GetMapping("/my/library")
+    public ResponseEntity<?> getMyLibrary(
+            @RequestHeader("Authorization") String authHeader,
+            @RequestParam(required = false) String likeCursor,
+            @RequestParam(required = false) String bookmarkCursor,
+            @RequestParam(required = false) String reviewCursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            String username = extractUsernameRequired(authHeader);
+            MyLibraryResponseDTO response = libraryService.getMyLibrary(
+                    username, likeCursor, bookmarkCursor, reviewCursor, size);
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            log.error("내 보관함 조회 실패", e);
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 북마크 여부 확인
      * GET /api/works/{contentId}/bookmark
@@ -1,5 +1,6 @@
 package com.example.AOD.api.controller;
 
+import com.example.AOD.api.dto.CursorPageResponse;
 import com.example.AOD.api.dto.PageResponse;
 import com.example.AOD.api.dto.review.ReviewRequest;
 import com.example.AOD.api.dto.review.ReviewResponseDTO;
@@ -42,6 +43,29 @@ public class ReviewController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 특정 작품의 리뷰 피드 (커서 페이징)
+     * GET /api/works/{contentId}/reviews/feed?sort=latest|detailed&cursor=&size=20
+     */
+    @GetMapping("/works/{contentId}/reviews/feed")
+    public ResponseEntity<?> getReviewFeed(
+            @PathVariable Long contentId,
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            String username = extractUsername(authHeader);
+            ReviewService.ReviewSort reviewSort = ReviewService.ReviewSort.valueOf(sort.toUpperCase());
+            CursorPageResponse<ReviewResponseDTO> response =
+                    reviewService.getReviewFeed(contentId, username, reviewSort, cursor, size);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     /**
      * 리뷰 작성
      * POST /api/works/{contentId}/reviews
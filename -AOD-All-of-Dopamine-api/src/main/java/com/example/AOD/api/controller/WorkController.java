@@ -1,17 +1,45 @@
 package com.example.AOD.api.controller;
 
+import com.example.AOD.api.dto.ChangeCursor;
+import com.example.AOD.api.dto.CountMode;
 import com.example.AOD.api.dto.PageResponse;
+import com.example.AOD.api.dto.WorkPageResponseDTO;
 import com.example.AOD.api.dto.WorkResponseDTO;
 import com.example.AOD.api.dto.WorkSummaryDTO;
 import com.example.AOD.api.service.WorkApiService;
+import com.example.AOD.api.service.CatalogExportService;
+import com.example.AOD.api.service.ChangeFeedService;
+import com.example.AOD.api.service.ContentNotFoundException;
+import com.example.AOD.api.service.ResourceVersionService;
+import com.example.AOD.api.service.WorkPageService;
+import com.example.AOD.performance.AdaptiveConcurrencyLimiter;
+import com.example.AOD.performance.LoadSheddingException;
+import com.example.AOD.performance.SingleFlight;
+import com.example.AOD.performance.WorkQueryClass;
+import com.example.AOD.performance.WorkQueryLimiters;
+import com.example.AOD.security.JwtTokenProvider;
 import com.example.shared.entity.Domain;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.QueryTimeoutException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @RestController
@@ -20,13 +48,28 @@ import org.springframework.web.bind.annotation.*;
 public class WorkController {
 
     private final WorkApiService workApiService;
+    private final WorkPageService workPageService;
+    private final JwtTokenProvider jwtTokenProvider;
+    private final WorkQueryLimiters workQueryLimiters;
+    private final SingleFlight singleFlight;
+    private final ResourceVersionService resourceVersionService;
+    private final ChangeFeedService changeFeedService;
+    private final CatalogExportService catalogExportService;
+
+    // 브라우저 1분, CDN 5분 + 재검증 중 1분간 이전 응답 사용
+    private static final CacheControl WORK_DETAIL_CACHE = CacheControl.maxAge(Duration.ofMinutes(1))
+            .sMaxAge(Duration.ofMinutes(5))
+            .staleWhileRevalidate(Duration.ofMinutes(1))
+            .cachePublic();
 
     /**
      * 작품 목록 조회
      * GET /api/works?domain=GAME&keyword=검색어&platforms=steam,epic&genres=액션,RPG&page=0&size=20&sort=masterTitle,asc
+     * - countMode=exact(기본) | slice(COUNT 생략, hasNext만) | estimated(상한까지만 COUNT)
+     * - 조회 형태별 동시성 한도 초과 / 쿼리 타임아웃 시 503 + Retry-After
      */
     @GetMapping
-    public ResponseEntity<PageResponse<WorkSummaryDTO>> getWorks(
+    public ResponseEntity<?> getWorks(
             @RequestParam(required = false) String domain,
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) java.util.List<String> platforms,
@@ -34,7 +77,8 @@ public class WorkController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
             @RequestParam(defaultValue = "masterTitle") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDirection
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(defaultValue = "exact") String countMode
     ) {
         Domain domainEnum = null;
         if (domain != null && !domain.isBlank()) {
@@ -45,21 +89,197 @@ public class WorkController {
             }
         }
 
+        CountMode countModeEnum = CountMode.EXACT;
+        try {
+            countModeEnum = CountMode.valueOf(countMode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid countMode parameter: {}", countMode);
+        }
+
         Sort sort = Sort.by(Sort.Direction.fromString(sortDirection), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        PageResponse<WorkSummaryDTO> response = workApiService.getWorks(domainEnum, keyword, platforms, genres, pageable);
-        return ResponseEntity.ok(response);
+        WorkQueryClass queryClass = WorkQueryClass.classify(keyword, platforms, genres);
+        String flightKey = worksFlightKey(domainEnum, keyword, platforms, genres, pageable, countModeEnum);
+        final Domain filterDomain = domainEnum;
+        final CountMode filterCountMode = countModeEnum;
+
+        try {
+            // 동일 조건의 동시 요청은 하나의 조회에 합류 → 동시성 한도는 실제 조회(leader)만 사용
+            PageResponse<WorkSummaryDTO> response = singleFlight.load("works", flightKey,
+                    () -> loadWorksLimited(queryClass, () -> workApiService.getWorks(
+                            filterDomain, keyword, platforms, genres, pageable, filterCountMode)));
+            return ResponseEntity.ok(response);
+        } catch (LoadSheddingException e) {
+            return serviceUnavailable(e.getMessage());
+        } catch (QueryTimeoutException e) {
+            log.warn("⚠️ 작품 목록 조회 타임아웃 - class: {}, keyword: {}, genres: {}, platforms: {}",
+                    queryClass, keyword, genres, platforms);
+            return serviceUnavailable("조회 시간이 초과되었습니다. 조건을 줄여 다시 시도해주세요.");
+        }
+    }
+
+    private PageResponse<WorkSummaryDTO> loadWorksLimited(WorkQueryClass queryClass,
+                                                          Supplier<PageResponse<WorkSummaryDTO>> loader) {
+        AdaptiveConcurrencyLimiter limiter = workQueryLimiters.get(queryClass);
+        if (!limiter.tryAcquire()) {
+            workQueryLimiters.recordRejected(queryClass);
+            throw new LoadSheddingException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 슬롯은 finally에서 한 번만 반환 (Error 포함 어떤 경로로 끝나도 누수 없음)
+        long start = System.nanoTime();
+        boolean completed = false;
+        boolean timedOut = false;
+        try {
+            PageResponse<WorkSummaryDTO> response = loader.get();
+            completed = true;
+            return response;
+        } catch (QueryTimeoutException e) {
+            timedOut = true;
+            throw e;
+        } finally {
+            if (completed) {
+                limiter.onSuccess(System.nanoTime() - start);
+            } else if (timedOut) {
+                limiter.onDropped();
+            } else {
+                limiter.onIgnore();
+            }
+        }
+    }
+
+    /**
+     * 목록 조회 병합 키 (필터 순서/대소문자 정규화)
+     */
+    private String worksFlightKey(Domain domain, String keyword, List<String> platforms, List<String> genres,
+                                  Pageable pageable, CountMode countMode) {
+        return String.join("|",
+                String.valueOf(domain),
+                keyword == null ? "" : keyword.trim().toLowerCase(),
+                normalizeFilter(platforms),
+                normalizeFilter(genres),
+                pageable.getPageNumber() + "/" + pageable.getPageSize() + "/" + pageable.getSort(),
+                countMode.name());
+    }
+
+    private String normalizeFilter(List<String> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream()
+                .map(v -> v.trim().toLowerCase())
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private ResponseEntity<Map<String, String>> serviceUnavailable(String message) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(Map.of("error", message));
+    }
+
+    /**
+     * 작품 변경 피드 (증분 동기화용 NDJSON)
+     * GET /api/works/changes?since=<cursor 또는 ISO-8601>&limit=1000
+     * - 마지막 줄 {"op":"cursor"}의 cursor를 다음 since로 사용, hasMore=true면 바로 이어서 요청
+     */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "1000") int limit
+    ) {
+        ChangeCursor cursor;
+        try {
+            cursor = changeFeedService.resolveCursor(since);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+        int pageLimit = Math.max(1, Math.min(limit, 5000));
+
+        StreamingResponseBody body = out -> changeFeedService.writeChanges(cursor, pageLimit, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    /**
+     * 전체 카탈로그 내보내기 (작품 + 도메인 상세 + 플랫폼 데이터, NDJSON 스트리밍)
+     * GET /api/works/export?domain=GAME
+     * - 색인/분석 작업용: /api/works 페이지 순회 대신 한 번의 스트림으로 전체 수신
+     * - 동시 내보내기 한도 초과 시 503 + Retry-After
+     */
+    @GetMapping("/export")
+    public ResponseEntity<?> exportCatalog(@RequestParam(required = false) String domain) {
+        Domain domainEnum = null;
+        if (domain != null && !domain.isBlank()) {
+            try {
+                domainEnum = Domain.valueOf(domain.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid domain parameter: {}", domain);
+            }
+        }
+
+        StreamingResponseBody body;
+        try {
+            body = catalogExportService.open(domainEnum);
+        } catch (LoadSheddingException e) {
+            return serviceUnavailable(e.getMessage());
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
     /**
      * 작품 상세 조회
-     * GET /api/works/{id}
+     * GET /api/works/{id} (없는 작품이면 404)
      */
     @GetMapping("/{id}")
-    public ResponseEntity<WorkResponseDTO> getWorkDetail(@PathVariable Long id) {
-        WorkResponseDTO response = workApiService.getWorkDetail(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<WorkResponseDTO> getWorkDetail(@PathVariable Long id, WebRequest webRequest) {
+        // contents.updated_at만 먼저 조회해서 변경이 없으면 본문 조립 없이 304
+        Optional<Instant> lastModified = resourceVersionService.getWorkLastModified(id);
+        if (lastModified.isPresent()) {
+            long millis = lastModified.get().toEpochMilli();
+            String etag = "W/\"" + id + "-" + millis + "\"";
+            if (webRequest.checkNotModified(etag, millis)) {
+                // 304에도 Cache-Control을 다시 보내야 캐시가 신선도 수명을 갱신
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .lastModified(millis)
+                        .cacheControl(WORK_DETAIL_CACHE)
+                        .build();
+            }
+        }
+
+        WorkResponseDTO response;
+        try {
+            response = singleFlight.load("work-detail", String.valueOf(id),
+                    () -> workApiService.getWorkDetail(id));
+        } catch (ContentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        return ResponseEntity.ok()
+                .cacheControl(WORK_DETAIL_CACHE)
+                .body(response);
+    }
+
+    /**
+     * 작품 페이지 통합 조회 (상세 + 좋아요 통계 + 북마크 여부 + 첫 리뷰 페이지)
+     * GET /api/works/{id}/page?reviewSize=10 (없는 작품이면 404)
+     */
+    @GetMapping("/{id}/page")
+    public ResponseEntity<WorkPageResponseDTO> getWorkPage(
+            @PathVariable Long id,
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestParam(defaultValue = "10") int reviewSize
+    ) {
+        String username = extractUsername(authHeader);
+        try {
+            return ResponseEntity.ok(workPageService.getWorkPage(id, username, reviewSize));
+        } catch (ContentNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
     }
 
     /**
@@ -177,6 +397,16 @@ public class WorkController {
         java.util.List<String> platforms = workApiService.getAvailablePlatforms(domainEnum);
         return ResponseEntity.ok(platforms);
     }
-}
-
 
+    private String extractUsername(String authHeader) {
+        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+            return null;
+        }
+        try {
+            String token = authHeader.substring(7);
+            return jwtTokenProvider.getUsername(token);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.AOD.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 변경 피드 위치
+ * - 변경(upsert): (change_txid, content_id) 키셋
+ * - 삭제(tombstone): (change_txid, content_id) 키셋
+ * - change_txid는 행을 쓴 트랜잭션 ID (커밋 순서 워터마크 아래만 전달하므로 늦게 커밋된 행도 놓치지 않음)
+ */
+public record ChangeCursor(long contentTxid, long contentId, long tombstoneTxid, long tombstoneId) {
+
+    public static final ChangeCursor START = new ChangeCursor(0L, 0L, 0L, 0L);
+
+    public String encode() {
+        String raw = contentTxid + "|" + contentId + "|" + tombstoneTxid + "|" + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ChangeCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("cursor parts: " + parts.length);
+            }
+            return new ChangeCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]),
+                    Long.parseLong(parts[2]), Long.parseLong(parts[3]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 since 값입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.AOD.api.dto;
+
+/**
+ * 목록 조회 시 전체 개수 계산 방식
+ * - EXACT: 정확한 COUNT 쿼리 (기본값, 기존 동작)
+ * - SLICE: COUNT 없이 다음 페이지 존재 여부(hasNext)만 반환
+ * - ESTIMATED: 상한(cap)까지만 세는 COUNT, 상한 초과 시 "cap개 이상"으로 응답
+ */
+public enum CountMode {
+    EXACT,
+    SLICE,
+    ESTIMATED
+}
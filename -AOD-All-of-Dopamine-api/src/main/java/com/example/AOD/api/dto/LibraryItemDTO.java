@@ -0,0 +1,23 @@
+package com.example.AOD.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 보관함(좋아요/북마크) 항목
+ * - entryId/addedAt: 좋아요·북마크 행 기준 (커서 위치)
+ * - 작품 정보는 목록용 컬럼만 포함
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LibraryItemDTO {
+    private Long entryId;
+    private LocalDateTime addedAt;
+    private WorkSummaryDTO work;
+}
@@ -0,0 +1,21 @@
+package com.example.AOD.api.dto;
+
+import com.example.AOD.api.dto.review.ReviewResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내 보관함 통합 응답 (좋아요 / 북마크 / 리뷰)
+ * - 각 섹션은 독립적인 커서로 이어서 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MyLibraryResponseDTO {
+    private CursorPageResponse<LibraryItemDTO> likes;
+    private CursorPageResponse<LibraryItemDTO> bookmarks;
+    private CursorPageResponse<ReviewResponseDTO> reviews;
+}
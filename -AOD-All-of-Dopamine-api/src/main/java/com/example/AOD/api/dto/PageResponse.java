@@ -15,10 +15,15 @@ public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private long totalElements; // SLICE 모드: -1, ESTIMATED 모드: 상한까지 센 값 (하한값)
+    private int totalPages;     // SLICE 모드: -1
     private boolean first;
     private boolean last;
-}
 
+    // 개수 계산 방식 (EXACT / SLICE / ESTIMATED)
+    @Builder.Default
+    private CountMode countMode = CountMode.EXACT;
 
+    // 다음 페이지 존재 여부 (SLICE/ESTIMATED 모드에서 설정)
+    private Boolean hasNext;
+}
@@ -0,0 +1,34 @@
+package com.example.AOD.api.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 점수순 키셋(커서) 페이징 위치 (score DESC, id DESC 정렬 기준)
+ * - KeysetCursor와 동일하게 불투명한 base64url 문자열로 전달
+ */
+public record ScoreCursor(double score, Long id) {
+
+    public static final ScoreCursor FIRST = new ScoreCursor(Double.MAX_VALUE, Long.MAX_VALUE);
+
+    public String encode() {
+        String raw = score + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static ScoreCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf('|');
+            return new ScoreCursor(Double.parseDouble(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.AOD.api.dto;
+
+import com.example.AOD.api.dto.review.ReviewResponseDTO;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 작품 페이지 통합 응답
+ * - 상세 / 좋아요 통계 / 북마크 여부 / 첫 리뷰 페이지를 한 번에 전달
+ * - 일부 조회가 실패하거나 시간 초과되면 해당 필드는 null, 사유는 errors에 기록
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkPageResponseDTO {
+    private WorkResponseDTO detail;
+    private Map<String, Object> likeStats;
+    private Map<String, Object> bookmark;
+    private PageResponse<ReviewResponseDTO> reviews;
+
+    // 실패한 항목명 → 사유 (e.g. "reviews" → "timeout")
+    private Map<String, String> errors;
+}
@@ -1,5 +1,7 @@
 package com.example.AOD.api.dto;
 
+import com.example.AOD.api.dto.work.DomainInfoDTO;
+import com.example.AOD.api.dto.work.PlatformInfoDTO;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,11 +23,11 @@ public class WorkResponseDTO {
     private String synopsis;
     private Double score;
     
-    // 도메인별 동적 정보 (장르, 개발사, 작가 등)
-    private Map<String, Object> domainInfo;
+    // 도메인별 정보 (장르, 개발사, 작가 등) - 도메인별 타입
+    private DomainInfoDTO domainInfo;
     
-    // 플랫폼별 정보 (Steam, Netflix 등)
-    private Map<String, Map<String, Object>> platformInfo;
+    // 플랫폼별 정보 (Steam, Netflix 등) - 허용된 attributes만 포함
+    private Map<String, PlatformInfoDTO> platformInfo;
 }
 
 
@@ -1,5 +1,6 @@
 package com.example.AOD.api.dto;
 
+import com.example.shared.repository.ContentSummary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -18,6 +19,16 @@ public class WorkSummaryDTO {
     private Integer rank; // for ranking pages
     private String rankChange; // "up", "down", "new", or number
     private String releaseDate; // for new releases
+
+    public static WorkSummaryDTO from(ContentSummary content) {
+        return WorkSummaryDTO.builder()
+                .id(content.contentId())
+                .domain(content.domain() != null ? content.domain().name() : null)
+                .title(content.masterTitle())
+                .thumbnail(content.posterImageUrl())
+                .releaseDate(content.releaseDate() != null ? content.releaseDate().toString() : null)
+                .build();
+    }
 }
 
 
@@ -24,6 +24,7 @@ public class ReviewResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private Boolean isMyReview; // 현재 사용자의 리뷰인지 여부
+    private Double detailScore; // 자세한 리뷰순 정렬 점수 (본문 길이/제목 기반)
 
     public static ReviewResponseDTO from(Review review) {
         return ReviewResponseDTO.builder()
@@ -37,6 +38,7 @@ public class ReviewResponseDTO {
                 .content(review.getReviewContent())
                 .createdAt(review.getCreatedAt())
                 .updatedAt(review.getUpdatedAt())
+                .detailScore(review.getDetailScore())
                 .build();
     }
     
@@ -0,0 +1,11 @@
+package com.example.AOD.api.dto.work;
+
+/**
+ * 작품 상세의 도메인별 정보 (WorkResponseDTO.domainInfo)
+ * - 도메인마다 고정된 필드를 가진 타입으로 직렬화 (Map 반사 비용 제거)
+ * - JSON 키는 기존 Map 응답과 동일하게 유지
+ * - 값이 null인 필드는 출력하지 않음 (NON_NULL) → 도메인 상세 행이 없으면 {} (웹툰은 releaseDate만)
+ */
+public sealed interface DomainInfoDTO
+        permits MovieInfoDTO, TvInfoDTO, GameInfoDTO, WebtoonInfoDTO, WebnovelInfoDTO {
+}
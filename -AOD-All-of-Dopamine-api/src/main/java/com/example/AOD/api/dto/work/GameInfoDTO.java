@@ -0,0 +1,29 @@
+package com.example.AOD.api.dto.work;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게임 도메인 정보
+ * - 지원 OS(platforms: windows/mac/linux)는 기존 응답과 같이 최상위 키로 펼쳐서 출력
+ */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public final class GameInfoDTO implements DomainInfoDTO {
+    private final String developer;
+    private final String publisher;
+    private final List<String> genres;
+    private final String releaseDate;
+    private final Map<String, Object> platforms;
+
+    @JsonAnyGetter
+    public Map<String, Object> getPlatforms() {
+        return platforms != null ? platforms : Map.of();
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.AOD.api.dto.work;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MovieInfoDTO(
+        List<String> genres,
+        Integer runtime,
+        List<String> directors,
+        List<String> cast,
+        String releaseDate
+) implements DomainInfoDTO {
+}
@@ -0,0 +1,24 @@
+package com.example.AOD.api.dto.work;
+
+import com.fasterxml.jackson.annotation.JsonAnyGetter;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+/**
+ * 작품 상세의 플랫폼별 정보 (WorkResponseDTO.platformInfo 값)
+ * - url, platformSpecificId 고정 필드 + 플랫폼별 허용된 attributes만 최상위 키로 출력
+ */
+@Getter
+@AllArgsConstructor
+public final class PlatformInfoDTO {
+    private final String url;
+    private final String platformSpecificId;
+    private final Map<String, Object> attributes;
+
+    @JsonAnyGetter
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.AOD.api.dto.work;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TvInfoDTO(
+        List<String> genres,
+        Integer seasonCount,
+        Integer episodeRuntime,
+        List<String> cast,
+        String firstAirDate
+) implements DomainInfoDTO {
+}
@@ -0,0 +1,15 @@
+package com.example.AOD.api.dto.work;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebnovelInfoDTO(
+        String author,
+        String publisher,
+        String ageRating,
+        List<String> genres,
+        String startedAt
+) implements DomainInfoDTO {
+}
@@ -0,0 +1,15 @@
+package com.example.AOD.api.dto.work;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record WebtoonInfoDTO(
+        String author,
+        String status,
+        String weekday,
+        List<String> genres,
+        String releaseDate
+) implements DomainInfoDTO {
+}
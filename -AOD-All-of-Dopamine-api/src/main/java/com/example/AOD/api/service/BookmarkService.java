@@ -6,6 +6,7 @@ import com.example.AOD.domain.Bookmark;
 import com.example.shared.entity.Content;
 import com.example.AOD.repo.BookmarkRepository;
 import com.example.shared.repository.ContentRepository;
+import com.example.shared.repository.ContentSummary;
 // import com.example.AOD.recommendation.repository.ContentRatingRepository;
 import com.example.AOD.user.model.User;
 import com.example.AOD.user.repository.UserRepository;
@@ -74,10 +75,10 @@ public class BookmarkService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found: " + username));
 
-        Page<Bookmark> bookmarkPage = bookmarkRepository.findByUser(user, pageable);
+        Page<ContentSummary> bookmarkPage = bookmarkRepository.findContentSummariesByUser(user, pageable);
 
         List<WorkSummaryDTO> content = bookmarkPage.getContent().stream()
-                .map(bookmark -> toWorkSummary(bookmark.getContent()))
+                .map(this::toWorkSummary)
                 .collect(Collectors.toList());
 
         return PageResponse.<WorkSummaryDTO>builder()
@@ -99,26 +100,22 @@ public class BookmarkService {
             return Map.of("contentId", contentId, "bookmarked", false);
         }
 
-        Content content = contentRepository.findById(contentId).orElse(null);
-        User user = userRepository.findByUsername(username).orElse(null);
-
-        boolean bookmarked = false;
-        if (content != null && user != null) {
-            bookmarked = bookmarkRepository.existsByContentAndUser(content, user);
-        }
+        Long userId = userRepository.findByUsername(username).map(User::getId).orElse(null);
+        return getBookmarkStatusByUserId(contentId, userId);
+    }
 
+    /**
+     * 북마크 여부 확인 (이미 확인된 사용자 ID 사용)
+     */
+    public Map<String, Object> getBookmarkStatusByUserId(Long contentId, Long userId) {
+        boolean bookmarked = userId != null && bookmarkRepository.existsByContentIdAndUserId(contentId, userId);
         return Map.of("contentId", contentId, "bookmarked", bookmarked);
     }
 
-    private WorkSummaryDTO toWorkSummary(Content content) {
-        return WorkSummaryDTO.builder()
-                .id(content.getContentId())
-                .domain(content.getDomain().name())
-                .title(content.getMasterTitle())
-                .thumbnail(content.getPosterImageUrl())
-                .releaseDate(content.getReleaseDate() != null ? content.getReleaseDate().toString() : null)
-                .score(calculateAverageScore(content.getContentId()))
-                .build();
+    private WorkSummaryDTO toWorkSummary(ContentSummary content) {
+        WorkSummaryDTO dto = WorkSummaryDTO.from(content);
+        dto.setScore(calculateAverageScore(content.contentId()));
+        return dto;
     }
 
     private Double calculateAverageScore(Long contentId) {
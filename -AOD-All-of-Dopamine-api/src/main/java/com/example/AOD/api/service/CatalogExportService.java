@@ -0,0 +1,206 @@
+package com.example.AOD.api.service;
+
+import com.example.AOD.api.dto.work.PlatformInfoDTO;
+import com.example.AOD.performance.LoadSheddingException;
+import com.example.shared.entity.Domain;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 전체 카탈로그 NDJSON 내보내기 (검색 색인/분석 작업용)
+ * - 작품 + 도메인별 상세 + 플랫폼 데이터를 쿼리 1회로 한 번에 읽음
+ * - PostgreSQL 서버 커서: 트랜잭션 안(autocommit off)에서 fetchSize 단위로 받아옴
+ * - JPA 영속성 컨텍스트를 거치지 않고 행마다 바로 출력 → 카탈로그 크기와 무관하게 힙 사용량 일정
+ * - 출력 형태는 작품 상세(/api/works/{id})와 동일
+ *   · details: DomainInfoDTO와 같은 camelCase 키 (DB에서 JSON으로 만들고 null 키 제외)
+ *   · platforms: 플랫폼 이름별 url / platformSpecificId + 공개 허용 attributes (PlatformAttributeWhitelist)
+ * - 스트림 하나가 끝날 때까지 커넥션 하나를 점유하므로 동시 내보내기 수 제한 (works.export.max-concurrent)
+ */
+@Slf4j
+@Service
+public class CatalogExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT c.content_id, c.domain, c.master_title, c.original_title, c.release_date, " +
+            "       c.poster_image_url, c.synopsis, c.updated_at, " +
+            "       jsonb_strip_nulls(CASE " +
+            "         WHEN m.content_id IS NOT NULL THEN jsonb_build_object('genres', m.genres, 'runtime', m.runtime, " +
+            "              'directors', m.directors, 'cast', m.cast_members, 'releaseDate', c.release_date) " +
+            "         WHEN t.content_id IS NOT NULL THEN jsonb_build_object('genres', t.genres, 'seasonCount', t.season_count, " +
+            "              'episodeRuntime', t.episode_runtime, 'cast', t.cast_members, 'firstAirDate', c.release_date) " +
+            "         WHEN g.content_id IS NOT NULL THEN COALESCE(g.platforms, '{}'::jsonb) || jsonb_build_object(" +
+            "              'developer', g.developer, 'publisher', g.publisher, 'genres', g.genres, 'releaseDate', c.release_date) " +
+            "         WHEN w.content_id IS NOT NULL THEN jsonb_build_object('author', w.author, 'status', w.status, " +
+            "              'weekday', w.weekday, 'genres', w.genres, 'releaseDate', c.release_date) " +
+            "         WHEN n.content_id IS NOT NULL THEN jsonb_build_object('author', n.author, 'publisher', n.publisher, " +
+            "              'ageRating', n.age_rating, 'genres', n.genres, 'startedAt', c.release_date) " +
+            "         WHEN c.domain = 'WEBTOON' THEN jsonb_build_object('releaseDate', c.release_date) " +
+            "         ELSE '{}'::jsonb END)::text AS details, " +
+            "       (SELECT jsonb_agg(jsonb_build_object('platformName', pd.platform_name, 'url', pd.url, " +
+            "                 'platformSpecificId', pd.platform_specific_id, 'attributes', pd.attributes) " +
+            "                 ORDER BY pd.platform_data_id)::text " +
+            "        FROM platform_data pd WHERE pd.content_id = c.content_id) AS platforms " +
+            "FROM contents c " +
+            "LEFT JOIN movie_contents m ON m.content_id = c.content_id " +
+            "LEFT JOIN tv_contents t ON t.content_id = c.content_id " +
+            "LEFT JOIN game_contents g ON g.content_id = c.content_id " +
+            "LEFT JOIN webtoon_contents w ON w.content_id = c.content_id " +
+            "LEFT JOIN webnovel_contents n ON n.content_id = c.content_id ";
+
+    private static final TypeReference<List<Map<String, Object>>> PLATFORM_ROWS = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final PlatformAttributeWhitelist platformAttributeWhitelist;
+    private final Semaphore exportSlots;
+
+    public CatalogExportService(DataSource dataSource,
+                                PlatformTransactionManager transactionManager,
+                                ObjectMapper objectMapper,
+                                PlatformAttributeWhitelist platformAttributeWhitelist,
+                                @Value("${works.export.fetch-size:500}") int fetchSize,
+                                @Value("${works.export.max-concurrent:2}") int maxConcurrent) {
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.platformAttributeWhitelist = platformAttributeWhitelist;
+        this.exportSlots = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * 내보내기 슬롯을 기다리지 않고 확보한 뒤 스트림 본문 반환 (슬롯은 스트림이 끝나면 반환)
+     * @param domain null이면 전체 도메인
+     * @throws LoadSheddingException 동시 내보내기 한도 초과
+     */
+    public StreamingResponseBody open(Domain domain) {
+        if (!exportSlots.tryAcquire()) {
+            throw new LoadSheddingException("이미 진행 중인 내보내기가 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return out -> {
+            try {
+                export(domain, out);
+            } finally {
+                exportSlots.release();
+            }
+        };
+    }
+
+    /**
+     * @param domain null이면 전체 도메인
+     */
+    private void export(Domain domain, OutputStream out) throws IOException {
+        long start = System.currentTimeMillis();
+
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            json.setRootValueSeparator(null);
+            long[] rows = {0};
+
+            RowCallbackHandler writer = rs -> {
+                writeRow(json, rs);
+                // 1000행마다 클라이언트로 흘려보냄
+                if (++rows[0] % 1000 == 0) {
+                    flush(json);
+                }
+            };
+
+            // 서버 커서는 트랜잭션 안에서만 동작 (autocommit이면 전체 결과를 한 번에 받아옴)
+            readOnlyTransaction.executeWithoutResult(status -> {
+                if (domain == null) {
+                    exportJdbcTemplate.query(EXPORT_SQL + "ORDER BY c.content_id", writer);
+                } else {
+                    exportJdbcTemplate.query(EXPORT_SQL + "WHERE c.domain = ? ORDER BY c.content_id", writer, domain.name());
+                }
+            });
+
+            log.info("📦 카탈로그 내보내기 완료 - domain: {}, rows: {}, {}ms",
+                    domain, rows[0], System.currentTimeMillis() - start);
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등
+            log.warn("⚠️ 카탈로그 내보내기 중단: {}", e.getCause().getMessage());
+            throw e.getCause();
+        }
+    }
+
+    private void writeRow(JsonGenerator json, ResultSet rs) throws SQLException {
+        try {
+            Date releaseDate = rs.getDate("release_date");
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            String details = rs.getString("details");
+            String platforms = rs.getString("platforms");
+
+            json.writeStartObject();
+            json.writeNumberField("id", rs.getLong("content_id"));
+            json.writeStringField("domain", rs.getString("domain"));
+            json.writeStringField("title", rs.getString("master_title"));
+            json.writeStringField("originalTitle", rs.getString("original_title"));
+            json.writeStringField("releaseDate", releaseDate != null ? releaseDate.toLocalDate().toString() : null);
+            json.writeStringField("thumbnail", rs.getString("poster_image_url"));
+            json.writeStringField("synopsis", rs.getString("synopsis"));
+            json.writeStringField("updatedAt", updatedAt != null ? updatedAt.toInstant().toString() : null);
+            json.writeFieldName("details");
+            json.writeRawValue(details);
+            json.writeFieldName("platforms");
+            json.writeObject(toPlatformInfo(platforms));
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 작품 상세와 같은 플랫폼 정보로 변환 (허용되지 않은 attributes 키 제외)
+     */
+    private Map<String, PlatformInfoDTO> toPlatformInfo(String platforms) throws IOException {
+        if (platforms == null) {
+            return Map.of();
+        }
+        List<Map<String, Object>> rows = objectMapper.readValue(platforms, PLATFORM_ROWS);
+        Map<String, PlatformInfoDTO> platformInfo = new LinkedHashMap<>(rows.size() * 2);
+        for (Map<String, Object> row : rows) {
+            String platformName = (String) row.get("platformName");
+            @SuppressWarnings("unchecked")
+            Map<String, Object> attributes = (Map<String, Object>) row.get("attributes");
+            platformInfo.put(platformName, new PlatformInfoDTO(
+                    (String) row.get("url"),
+                    (String) row.get("platformSpecificId"),
+                    platformAttributeWhitelist.filter(platformName, attributes)));
+        }
+        return platformInfo;
+    }
+
+    private void flush(JsonGenerator json) {
+        try {
+            json.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
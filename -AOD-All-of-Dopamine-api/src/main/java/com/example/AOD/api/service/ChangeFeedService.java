@@ -0,0 +1,189 @@
+package com.example.AOD.api.service;
+
+import com.example.AOD.api.dto.ChangeCursor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 작품 변경 피드 (증분 동기화)
+ * - since 이후 변경된 작품을 (change_txid, content_id) 순으로, 삭제된 작품은 tombstone으로 전달
+ * - NDJSON 한 줄에 하나씩 바로 출력 (목록을 메모리에 모으지 않음)
+ * - 호출당 최대 limit건, 마지막 줄의 cursor로 이어서 요청
+ * - 커밋 순서 워터마크: 조회 스냅샷의 xmin보다 작은 change_txid만 전달
+ *   → xmin 아래 트랜잭션은 모두 끝났으므로 이후에 보이게 될 행은 항상 커서보다 뒤 (긴 배치 트랜잭션도 누락 없음)
+ *   → 진행 중인 트랜잭션이 있으면 그 이후 커밋분은 해당 트랜잭션이 끝날 때까지 다음 호출로 미뤄짐
+ * - ISO-8601 시각 since는 그 시각 이후 변경된 행의 최소 change_txid에서 시작
+ *   (같은 트랜잭션의 더 이전 변경도 함께 나오는 상위 집합, 클라이언트는 id 기준으로 덮어쓰면 됨)
+ *
+ * 출력 예)
+ * {"op":"upsert","id":1,"domain":"MOVIE","title":"...","originalTitle":"...","releaseDate":"2024-01-01","thumbnail":"...","updatedAt":"..."}
+ * {"op":"delete","id":2,"deletedAt":"..."}
+ * {"op":"cursor","cursor":"...","hasMore":false}
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChangeFeedService {
+
+    private static final String UPSERT_SQL =
+            "SELECT content_id, domain, master_title, original_title, release_date, poster_image_url, updated_at, " +
+            "change_txid FROM contents " +
+            "WHERE (change_txid, content_id) > (?, ?) " +
+            "AND change_txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "ORDER BY change_txid, content_id LIMIT ?";
+
+    private static final String TOMBSTONE_SQL =
+            "SELECT content_id, deleted_at, change_txid FROM content_tombstones " +
+            "WHERE (change_txid, content_id) > (?, ?) " +
+            "AND change_txid < txid_snapshot_xmin(txid_current_snapshot()) " +
+            "ORDER BY change_txid, content_id LIMIT ?";
+
+    // 해당 시각 이후 변경분의 최소 txid (진행 중인 트랜잭션이 더 작으면 그 xmin부터)
+    private static final String CONTENT_TXID_SINCE_SQL =
+            "SELECT LEAST(MIN(change_txid), txid_snapshot_xmin(txid_current_snapshot())) " +
+            "FROM contents WHERE updated_at >= ?";
+
+    private static final String TOMBSTONE_TXID_SINCE_SQL =
+            "SELECT LEAST(MIN(change_txid), txid_snapshot_xmin(txid_current_snapshot())) " +
+            "FROM content_tombstones WHERE deleted_at >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * since 파라미터 해석 (비어 있으면 처음부터, ISO-8601 시각 또는 이전 응답의 cursor)
+     *
+     * @throws IllegalArgumentException 형식이 잘못된 커서/시각
+     */
+    public ChangeCursor resolveCursor(String since) {
+        if (since == null || since.isBlank()) {
+            return ChangeCursor.START;
+        }
+        Instant at;
+        try {
+            at = Instant.parse(since);
+        } catch (DateTimeParseException e) {
+            // ISO 시각이 아니면 커서로 해석
+            return ChangeCursor.decode(since);
+        }
+        Timestamp from = Timestamp.from(at);
+        // (txid, 0) 다음부터 = 해당 txid 포함 (content_id는 1부터)
+        return new ChangeCursor(startTxid(CONTENT_TXID_SINCE_SQL, from), 0L,
+                startTxid(TOMBSTONE_TXID_SINCE_SQL, from), 0L);
+    }
+
+    private long startTxid(String sql, Timestamp from) {
+        Long txid = jdbcTemplate.queryForObject(sql, Long.class, from);
+        return txid != null ? txid : 0L;
+    }
+
+    /**
+     * @param cursor 시작 위치 (포함하지 않음)
+     * @param limit  변경/삭제 각각 최대 건수
+     */
+    public void writeChanges(ChangeCursor cursor, int limit, OutputStream out) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            // 루트 값 사이 기본 구분자(공백) 대신 줄바꿈만 직접 출력
+            json.setRootValueSeparator(null);
+
+            // 1. 변경된 작품
+            Position upsert = new Position(cursor.contentTxid(), cursor.contentId());
+            jdbcTemplate.query(UPSERT_SQL, (RowCallbackHandler) rs -> writeUpsert(json, rs, upsert),
+                    cursor.contentTxid(), cursor.contentId(), limit);
+
+            // 2. 삭제된 작품 (tombstone)
+            Position tombstone = new Position(cursor.tombstoneTxid(), cursor.tombstoneId());
+            jdbcTemplate.query(TOMBSTONE_SQL, (RowCallbackHandler) rs -> writeTombstone(json, rs, tombstone),
+                    cursor.tombstoneTxid(), cursor.tombstoneId(), limit);
+
+            // 3. 다음 위치
+            ChangeCursor next = new ChangeCursor(upsert.txid, upsert.id, tombstone.txid, tombstone.id);
+            json.writeStartObject();
+            json.writeStringField("op", "cursor");
+            json.writeStringField("cursor", next.encode());
+            json.writeBooleanField("hasMore", upsert.count >= limit || tombstone.count >= limit);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void writeUpsert(JsonGenerator json, ResultSet rs, Position position) throws SQLException {
+        try {
+            long id = rs.getLong("content_id");
+            Instant updatedAt = rs.getTimestamp("updated_at").toInstant();
+            Date releaseDate = rs.getDate("release_date");
+
+            json.writeStartObject();
+            json.writeStringField("op", "upsert");
+            json.writeNumberField("id", id);
+            json.writeStringField("domain", rs.getString("domain"));
+            json.writeStringField("title", rs.getString("master_title"));
+            json.writeStringField("originalTitle", rs.getString("original_title"));
+            json.writeStringField("releaseDate", releaseDate != null ? releaseDate.toLocalDate().toString() : null);
+            json.writeStringField("thumbnail", rs.getString("poster_image_url"));
+            json.writeStringField("updatedAt", updatedAt.toString());
+            json.writeEndObject();
+            json.writeRaw('\n');
+
+            position.advance(rs.getLong("change_txid"), id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeTombstone(JsonGenerator json, ResultSet rs, Position position) throws SQLException {
+        try {
+            long id = rs.getLong("content_id");
+            Instant deletedAt = rs.getTimestamp("deleted_at").toInstant();
+
+            json.writeStartObject();
+            json.writeStringField("op", "delete");
+            json.writeNumberField("id", id);
+            json.writeStringField("deletedAt", deletedAt.toString());
+            json.writeEndObject();
+            json.writeRaw('\n');
+
+            position.advance(rs.getLong("change_txid"), id);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 스트림 진행 위치 (마지막으로 출력한 행)
+     */
+    private static final class Position {
+        private long txid;
+        private long id;
+        private int count;
+
+        private Position(long txid, long id) {
+            this.txid = txid;
+            this.id = id;
+        }
+
+        private void advance(long txid, long id) {
+            this.txid = txid;
+            this.id = id;
+            this.count++;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.AOD.api.service;
+
+import com.example.shared.entity.Domain;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 작품 목록 상한 COUNT
+ * - 정확한 COUNT 대신 LIMIT cap+1 서브쿼리로 최대 cap+1건까지만 셈
+ * - DISTINCT/LIKE 조건에서도 cap건을 찾으면 바로 종료되어 비용이 제한됨
+ * - 조건: 도메인, 키워드, 플랫폼 (WorkApiService 목록 조회와 동일)
+ */
+@Component
+@RequiredArgsConstructor
+public class ContentCountEstimator {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * @return min(실제 개수, cap + 1) — cap보다 크면 상한 초과
+     */
+    public long countUpTo(Domain domain, String keyword, List<String> lowerPlatforms, long cap) {
+        StringBuilder sql = new StringBuilder("SELECT c.content_id FROM contents c WHERE 1=1");
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        if (domain != null) {
+            sql.append(" AND c.domain = :domain");
+            params.addValue("domain", domain.name());
+        }
+        if (keyword != null && !keyword.isBlank()) {
+            sql.append(" AND (LOWER(c.master_title) LIKE :keyword OR LOWER(c.original_title) LIKE :keyword)");
+            params.addValue("keyword", "%" + keyword.toLowerCase() + "%");
+        }
+        if (lowerPlatforms != null && !lowerPlatforms.isEmpty()) {
+            sql.append(" AND EXISTS (SELECT 1 FROM platform_data pd WHERE pd.content_id = c.content_id")
+               .append(" AND LOWER(pd.platform_name) IN (:platforms))");
+            params.addValue("platforms", lowerPlatforms);
+        }
+        sql.append(" LIMIT :limit");
+        params.addValue("limit", cap + 1);
+
+        Long count = namedParameterJdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (" + sql + ") t", params, Long.class);
+        return count != null ? count : 0L;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.AOD.api.service;
+
+/**
+ * 요청한 작품이 없을 때 사용 (404 응답 대상)
+ */
+public class ContentNotFoundException extends RuntimeException {
+    public ContentNotFoundException(Long contentId) {
+        super("Content not found: " + contentId);
+    }
+}
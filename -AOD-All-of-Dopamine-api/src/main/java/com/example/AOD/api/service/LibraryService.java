@@ -0,0 +1,99 @@
+package com.example.AOD.api.service;
+
+import com.example.AOD.api.dto.CursorPageResponse;
+import com.example.AOD.api.dto.KeysetCursor;
+import com.example.AOD.api.dto.LibraryItemDTO;
+import com.example.AOD.api.dto.MyLibraryResponseDTO;
+import com.example.AOD.api.dto.WorkSummaryDTO;
+import com.example.AOD.api.dto.review.ReviewResponseDTO;
+import com.example.AOD.domain.ContentLike;
+import com.example.AOD.domain.Review;
+import com.example.AOD.repo.BookmarkRepository;
+import com.example.AOD.repo.ContentLikeRepository;
+import com.example.AOD.repo.LibraryEntryRow;
+import com.example.AOD.repo.ReviewRepository;
+import com.example.AOD.user.model.User;
+import com.example.AOD.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 내 보관함 (좋아요 / 북마크 / 리뷰) 통합 조회
+ * - 사용자 조회 1회 + 섹션별 단일 쿼리 (작품 컬럼 조인, N+1 없음)
+ * - 키셋 페이징: (created_at, id) 기준으로 이어서 조회 → OFFSET/COUNT 비용 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class LibraryService {
+
+    private static final int MAX_SIZE = 50;
+
+    private final ContentLikeRepository contentLikeRepository;
+    private final BookmarkRepository bookmarkRepository;
+    private final ReviewRepository reviewRepository;
+    private final UserRepository userRepository;
+
+    public MyLibraryResponseDTO getMyLibrary(String username, String likeCursor, String bookmarkCursor,
+                                             String reviewCursor, int size) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found: " + username));
+        int pageSize = Math.max(1, Math.min(size, MAX_SIZE));
+
+        KeysetCursor likeAt = KeysetCursor.decode(likeCursor);
+        KeysetCursor bookmarkAt = KeysetCursor.decode(bookmarkCursor);
+        KeysetCursor reviewAt = KeysetCursor.decode(reviewCursor);
+
+        // size+1건 조회 → 초과분으로 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<LibraryEntryRow> likes = contentLikeRepository.findLibraryPageByUserId(
+                user.getId(), ContentLike.LikeType.LIKE, likeAt.createdAt(), likeAt.id(), limit);
+        List<LibraryEntryRow> bookmarks = bookmarkRepository.findLibraryPageByUserId(
+                user.getId(), bookmarkAt.createdAt(), bookmarkAt.id(), limit);
+        List<Review> reviews = reviewRepository.findKeysetPageByUserId(
+                user.getId(), reviewAt.createdAt(), reviewAt.id(), limit);
+
+        return MyLibraryResponseDTO.builder()
+                .likes(toCursorPage(likes, pageSize, row -> new KeysetCursor(row.addedAt(), row.entryId()), this::toLibraryItem))
+                .bookmarks(toCursorPage(bookmarks, pageSize, row -> new KeysetCursor(row.addedAt(), row.entryId()), this::toLibraryItem))
+                .reviews(toCursorPage(reviews, pageSize, review -> new KeysetCursor(review.getCreatedAt(), review.getReviewId()),
+                        review -> ReviewResponseDTO.from(review, username)))
+                .build();
+    }
+
+    private LibraryItemDTO toLibraryItem(LibraryEntryRow row) {
+        return LibraryItemDTO.builder()
+                .entryId(row.entryId())
+                .addedAt(row.addedAt())
+                .work(WorkSummaryDTO.builder()
+                        .id(row.contentId())
+                        .domain(row.domain() != null ? row.domain().name() : null)
+                        .title(row.masterTitle())
+                        .thumbnail(row.posterImageUrl())
+                        .releaseDate(row.releaseDate() != null ? row.releaseDate().toString() : null)
+                        .build())
+                .build();
+    }
+
+    private <R, T> CursorPageResponse<T> toCursorPage(List<R> rows, int pageSize,
+                                                      Function<R, KeysetCursor> cursorOf,
+                                                      Function<R, T> mapper) {
+        boolean hasNext = rows.size() > pageSize;
+        List<R> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null)
+                .build();
+    }
+}
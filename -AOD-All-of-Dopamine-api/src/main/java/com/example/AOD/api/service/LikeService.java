@@ -6,6 +6,7 @@ import com.example.AOD.domain.ContentLike;
 import com.example.shared.entity.Content;
 import com.example.AOD.repo.ContentLikeRepository;
 import com.example.shared.repository.ContentRepository;
+import com.example.shared.repository.ContentSummary;
 import com.example.AOD.user.model.User;
 import com.example.AOD.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -81,17 +82,22 @@ public class LikeService {
      * 작품의 좋아요/싫어요 통계 조회
      */
     public Map<String, Object> getLikeStats(Long contentId, String username) {
+        Long userId = username != null
+                ? userRepository.findByUsername(username).map(User::getId).orElse(null)
+                : null;
+        return getLikeStatsByUserId(contentId, userId);
+    }
+
+    /**
+     * 작품의 좋아요/싫어요 통계 조회 (이미 확인된 사용자 ID 사용)
+     */
+    public Map<String, Object> getLikeStatsByUserId(Long contentId, Long userId) {
         long likeCount = contentLikeRepository.countLikesByContentId(contentId);
         long dislikeCount = contentLikeRepository.countDislikesByContentId(contentId);
 
         ContentLike.LikeType userLikeType = null;
-        if (username != null) {
-            Content content = contentRepository.findById(contentId).orElse(null);
-            User user = userRepository.findByUsername(username).orElse(null);
-            if (content != null && user != null) {
-                Optional<ContentLike> userLike = contentLikeRepository.findByContentAndUser(content, user);
-                userLikeType = userLike.map(ContentLike::getLikeType).orElse(null);
-            }
+        if (userId != null) {
+            userLikeType = contentLikeRepository.findLikeTypeByContentIdAndUserId(contentId, userId).orElse(null);
         }
 
         return Map.of(
@@ -123,20 +129,11 @@ public class LikeService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found: " + username));
 
-        Page<ContentLike> likePage = contentLikeRepository.findByUserAndLikeType(
+        Page<ContentSummary> likePage = contentLikeRepository.findContentSummariesByUserAndLikeType(
                 user, ContentLike.LikeType.LIKE, pageable);
 
         java.util.List<WorkSummaryDTO> content = likePage.getContent().stream()
-                .map(like -> {
-                    Content c = like.getContent();
-                    return WorkSummaryDTO.builder()
-                            .id(c.getContentId())
-                            .title(c.getMasterTitle())
-                            .thumbnail(c.getPosterImageUrl())
-                            .domain(c.getDomain() != null ? c.getDomain().name() : null)
-                            .releaseDate(c.getReleaseDate() != null ? c.getReleaseDate().toString() : null)
-                            .build();
-                })
+                .map(WorkSummaryDTO::from)
                 .collect(java.util.stream.Collectors.toList());
 
         return PageResponse.<WorkSummaryDTO>builder()
@@ -0,0 +1,61 @@
+package com.example.AOD.api.service;
+
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 플랫폼별 응답에 노출할 PlatformData.attributes 키 목록
+ * - 키 목록은 설정(works.platform-attributes.<플랫폼>=k1,k2)에서 읽음
+ *   기본값은 platform-attributes.properties (크롤러 매핑 규칙의 platform.attributes.* 키 기준)
+ * - 목록에 없는 키(원본 응답 잔여 필드 등)는 상세 응답에 복사하지 않음, 설정이 없는 플랫폼은 노출하지 않음
+ */
+@Component
+@PropertySource("classpath:platform-attributes.properties")
+public class PlatformAttributeWhitelist {
+
+    private final Environment environment;
+    private final Map<String, Set<String>> cache = new ConcurrentHashMap<>();
+
+    public PlatformAttributeWhitelist(Environment environment) {
+        this.environment = environment;
+    }
+
+    public Set<String> allowedKeys(String platformName) {
+        return cache.computeIfAbsent(platformName, p -> {
+            String keys = environment.getProperty("works.platform-attributes." + p);
+            if (keys == null) {
+                return Collections.emptySet();
+            }
+            return Arrays.stream(keys.split(","))
+                    .map(String::trim)
+                    .filter(key -> !key.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        });
+    }
+
+    /**
+     * 허용된 키만 복사 (원본 attributes는 변경하지 않음)
+     */
+    public Map<String, Object> filter(String platformName, Map<String, Object> attributes) {
+        if (attributes == null || attributes.isEmpty()) {
+            return Map.of();
+        }
+        Set<String> allowed = allowedKeys(platformName);
+        Map<String, Object> filtered = new LinkedHashMap<>(allowed.size() * 2);
+        for (String key : allowed) {
+            if (attributes.containsKey(key)) {
+                filtered.put(key, attributes.get(key));
+            }
+        }
+        return filtered;
+    }
+}
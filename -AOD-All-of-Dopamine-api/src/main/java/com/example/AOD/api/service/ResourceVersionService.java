@@ -0,0 +1,73 @@
+package com.example.AOD.api.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 조건부 GET(ETag / Last-Modified)용 리소스 버전 조회
+ * - 본문을 만들기 전에 실행되는 가벼운 조회만 담당
+ * - 작품: contents.updated_at (PK 조회 1회)
+ *   platform_data / 도메인 상세 변경도 트리거(ContentChangeTracking)가 같은 트랜잭션에서 updated_at을 갱신
+ * - 랭킹: ranking_versions (RankingVersionTracking 트리거가 유지하는 플랫폼별 version / updated_at)
+ *   플랫폼별은 PK 조회 1회, 전체/도메인별은 플랫폼 수만큼의 작은 테이블 집계 1회 (external_ranking은 읽지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceVersionService {
+
+    /**
+     * 랭킹 버전
+     * @param version      ETag 값 (변경될 때마다 증가)
+     * @param lastModified 마지막 랭킹 반영(수집) 시각, 아직 랭킹이 없으면 null
+     */
+    public record RankingVersion(long version, Instant lastModified) {}
+
+    private static final String ALL_RANKINGS_VERSION_SELECT =
+            "SELECT COALESCE(sum(version), 0) AS version, max(updated_at) AS updated_at FROM ranking_versions";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 작품 최종 수정 시각 (작품이 없거나 updated_at이 비어 있으면 empty)
+     */
+    public Optional<Instant> getWorkLastModified(Long contentId) {
+        List<Timestamp> rows = jdbcTemplate.queryForList(
+                "SELECT updated_at FROM contents WHERE content_id = ?", Timestamp.class, contentId);
+        if (rows.isEmpty() || rows.get(0) == null) {
+            return Optional.empty();
+        }
+        return Optional.of(rows.get(0).toInstant());
+    }
+
+    public RankingVersion getAllRankingsVersion() {
+        return jdbcTemplate.queryForObject(ALL_RANKINGS_VERSION_SELECT, ResourceVersionService::toRankingVersion);
+    }
+
+    public RankingVersion getPlatformRankingVersion(String platform) {
+        List<RankingVersion> rows = jdbcTemplate.query(
+                "SELECT version, updated_at FROM ranking_versions WHERE platform = ?",
+                ResourceVersionService::toRankingVersion, platform);
+        return rows.isEmpty() ? new RankingVersion(0, null) : rows.get(0);
+    }
+
+    /**
+     * 도메인별 랭킹 버전
+     * - 도메인은 매핑된 작품 기준이라 여러 플랫폼에 걸칠 수 있으므로 전체 버전을 사용 (어느 플랫폼이 바뀌어도 재검증)
+     */
+    public RankingVersion getDomainRankingVersion(String domain) {
+        return getAllRankingsVersion();
+    }
+
+    private static RankingVersion toRankingVersion(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new RankingVersion(rs.getLong("version"), updatedAt != null ? updatedAt.toInstant() : null);
+    }
+}
@@ -1,17 +1,22 @@
 package com.example.AOD.api.service;
 
+import com.example.AOD.api.dto.CursorPageResponse;
+import com.example.AOD.api.dto.KeysetCursor;
 import com.example.AOD.api.dto.PageResponse;
+import com.example.AOD.api.dto.ScoreCursor;
 import com.example.AOD.api.dto.review.ReviewRequest;
 import com.example.AOD.api.dto.review.ReviewResponseDTO;
 import com.example.shared.entity.Content;
 import com.example.AOD.domain.Review;
 import com.example.shared.repository.ContentRepository;
+import com.example.AOD.repo.ReviewFeedRow;
 import com.example.AOD.repo.ReviewRepository;
 import com.example.AOD.user.model.User;
 import com.example.AOD.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,20 +34,19 @@ public class ReviewService {
     private final ContentRepository contentRepository;
     private final UserRepository userRepository;
 
+    private static final int MAX_FEED_SIZE = 50;
+
+    public enum ReviewSort { LATEST, DETAILED }
+
     /**
      * 특정 작품의 리뷰 목록 조회
      */
     public PageResponse<ReviewResponseDTO> getReviewsByContentId(Long contentId, String currentUsername, Pageable pageable) {
-        Page<Review> reviewPage = reviewRepository.findByContentId(contentId, pageable);
-
-        List<ReviewResponseDTO> content = reviewPage.getContent().stream()
-                .map(review -> currentUsername != null 
-                        ? ReviewResponseDTO.from(review, currentUsername)
-                        : ReviewResponseDTO.from(review))
-                .collect(Collectors.toList());
+        Page<ReviewResponseDTO> reviewPage = reviewRepository.findFeedByContentId(contentId, pageable)
+                .map(row -> toResponse(row, currentUsername));
 
         return PageResponse.<ReviewResponseDTO>builder()
-                .content(content)
+                .content(reviewPage.getContent())
                 .page(reviewPage.getNumber())
                 .size(reviewPage.getSize())
                 .totalElements(reviewPage.getTotalElements())
@@ -52,6 +56,64 @@ public class ReviewService {
                 .build();
     }
 
+    /**
+     * 특정 작품의 리뷰 피드 (키셋 페이징)
+     * - latest: 최신순 (created_at DESC, review_id DESC)
+     * - detailed: 자세한 리뷰순 (detail_score DESC, review_id DESC, 본문 길이/제목 기반 점수)
+     * - size+1건 조회로 다음 페이지 여부 판단, OFFSET/COUNT 없음
+     */
+    public CursorPageResponse<ReviewResponseDTO> getReviewFeed(Long contentId, String currentUsername,
+                                                               ReviewSort sort, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewFeedRow> rows;
+        if (sort == ReviewSort.DETAILED) {
+            ScoreCursor at = ScoreCursor.decode(cursor);
+            rows = reviewRepository.findDetailedFeed(contentId, at.score(), at.id(), limit);
+        } else {
+            KeysetCursor at = KeysetCursor.decode(cursor);
+            rows = reviewRepository.findLatestFeed(contentId, at.createdAt(), at.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReviewResponseDTO> page = (hasNext ? rows.subList(0, pageSize) : rows).stream()
+                .map(row -> toResponse(row, currentUsername))
+                .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReviewResponseDTO last = page.get(page.size() - 1);
+            nextCursor = sort == ReviewSort.DETAILED
+                    ? new ScoreCursor(last.getDetailScore(), last.getReviewId()).encode()
+                    : new KeysetCursor(last.getCreatedAt(), last.getReviewId()).encode();
+        }
+
+        return CursorPageResponse.<ReviewResponseDTO>builder()
+                .content(page)
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private ReviewResponseDTO toResponse(ReviewFeedRow row, String currentUsername) {
+        return ReviewResponseDTO.builder()
+                .reviewId(row.reviewId())
+                .contentId(row.contentId())
+                .contentTitle(row.contentTitle())
+                .userId(row.userId())
+                .username(row.username())
+                .rating(row.rating())
+                .title(row.title())
+                .content(row.content())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .detailScore(row.detailScore())
+                .isMyReview(currentUsername != null ? currentUsername.equals(row.username()) : null)
+                .build();
+    }
+
     /**
      * 리뷰 작성
      */
@@ -121,7 +183,7 @@ public class ReviewService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found: " + username));
 
-        Page<Review> reviewPage = reviewRepository.findByUser(user, pageable);
+        Page<Review> reviewPage = reviewRepository.findByUserWithContent(user, pageable);
 
         List<ReviewResponseDTO> content = reviewPage.getContent().stream()
                 .map(review -> ReviewResponseDTO.from(review, username))
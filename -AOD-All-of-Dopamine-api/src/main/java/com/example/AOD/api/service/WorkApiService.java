@@ -1,8 +1,17 @@
 package com.example.AOD.api.service;
 
+import com.example.AOD.api.dto.CountMode;
 import com.example.AOD.api.dto.PageResponse;
 import com.example.AOD.api.dto.WorkResponseDTO;
 import com.example.AOD.api.dto.WorkSummaryDTO;
+import com.example.AOD.api.dto.work.DomainInfoDTO;
+import com.example.AOD.api.dto.work.GameInfoDTO;
+import com.example.AOD.api.dto.work.MovieInfoDTO;
+import com.example.AOD.api.dto.work.PlatformInfoDTO;
+import com.example.AOD.api.dto.work.TvInfoDTO;
+import com.example.AOD.api.dto.work.WebnovelInfoDTO;
+import com.example.AOD.api.dto.work.WebtoonInfoDTO;
+import com.example.AOD.performance.WorkQueryClass;
 import com.example.shared.entity.Content;
 import com.example.shared.entity.*;
 // import com.example.AOD.recommendation.repository.ContentRatingRepository;
@@ -10,8 +19,11 @@ import com.example.shared.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,21 +44,53 @@ public class WorkApiService {
     private final WebtoonContentRepository webtoonContentRepository;
     private final WebnovelContentRepository webnovelContentRepository;
     private final PlatformDataRepository platformDataRepository;
+    private final ContentCountEstimator contentCountEstimator;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformAttributeWhitelist platformAttributeWhitelist;
     // private final ContentRatingRepository contentRatingRepository;
 
+    // ESTIMATED 모드에서 셀 최대 개수
+    @Value("${works.count-cap:1000}")
+    private long countCap;
+
+    // 무거운 조회 형태(HEAVY)의 쿼리별 statement_timeout (0이면 미적용)
+    @Value("${works.heavy-statement-timeout-ms:3000}")
+    private long heavyStatementTimeoutMs;
+
     /**
      * 작품 목록 조회 (필터링, 페이징)
      * - 장르 필터링은 DB 레벨에서 처리 (성능 최적화)
      * - 플랫폼 필터링은 메모리에서 처리 (platform_data 조인 필요)
      */
     public PageResponse<WorkSummaryDTO> getWorks(Domain domain, String keyword, List<String> platforms, List<String> genres, Pageable pageable) {
-        log.debug("getWorks - domain: {}, keyword: {}, platforms: {}, genres: {}, page: {}", 
-                  domain, keyword, platforms, genres, pageable.getPageNumber());
+        return getWorks(domain, keyword, platforms, genres, pageable, CountMode.EXACT);
+    }
+
+    /**
+     * 작품 목록 조회 (개수 계산 방식 선택)
+     * - SLICE: COUNT 쿼리 생략, hasNext만 반환
+     * - ESTIMATED: 상한까지만 COUNT
+     * - 장르 필터링은 메모리에서 페이징하므로 항상 정확한 개수 반환
+     */
+    public PageResponse<WorkSummaryDTO> getWorks(Domain domain, String keyword, List<String> platforms, List<String> genres,
+                                                 Pageable pageable, CountMode countMode) {
+        log.debug("getWorks - domain: {}, keyword: {}, platforms: {}, genres: {}, page: {}, countMode: {}", 
+                  domain, keyword, platforms, genres, pageable.getPageNumber(), countMode);
+
+        // 무거운 조합은 현재 트랜잭션 범위에서만 statement_timeout 적용 (SET LOCAL)
+        if (heavyStatementTimeoutMs > 0
+                && WorkQueryClass.classify(keyword, platforms, genres) == WorkQueryClass.HEAVY) {
+            jdbcTemplate.execute("SET LOCAL statement_timeout = " + heavyStatementTimeoutMs);
+        }
         
         // 장르 필터링이 있는 경우 - DB 레벨에서 처리
         if (genres != null && !genres.isEmpty()) {
             return getWorksByGenresWithDbFiltering(domain, keyword, platforms, genres, pageable);
         }
+
+        if (countMode == CountMode.SLICE || countMode == CountMode.ESTIMATED) {
+            return getWorksWithoutExactCount(domain, keyword, platforms, pageable, countMode);
+        }
         
         // 장르 필터링이 없고 플랫폼 필터링만 있는 경우 - 메모리 필터링
         if (platforms != null && !platforms.isEmpty()) {
@@ -118,24 +162,20 @@ public class WorkApiService {
                     .first(true).last(true).build();
         }
         
-        // Content ID로 Content 조회
-        List<Content> filteredContents = contentRepository.findByContentIdIn(filteredContentIds);
+        // Content ID로 목록용 컬럼만 조회
+        List<ContentSummary> filteredContents = contentRepository.findSummariesByContentIdIn(filteredContentIds);
         
         // 키워드 필터링 (있는 경우)
         if (keyword != null && !keyword.isBlank()) {
             String lowerKeyword = keyword.toLowerCase();
             filteredContents = filteredContents.stream()
-                    .filter(c -> c.getMasterTitle().toLowerCase().contains(lowerKeyword) ||
-                               (c.getOriginalTitle() != null && c.getOriginalTitle().toLowerCase().contains(lowerKeyword)))
+                    .filter(c -> c.masterTitle().toLowerCase().contains(lowerKeyword) ||
+                               (c.originalTitle() != null && c.originalTitle().toLowerCase().contains(lowerKeyword)))
                     .collect(Collectors.toList());
         }
         
         // 플랫폼 필터링 (있는 경우)
-        if (platforms != null && !platforms.isEmpty()) {
-            filteredContents = filteredContents.stream()
-                    .filter(c -> filterByPlatforms(c, platforms))
-                    .collect(Collectors.toList());
-        }
+        filteredContents = filterByPlatformsInBulk(filteredContents, platforms);
         
         // 정렬 및 페이징 적용
         return applyPaginationAndMapping(filteredContents, pageable);
@@ -151,7 +191,7 @@ public class WorkApiService {
                 .map(String::toLowerCase)
                 .collect(Collectors.toList());
         
-        Page<Content> contentPage;
+        Page<ContentSummary> contentPage;
         
         // DB 레벨에서 플랫폼 필터링
         if (keyword != null && !keyword.isBlank()) {
@@ -183,7 +223,7 @@ public class WorkApiService {
      * 필터링 없는 기본 조회
      */
     private PageResponse<WorkSummaryDTO> getWorksWithoutFiltering(Domain domain, String keyword, Pageable pageable) {
-        Page<Content> contentPage;
+        Page<ContentSummary> contentPage;
         if (keyword != null && !keyword.isBlank()) {
             if (domain != null) {
                 contentPage = contentRepository.searchByDomainAndKeyword(domain, keyword, pageable);
@@ -191,9 +231,9 @@ public class WorkApiService {
                 contentPage = contentRepository.searchByKeyword(keyword, pageable);
             }
         } else if (domain != null) {
-            contentPage = contentRepository.findByDomain(domain, pageable);
+            contentPage = contentRepository.findSummariesByDomain(domain, pageable);
         } else {
-            contentPage = contentRepository.findAll(pageable);
+            contentPage = contentRepository.findAllSummaries(pageable);
         }
         
         return PageResponse.<WorkSummaryDTO>builder()
@@ -209,10 +249,75 @@ public class WorkApiService {
                 .build();
     }
     
+    /**
+     * 정확한 COUNT 없이 목록 조회 (SLICE / ESTIMATED 모드)
+     */
+    private PageResponse<WorkSummaryDTO> getWorksWithoutExactCount(Domain domain, String keyword, List<String> platforms,
+                                                                   Pageable pageable, CountMode countMode) {
+        boolean hasKeyword = keyword != null && !keyword.isBlank();
+        List<String> lowerPlatforms = (platforms == null || platforms.isEmpty()) ? null
+                : platforms.stream().map(String::toLowerCase).collect(Collectors.toList());
+
+        Slice<ContentSummary> slice;
+        if (lowerPlatforms != null) {
+            if (hasKeyword) {
+                slice = domain != null
+                        ? contentRepository.findSliceByDomainAndKeywordAndPlatforms(domain, keyword, lowerPlatforms, pageable)
+                        : contentRepository.findSliceByKeywordAndPlatforms(keyword, lowerPlatforms, pageable);
+            } else {
+                slice = domain != null
+                        ? contentRepository.findSliceByDomainAndPlatforms(domain, lowerPlatforms, pageable)
+                        : contentRepository.findSliceByPlatforms(lowerPlatforms, pageable);
+            }
+        } else if (hasKeyword) {
+            slice = domain != null
+                    ? contentRepository.searchSliceByDomainAndKeyword(domain, keyword, pageable)
+                    : contentRepository.searchSliceByKeyword(keyword, pageable);
+        } else {
+            slice = domain != null
+                    ? contentRepository.findSliceByDomain(domain, pageable)
+                    : contentRepository.findAllSlice(pageable);
+        }
+
+        PageResponse.PageResponseBuilder<WorkSummaryDTO> builder = PageResponse.<WorkSummaryDTO>builder()
+                .content(slice.getContent().stream()
+                        .map(this::toWorkSummary)
+                        .collect(Collectors.toList()))
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext());
+
+        if (countMode == CountMode.SLICE) {
+            return builder.totalElements(-1L).totalPages(-1).countMode(CountMode.SLICE).build();
+        }
+
+        // 마지막 페이지라면 COUNT 없이 정확한 개수 계산 가능
+        long total;
+        boolean capped = false;
+        if (!slice.hasNext()) {
+            total = pageable.getOffset() + slice.getNumberOfElements();
+        } else {
+            long counted = contentCountEstimator.countUpTo(domain, hasKeyword ? keyword : null, lowerPlatforms, countCap);
+            capped = counted > countCap;
+            // 상한에 걸린 깊은 페이지: 현재 페이지 + 다음 페이지가 있음을 반영해 totalPages가 현재 페이지보다 작아지지 않도록
+            total = capped
+                    ? Math.max(countCap, pageable.getOffset() + slice.getNumberOfElements() + 1)
+                    : counted;
+        }
+        int totalPages = (int) Math.ceil((double) total / pageable.getPageSize());
+
+        return builder.totalElements(total)
+                .totalPages(totalPages)
+                .countMode(capped ? CountMode.ESTIMATED : CountMode.EXACT)
+                .build();
+    }
+
     /**
      * 정렬 및 페이징 적용 후 DTO 매핑
      */
-    private PageResponse<WorkSummaryDTO> applyPaginationAndMapping(List<Content> contents, Pageable pageable) {
+    private PageResponse<WorkSummaryDTO> applyPaginationAndMapping(List<ContentSummary> contents, Pageable pageable) {
         // 정렬 적용
         if (pageable.getSort().isSorted()) {
             contents = applySorting(contents, pageable.getSort());
@@ -246,23 +351,23 @@ public class WorkApiService {
     /**
      * 정렬 적용 헬퍼 메서드
      */
-    private List<Content> applySorting(List<Content> contents, Sort sort) {
-        Comparator<Content> comparator = null;
+    private List<ContentSummary> applySorting(List<ContentSummary> contents, Sort sort) {
+        Comparator<ContentSummary> comparator = null;
         
         for (Sort.Order order : sort) {
-            Comparator<Content> orderComparator = null;
+            Comparator<ContentSummary> orderComparator = null;
             
             switch (order.getProperty()) {
                 case "masterTitle":
-                    orderComparator = Comparator.comparing(Content::getMasterTitle, 
+                    orderComparator = Comparator.comparing(ContentSummary::masterTitle, 
                             Comparator.nullsLast(String::compareTo));
                     break;
                 case "releaseDate":
-                    orderComparator = Comparator.comparing(Content::getReleaseDate,
+                    orderComparator = Comparator.comparing(ContentSummary::releaseDate,
                             Comparator.nullsLast(LocalDate::compareTo));
                     break;
                 default:
-                    orderComparator = Comparator.comparing(Content::getContentId);
+                    orderComparator = Comparator.comparing(ContentSummary::contentId);
             }
             
             if (order.getDirection() == Sort.Direction.DESC) {
@@ -284,7 +389,7 @@ public class WorkApiService {
      */
     public WorkResponseDTO getWorkDetail(Long contentId) {
         Content content = contentRepository.findById(contentId)
-                .orElseThrow(() -> new RuntimeException("Content not found: " + contentId));
+                .orElseThrow(() -> new ContentNotFoundException(contentId));
 
         WorkResponseDTO dto = WorkResponseDTO.builder()
                 .id(content.getContentId())
@@ -301,7 +406,7 @@ public class WorkApiService {
         dto.setDomainInfo(getDomainInfo(content));
 
         // 플랫폼별 정보 추가
-        dto.setPlatformInfo(getPlatformInfo(contentId));
+        dto.setPlatformInfo(getPlatformInfo(content));
 
         return dto;
     }
@@ -309,15 +414,10 @@ public class WorkApiService {
     /**
      * WorkSummaryDTO 변환
      */
-    private WorkSummaryDTO toWorkSummary(Content content) {
-        return WorkSummaryDTO.builder()
-                .id(content.getContentId())
-                .domain(content.getDomain().name())
-                .title(content.getMasterTitle())
-                .thumbnail(content.getPosterImageUrl())
-                .score(calculateAverageScore(content.getContentId()))
-                .releaseDate(content.getReleaseDate() != null ? content.getReleaseDate().toString() : null)
-                .build();
+    private WorkSummaryDTO toWorkSummary(ContentSummary content) {
+        WorkSummaryDTO dto = WorkSummaryDTO.from(content);
+        dto.setScore(calculateAverageScore(content.contentId()));
+        return dto;
     }
 
     /**
@@ -337,95 +437,47 @@ public class WorkApiService {
     /**
      * 도메인별 상세 정보 추출
      */
-    private Map<String, Object> getDomainInfo(Content content) {
-        Map<String, Object> info = new HashMap<>();
-        Domain domain = content.getDomain();
-
-        switch (domain) {
-            case MOVIE:
-                movieContentRepository.findById(content.getContentId()).ifPresent(movie -> {
-                    if (movie.getGenres() != null) info.put("genres", movie.getGenres());
-                    info.put("runtime", movie.getRuntime());
-                    if (movie.getDirectors() != null) info.put("directors", movie.getDirectors());
-                    if (movie.getCast() != null) info.put("cast", movie.getCast());
-                    if (movie.getContent().getReleaseDate() != null) {
-                        info.put("releaseDate", movie.getContent().getReleaseDate().toString());
-                    }
-                });
-                break;
-            case TV:
-                tvContentRepository.findById(content.getContentId()).ifPresent(tv -> {
-                    if (tv.getGenres() != null) info.put("genres", tv.getGenres());
-                    info.put("seasonCount", tv.getSeasonCount());
-                    info.put("episodeRuntime", tv.getEpisodeRuntime());
-                    if (tv.getCast() != null) info.put("cast", tv.getCast());
-                    if (tv.getContent().getReleaseDate() != null) {
-                        info.put("firstAirDate", tv.getContent().getReleaseDate().toString());
-                    }
-                });
-                break;
-            case GAME:
-                gameContentRepository.findById(content.getContentId()).ifPresent(game -> {
-                    info.put("developer", game.getDeveloper());
-                    info.put("publisher", game.getPublisher());
-                    if (game.getGenres() != null) info.put("genres", game.getGenres());
-                    if (game.getPlatforms() != null) info.putAll(game.getPlatforms());
-                    if (game.getContent().getReleaseDate() != null) {
-                        info.put("releaseDate", game.getContent().getReleaseDate().toString());
-                    }
-                });
-                break;
-            case WEBTOON:
-                webtoonContentRepository.findById(content.getContentId()).ifPresent(webtoon -> {
-                    info.put("author", webtoon.getAuthor());
-                    info.put("status", webtoon.getStatus());
-                    info.put("weekday", webtoon.getWeekday());
-                    if (webtoon.getGenres() != null) {
-                        info.put("genres", webtoon.getGenres());
-                    }
-                });
-                // releaseDate는 Content에서 가져옴
-                if (content.getReleaseDate() != null) {
-                    info.put("releaseDate", content.getReleaseDate().toString());
-                }
-                break;
-            case WEBNOVEL:
-                webnovelContentRepository.findById(content.getContentId()).ifPresent(novel -> {
-                    info.put("author", novel.getAuthor());
-                    info.put("publisher", novel.getPublisher());
-                    info.put("ageRating", novel.getAgeRating());
-                    if (novel.getGenres() != null) {
-                        info.put("genres", novel.getGenres());
-                    }
-                    if (novel.getContent().getReleaseDate() != null) {
-                        info.put("startedAt", novel.getContent().getReleaseDate().toString());
-                    }
-                });
-                break;
-        }
-
-        return info;
+    private DomainInfoDTO getDomainInfo(Content content) {
+        // 도메인 상세 행이 없으면 빈 정보 (null 필드는 출력하지 않으므로 {}, 웹툰은 releaseDate만)
+        String releaseDate = content.getReleaseDate() != null ? content.getReleaseDate().toString() : null;
+
+        return switch (content.getDomain()) {
+            case MOVIE -> movieContentRepository.findById(content.getContentId())
+                    .map(movie -> (DomainInfoDTO) new MovieInfoDTO(
+                            movie.getGenres(), movie.getRuntime(), movie.getDirectors(), movie.getCast(), releaseDate))
+                    .orElseGet(() -> new MovieInfoDTO(null, null, null, null, null));
+            case TV -> tvContentRepository.findById(content.getContentId())
+                    .map(tv -> (DomainInfoDTO) new TvInfoDTO(
+                            tv.getGenres(), tv.getSeasonCount(), tv.getEpisodeRuntime(), tv.getCast(), releaseDate))
+                    .orElseGet(() -> new TvInfoDTO(null, null, null, null, null));
+            case GAME -> gameContentRepository.findById(content.getContentId())
+                    .map(game -> (DomainInfoDTO) new GameInfoDTO(
+                            game.getDeveloper(), game.getPublisher(), game.getGenres(), releaseDate, game.getPlatforms()))
+                    .orElseGet(() -> new GameInfoDTO(null, null, null, null, null));
+            case WEBTOON -> webtoonContentRepository.findById(content.getContentId())
+                    .map(webtoon -> (DomainInfoDTO) new WebtoonInfoDTO(
+                            webtoon.getAuthor(), webtoon.getStatus(), webtoon.getWeekday(), webtoon.getGenres(), releaseDate))
+                    // releaseDate는 Content에서 가져옴 (웹툰 상세가 없어도 출력)
+                    .orElseGet(() -> new WebtoonInfoDTO(null, null, null, null, releaseDate));
+            case WEBNOVEL -> webnovelContentRepository.findById(content.getContentId())
+                    .map(novel -> (DomainInfoDTO) new WebnovelInfoDTO(
+                            novel.getAuthor(), novel.getPublisher(), novel.getAgeRating(), novel.getGenres(), releaseDate))
+                    .orElseGet(() -> new WebnovelInfoDTO(null, null, null, null, null));
+        };
     }
 
     /**
      * 플랫폼별 정보 추출
      */
-    private Map<String, Map<String, Object>> getPlatformInfo(Long contentId) {
-        Map<String, Map<String, Object>> platformInfo = new HashMap<>();
-
-        Content content = contentRepository.findById(contentId).orElse(null);
-        if (content == null) return platformInfo;
-
+    private Map<String, PlatformInfoDTO> getPlatformInfo(Content content) {
         List<PlatformData> platformDataList = platformDataRepository.findByContent(content);
+        Map<String, PlatformInfoDTO> platformInfo = new HashMap<>(platformDataList.size() * 2);
 
         for (PlatformData pd : platformDataList) {
-            Map<String, Object> info = new HashMap<>();
-            info.put("url", pd.getUrl());
-            info.put("platformSpecificId", pd.getPlatformSpecificId());
-            if (pd.getAttributes() != null) {
-                info.putAll(pd.getAttributes());
-            }
-            platformInfo.put(pd.getPlatformName(), info);
+            platformInfo.put(pd.getPlatformName(), new PlatformInfoDTO(
+                    pd.getUrl(),
+                    pd.getPlatformSpecificId(),
+                    platformAttributeWhitelist.filter(pd.getPlatformName(), pd.getAttributes())));
         }
 
         return platformInfo;
@@ -438,7 +490,7 @@ public class WorkApiService {
         LocalDate now = LocalDate.now();
         LocalDate threeMonthsAgo = now.minusMonths(3);
         
-        List<Content> allContent;
+        List<ContentSummary> allContent;
         if (domain != null) {
             allContent = contentRepository.findReleasesInDateRange(domain, threeMonthsAgo, now, Pageable.unpaged()).getContent();
         } else {
@@ -446,9 +498,7 @@ public class WorkApiService {
         }
 
         // 플랫폼 필터링
-        List<Content> filteredContent = allContent.stream()
-                .filter(c -> filterByPlatforms(c, platforms))
-                .collect(Collectors.toList());
+        List<ContentSummary> filteredContent = filterByPlatformsInBulk(allContent, platforms);
 
         // 수동 페이징
         int start = (int) pageable.getOffset();
@@ -481,7 +531,7 @@ public class WorkApiService {
     public PageResponse<WorkSummaryDTO> getUpcomingReleases(Domain domain, List<String> platforms, Pageable pageable) {
         LocalDate now = LocalDate.now();
         
-        List<Content> allContent;
+        List<ContentSummary> allContent;
         if (domain != null) {
             allContent = contentRepository.findUpcomingReleases(domain, now, Pageable.unpaged()).getContent();
         } else {
@@ -489,9 +539,7 @@ public class WorkApiService {
         }
 
         // 플랫폼 필터링
-        List<Content> filteredContent = allContent.stream()
-                .filter(c -> filterByPlatforms(c, platforms))
-                .collect(Collectors.toList());
+        List<ContentSummary> filteredContent = filterByPlatformsInBulk(allContent, platforms);
 
         // 수동 페이징
         int start = (int) pageable.getOffset();
@@ -518,6 +566,27 @@ public class WorkApiService {
                 .build();
     }
 
+    /**
+     * 플랫폼 필터링 (복수 플랫폼 지원, 단일 쿼리로 일괄 확인)
+     */
+    private List<ContentSummary> filterByPlatformsInBulk(List<ContentSummary> contents, List<String> platforms) {
+        if (platforms == null || platforms.isEmpty() || contents.isEmpty()) {
+            return contents; // 필터링 없음
+        }
+
+        List<String> lowerPlatforms = platforms.stream()
+                .map(String::toLowerCase)
+                .collect(Collectors.toList());
+        List<Long> contentIds = contents.stream()
+                .map(ContentSummary::contentId)
+                .collect(Collectors.toList());
+
+        Set<Long> matched = new HashSet<>(platformDataRepository.findContentIdsByPlatforms(contentIds, lowerPlatforms));
+        return contents.stream()
+                .filter(c -> matched.contains(c.contentId()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 플랫폼 필터링 헬퍼 메서드 (복수 플랫폼 지원)
      * @deprecated DB 레벨 필터링 사용 - findByPlatforms in ContentRepository
@@ -0,0 +1,252 @@
+package com.example.AOD.api.service;
+
+import com.example.AOD.api.dto.PageResponse;
+import com.example.AOD.api.dto.WorkPageResponseDTO;
+import com.example.AOD.api.dto.WorkResponseDTO;
+import com.example.AOD.api.dto.review.ReviewResponseDTO;
+import com.example.AOD.config.DbAdmission;
+import com.example.AOD.user.model.User;
+import com.example.AOD.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 작품 페이지 통합 조회 서비스
+ * - 상세, 좋아요 통계, 북마크 여부, 첫 리뷰 페이지를 apiTaskExecutor에서 동시에 조회
+ * - 사용자 조회는 요청당 한 번만 수행하고 컨텍스트로 공유
+ * - 항목별 타임아웃, 실패한 항목은 errors에 기록하고 나머지는 그대로 반환 (작품이 없으면 ContentNotFoundException)
+ * - 타임아웃된 항목은 작업도 취소 (시작 전이면 건너뛰고, 실행 중이면 인터럽트)
+ *   + 항목마다 읽기 전용 트랜잭션 타임아웃을 걸어 JDBC 쿼리 자체도 제한 시간에 끊기도록 함
+ * - DB 입장 제한(DbAdmission)이 켜져 있으면 병렬 항목 수만큼 슬롯을 추가로 확보 (요청 슬롯 1개 + 3개)
+ *   → 확보하지 못하면 기다리지 않고 요청 스레드에서 순서대로 조회 (커넥션 1개)
+ */
+@Slf4j
+@Service
+public class WorkPageService {
+
+    private final WorkApiService workApiService;
+    private final LikeService likeService;
+    private final BookmarkService bookmarkService;
+    private final ReviewService reviewService;
+    private final UserRepository userRepository;
+    private final Executor apiTaskExecutor;
+    private final ObjectProvider<DbAdmission> dbAdmission;
+    private final TransactionTemplate partTransaction;
+    private final long partTimeoutMs;
+
+    /** 병렬 조회 항목 수 (상세, 좋아요, 북마크, 리뷰) */
+    private static final int PARTS = 4;
+
+    public WorkPageService(WorkApiService workApiService,
+                           LikeService likeService,
+                           BookmarkService bookmarkService,
+                           ReviewService reviewService,
+                           UserRepository userRepository,
+                           @Qualifier("apiTaskExecutor") Executor apiTaskExecutor,
+                           ObjectProvider<DbAdmission> dbAdmission,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${work-page.part-timeout-ms:2000}") long partTimeoutMs) {
+        this.workApiService = workApiService;
+        this.likeService = likeService;
+        this.bookmarkService = bookmarkService;
+        this.reviewService = reviewService;
+        this.userRepository = userRepository;
+        this.apiTaskExecutor = apiTaskExecutor;
+        this.dbAdmission = dbAdmission;
+        this.partTimeoutMs = partTimeoutMs;
+
+        // 트랜잭션 타임아웃은 초 단위 → 항목 타임아웃을 올림 (JDBC/JPA 쿼리 타임아웃으로 적용됨)
+        this.partTransaction = new TransactionTemplate(transactionManager);
+        this.partTransaction.setReadOnly(true);
+        this.partTransaction.setTimeout((int) Math.max(1, (partTimeoutMs + 999) / 1000));
+    }
+
+    /**
+     * 요청 단위 공유 컨텍스트 (사용자 조회 1회)
+     */
+    public record WorkPageContext(Long contentId, String username, Long userId) {
+    }
+
+    /**
+     * @throws ContentNotFoundException 작품이 없을 때
+     */
+    public WorkPageResponseDTO getWorkPage(Long contentId, String username, int reviewSize) {
+        Long userId = username != null
+                ? userRepository.findByUsername(username).map(User::getId).orElse(null)
+                : null;
+        WorkPageContext ctx = new WorkPageContext(contentId, username, userId);
+
+        Map<String, String> errors = new LinkedHashMap<>();
+        FanOut fanOut = openFanOut();
+
+        CompletableFuture<WorkResponseDTO> detail = load(fanOut, () -> workApiService.getWorkDetail(ctx.contentId()));
+        CompletableFuture<Map<String, Object>> likeStats = load(fanOut, () -> likeService.getLikeStatsByUserId(ctx.contentId(), ctx.userId()));
+        CompletableFuture<Map<String, Object>> bookmark = load(fanOut, () -> bookmarkService.getBookmarkStatusByUserId(ctx.contentId(), ctx.userId()));
+        CompletableFuture<PageResponse<ReviewResponseDTO>> reviews = load(fanOut, () -> reviewService.getReviewsByContentId(ctx.contentId(), ctx.username(),
+                        PageRequest.of(0, reviewSize, Sort.by(Sort.Direction.DESC, "createdAt"))));
+
+        return WorkPageResponseDTO.builder()
+                .detail(join("detail", detail, errors))
+                .likeStats(join("likeStats", likeStats, errors))
+                .bookmark(join("bookmark", bookmark, errors))
+                .reviews(join("reviews", reviews, errors))
+                .errors(errors)
+                .build();
+    }
+
+    /**
+     * 병렬 실행 여부 결정 (입장 제한이 꺼져 있으면 항상 병렬)
+     */
+    private FanOut openFanOut() {
+        DbAdmission admission = dbAdmission.getIfAvailable();
+        if (admission == null) {
+            return new FanOut(true, null);
+        }
+        if (admission.tryAcquire(PARTS - 1)) {
+            return new FanOut(true, admission);
+        }
+        log.debug("DB 입장 슬롯 부족 - 작품 페이지 항목을 순차 조회");
+        return new FanOut(false, null);
+    }
+
+    private <T> CompletableFuture<T> load(FanOut fanOut, Supplier<T> loader) {
+        Supplier<T> timed = () -> partTransaction.execute(status -> loader.get());
+        if (!fanOut.parallel()) {
+            try {
+                return CompletableFuture.completedFuture(timed.get());
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+
+        PartTask<T> task = new PartTask<>(timed);
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return task.run();
+                } finally {
+                    fanOut.partDone();
+                }
+            }, apiTaskExecutor);
+        } catch (RuntimeException e) {
+            // 실행기에서 거부되면 이 항목은 시작하지 않았으므로 바로 완료 처리
+            fanOut.partDone();
+            return CompletableFuture.failedFuture(e);
+        }
+        return future.orTimeout(partTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    if (error instanceof TimeoutException) {
+                        task.cancel();
+                    }
+                });
+    }
+
+    private <T> T join(String part, CompletableFuture<T> future, Map<String, String> errors) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof ContentNotFoundException notFound) {
+                throw notFound;
+            }
+            if (cause instanceof TimeoutException) {
+                log.warn("작품 페이지 항목 시간 초과: {} ({}ms)", part, partTimeoutMs);
+                errors.put(part, "timeout");
+            } else {
+                log.warn("작품 페이지 항목 조회 실패: {} - {}", part, cause.getMessage());
+                errors.put(part, cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 취소 가능한 항목 작업
+     * - 취소 후에는 시작하지 않음, 실행 중이면 실행 스레드를 인터럽트
+     * - 끝나면 인터럽트 플래그를 지워 풀 스레드의 다음 작업에 영향이 없도록 함
+     */
+    private static final class PartTask<T> {
+        private final Supplier<T> loader;
+        private Thread runner;
+        private boolean cancelled;
+
+        private PartTask(Supplier<T> loader) {
+            this.loader = loader;
+        }
+
+        private T run() {
+            if (!start()) {
+                throw new CancellationException("시간 초과로 취소됨");
+            }
+            try {
+                return loader.get();
+            } finally {
+                finish();
+            }
+        }
+
+        private synchronized boolean start() {
+            if (cancelled) {
+                return false;
+            }
+            runner = Thread.currentThread();
+            return true;
+        }
+
+        private synchronized void finish() {
+            runner = null;
+            Thread.interrupted();
+        }
+
+        private synchronized void cancel() {
+            cancelled = true;
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+
+    /**
+     * 요청 하나의 병렬 조회 상태
+     * - 추가로 확보한 입장 슬롯은 타임아웃과 무관하게 모든 항목 작업이 실제로 끝난 뒤 반환 (커넥션 점유 기간과 일치)
+     */
+    private static final class FanOut {
+        private final boolean parallel;
+        private final DbAdmission admission;
+        private final AtomicInteger remaining = new AtomicInteger(PARTS);
+
+        private FanOut(boolean parallel, DbAdmission admission) {
+            this.parallel = parallel;
+            this.admission = admission;
+        }
+
+        private boolean parallel() {
+            return parallel;
+        }
+
+        private void partDone() {
+            if (remaining.decrementAndGet() == 0 && admission != null) {
+                admission.release(PARTS - 1);
+            }
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.example.AOD.config;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -15,14 +19,21 @@ import java.util.concurrent.ThreadPoolExecutor;
 /**
  * 비동기 작업(@Async) 스레드 풀 설정
  * - 크롤링 작업용 전용 Executor 제공
+ * - API 응답 조합(fan-out)용 Executor 제공
  * - ThreadLocal 메모리 누수 방지
  * - 예외 처리 통합 관리
+ * - spring.threads.virtual.enabled=true (JDK 21+)이면 API Executor와 기본 @Async Executor는 가상 스레드 사용
  */
 @Slf4j
 @Configuration
 @EnableAsync
+@RequiredArgsConstructor
 public class AsyncConfig implements AsyncConfigurer {
 
+    private static final int API_CONCURRENCY = 8;
+
+    private final Environment environment;
+
     /**
      * 크롤링 전용 ThreadPoolTaskExecutor
      * - 기본 SimpleAsyncTaskExecutor 대신 스레드풀 재사용
@@ -61,11 +72,61 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * API 조회 병렬 처리 전용 ThreadPoolTaskExecutor
+     * - 작품 페이지처럼 여러 조회를 한 번에 묶는 응답에서 사용
+     * - 각 작업이 DB 커넥션을 하나씩 쓰므로 Hikari 풀 크기보다 작게 유지
+     * - 가상 스레드 모드: 작업마다 가상 스레드 생성, 동시 실행 수만 제한 (초과분은 블로킹 대기)
+     */
+    @Bean(name = "apiTaskExecutor")
+    public Executor apiTaskExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Api-Virtual-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(API_CONCURRENCY);
+            executor.setTaskTerminationTimeout(10_000);
+
+            log.info("API TaskExecutor 초기화 완료 - 가상 스레드, 동시 실행 제한: {}", API_CONCURRENCY);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(API_CONCURRENCY);
+        executor.setMaxPoolSize(API_CONCURRENCY);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("Api-Async-");
+
+        // 큐가 가득 찰 때 정책: 요청 스레드에서 직접 실행 (부하 시 자연스럽게 직렬화)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+
+        executor.initialize();
+
+        log.info("API TaskExecutor 초기화 완료 - Core: {}, Max: {}, Queue: {}",
+            executor.getCorePoolSize(),
+            executor.getMaxPoolSize(),
+            executor.getQueueCapacity());
+
+        return executor;
+    }
+
     /**
      * 기본 Executor 설정 (명시적으로 executor 지정하지 않은 @Async)
+     * - 가상 스레드 모드: 작업마다 가상 스레드 (DB 동시성은 db.admission 리미터가 제한)
+     * - 그 외: crawlerTaskExecutor 스레드풀
      */
     @Override
     public Executor getAsyncExecutor() {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-Virtual-");
+            executor.setVirtualThreads(true);
+
+            log.info("기본 @Async Executor 초기화 완료 - 가상 스레드");
+            return executor;
+        }
         return crawlerTaskExecutor();
     }
 
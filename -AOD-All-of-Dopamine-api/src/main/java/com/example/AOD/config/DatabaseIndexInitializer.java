@@ -1,5 +1,8 @@
 package com.example.AOD.config;
 
+import com.example.AOD.domain.Review;
+import com.example.shared.schema.ContentChangeTracking;
+import com.example.shared.schema.RankingVersionTracking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -45,11 +48,103 @@ public class DatabaseIndexInitializer {
             log.error("❌ Failed to ensure genre indexes: {}", e.getMessage(), e);
         }
     }
+
+    /**
+     * 내 보관함 키셋 페이징용 인덱스 (user_id, created_at DESC, id DESC)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureLibraryIndexes() {
+        ensureIndexExists("content_likes", "idx_content_likes_user_created",
+                "(user_id, created_at DESC, like_id DESC)");
+        ensureIndexExists("bookmarks", "idx_bookmarks_user_created",
+                "(user_id, created_at DESC, bookmark_id DESC)");
+        ensureIndexExists("reviews", "idx_reviews_user_created",
+                "(user_id, created_at DESC, review_id DESC)");
+    }
+
+    /**
+     * 작품별 리뷰 피드용 컬럼/인덱스
+     * - detail_score 생성 컬럼이 없으면 추가 (식은 Review.DETAIL_SCORE_EXPRESSION, 기존 행도 DB가 계산)
+     *   이전 helpfulness_score 컬럼(애플리케이션 계산)은 제거
+     * - 최신순 (content_id, created_at DESC, review_id DESC), 자세한 리뷰순 (content_id, detail_score DESC, review_id DESC)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureReviewFeedIndexes() {
+        try {
+            Boolean tableExists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT FROM information_schema.tables " +
+                "WHERE table_schema = 'public' AND table_name = 'reviews')",
+                Boolean.class
+            );
+            if (!Boolean.TRUE.equals(tableExists)) {
+                return;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE reviews DROP COLUMN IF EXISTS helpfulness_score");
+            Boolean columnExists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT FROM information_schema.columns " +
+                "WHERE table_schema = 'public' AND table_name = 'reviews' AND column_name = 'detail_score')",
+                Boolean.class
+            );
+            if (!Boolean.TRUE.equals(columnExists)) {
+                jdbcTemplate.execute("ALTER TABLE reviews ADD COLUMN detail_score double precision " +
+                        "GENERATED ALWAYS AS (" + Review.DETAIL_SCORE_EXPRESSION + ") STORED");
+                log.info("  ✓ Added reviews.detail_score generated column");
+            }
+        } catch (Exception e) {
+            log.warn("  ⚠ Failed to ensure reviews.detail_score: {}", e.getMessage());
+        }
+
+        ensureIndexExists("reviews", "idx_reviews_content_created",
+                "(content_id, created_at DESC, review_id DESC)");
+        ensureIndexExists("reviews", "idx_reviews_content_detail",
+                "(content_id, detail_score DESC, review_id DESC)");
+    }
     
     /**
-     * 인덱스 존재 여부 확인 후 없으면 생성
+     * 작품 변경 추적 / 변경 피드 스키마 (ContentChangeTracking)
+     * - platform_data / 도메인 상세 변경 시 contents.updated_at 갱신 → 상세 ETag/Last-Modified에 반영
+     * - contents / content_tombstones의 change_txid (커밋 순서 워터마크), 삭제 시 tombstone 기록
+     * - contents (updated_at): ISO 시각 since를 change_txid 시작 위치로 변환할 때 사용
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureChangeFeedSchema() {
+        ensureIndexExists("contents", "idx_contents_updated_at_id", "(updated_at, content_id)");
+
+        try {
+            ContentChangeTracking.install(jdbcTemplate);
+            log.info("✅ Content change tracking / change feed schema verified");
+        } catch (Exception e) {
+            log.warn("  ⚠ Failed to ensure change feed schema: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 랭킹 버전 추적 (RankingVersionTracking)
+     * - 랭킹 조건부 GET의 ETag / Last-Modified를 ranking_versions PK 조회 1회로 계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRankingVersionTracking() {
+        try {
+            RankingVersionTracking.install(jdbcTemplate);
+            log.info("✅ Ranking version tracking verified");
+        } catch (Exception e) {
+            log.warn("  ⚠ Failed to ensure ranking version tracking: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * genres 컬럼 GIN 인덱스
      */
     private void ensureIndexExists(String tableName, String indexName) {
+        ensureIndexExists(tableName, indexName, "USING GIN (genres)");
+    }
+
+    /**
+     * 인덱스 존재 여부 확인 후 없으면 생성
+     * @param definition 인덱스 정의 (예: "USING GIN (genres)", "(user_id, created_at DESC)")
+     */
+    private void ensureIndexExists(String tableName, String indexName, String definition) {
         try {
             // 1. 테이블 존재 여부 확인
             Boolean tableExists = jdbcTemplate.queryForObject(
@@ -86,11 +181,11 @@ public class DatabaseIndexInitializer {
             
             // 3. 인덱스 생성 (CREATE INDEX IF NOT EXISTS는 PostgreSQL 9.5+에서 지원)
             String sql = String.format(
-                "CREATE INDEX IF NOT EXISTS %s ON %s USING GIN (genres)",
-                indexName, tableName
+                "CREATE INDEX IF NOT EXISTS %s ON %s %s",
+                indexName, tableName, definition
             );
             jdbcTemplate.execute(sql);
-            log.info("  ✓ Created GIN index: {} on {} (text[] array)", indexName, tableName);
+            log.info("  ✓ Created index: {} on {} {}", indexName, tableName, definition);
             
         } catch (Exception e) {
             log.warn("  ⚠ Failed to ensure index {} on {}: {}", 
@@ -0,0 +1,64 @@
+package com.example.AOD.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DB 입장 슬롯 (가상 스레드 모드용)
+ * - Hikari 풀 크기만큼의 공정 세마포어, 슬롯 1개 = 동시에 쓸 수 있는 커넥션 1개
+ * - 요청 입장은 DbAdmissionFilter, 요청 안에서 커넥션을 더 쓰는 병렬 조회(WorkPageService)는 추가 슬롯을 직접 확보
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true")
+public class DbAdmission {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMs;
+
+    public DbAdmission(@Value("${db.admission.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int maxPermits,
+                       @Value("${db.admission.acquire-timeout-ms:3000}") long acquireTimeoutMs,
+                       MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxPermits, true);
+        this.acquireTimeoutMs = acquireTimeoutMs;
+
+        Gauge.builder("db.admission.available", permits, Semaphore::availablePermits)
+                .description("DB 입장 가능 슬롯 수")
+                .register(meterRegistry);
+        Gauge.builder("db.admission.waiting", permits, Semaphore::getQueueLength)
+                .description("DB 입장 대기 중인 요청 수")
+                .register(meterRegistry);
+
+        log.info("DB 입장 제한 활성화 - permits: {}, timeout: {}ms", maxPermits, acquireTimeoutMs);
+    }
+
+    /**
+     * 슬롯 1개를 acquire-timeout-ms까지 기다려 확보
+     */
+    public boolean acquire() {
+        try {
+            return permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 추가 슬롯을 기다리지 않고 확보 (모자라면 false, 하나도 가져가지 않음)
+     */
+    public boolean tryAcquire(int count) {
+        return permits.tryAcquire(count);
+    }
+
+    public void release(int count) {
+        permits.release(count);
+    }
+}
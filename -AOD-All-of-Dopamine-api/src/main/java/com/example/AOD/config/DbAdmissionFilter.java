@@ -0,0 +1,97 @@
+package com.example.AOD.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DB 입장 제한 필터 (가상 스레드 모드용)
+ * - 요청 스레드가 사실상 무제한(가상 스레드)이 되면 실제 동시성은 Hikari 풀이 결정
+ * - 풀 크기만큼의 슬롯(DbAdmission)으로 /api 요청을 입장시키고, 나머지는 값싼 가상 스레드 상태로 대기
+ * - 대기 시간을 넘기면 커넥션 타임아웃까지 기다리지 않고 503 + Retry-After로 즉시 응답
+ * - 비동기/스트리밍 응답(NDJSON 피드/내보내기)은 디스패치가 아니라 비동기 처리 완료 시 슬롯 반환
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@ConditionalOnProperty(name = "db.admission.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class DbAdmissionFilter extends OncePerRequestFilter {
+
+    private final DbAdmission admission;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!admission.acquire()) {
+            log.warn("⚠️ DB 입장 대기 시간 초과 - {} {}", request.getMethod(), request.getRequestURI());
+            response.setStatus(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            response.setHeader("Retry-After", "1");
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            response.getWriter().write("{\"error\":\"서버가 혼잡합니다. 잠시 후 다시 시도해주세요.\"}");
+            return;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (released.compareAndSet(false, true)) {
+                admission.release(1);
+            }
+        };
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                request.getAsyncContext().addListener(new ReleaseOnComplete(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    /**
+     * 비동기 처리가 끝나면(완료/오류/타임아웃) 슬롯 반환
+     */
+    private record ReleaseOnComplete(Runnable release) implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // 재디스패치 후 다시 비동기로 들어가면 같은 리스너를 새 AsyncContext에 다시 등록
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
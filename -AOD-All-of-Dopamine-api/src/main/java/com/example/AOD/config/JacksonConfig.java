@@ -0,0 +1,21 @@
+package com.example.AOD.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 직렬화 설정
+ * - Blackbird: getter/생성자 호출을 LambdaMetafactory로 생성해 반사 호출 비용 제거
+ *   (Spring Boot가 Module 빈을 기본 ObjectMapper에 자동 등록)
+ * - 효과 측정: src/jmh/java WorkSerializationBenchmark
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
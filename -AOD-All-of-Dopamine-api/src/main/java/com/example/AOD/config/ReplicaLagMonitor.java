@@ -0,0 +1,77 @@
+package com.example.AOD.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 지연(lag) 감시
+ * - 주기적으로 복제본에서 마지막 재생 트랜잭션 이후 경과 시간을 조회
+ * - 지연이 임계값을 넘거나 조회에 실패하면 읽기 전용 트랜잭션도 primary로 보냄
+ *
+ * Micrometer:
+ * - db.replica.lag.seconds (조회 실패 시 -1)
+ * - db.replica.healthy (1: 복제본 사용, 0: primary로 대체)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    // WAL 수신/재생 위치가 같으면 따라잡은 상태 → 0, 아니면 마지막 재생 트랜잭션 이후 경과 시간
+    private static final String LAG_SQL =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final double maxLagSeconds;
+
+    private volatile double lagSeconds = -1;
+    private volatile boolean healthy = false;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagMs, MeterRegistry meterRegistry) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.replicaJdbcTemplate.setQueryTimeout(2);
+        this.maxLagSeconds = maxLagMs / 1000.0;
+
+        Gauge.builder("db.replica.lag.seconds", this, ReplicaLagMonitor::getLagSeconds)
+                .description("읽기 복제본 복제 지연 (초, 조회 실패 시 -1)")
+                .register(meterRegistry);
+        Gauge.builder("db.replica.healthy", this, m -> m.isHealthy() ? 1 : 0)
+                .description("읽기 복제본 라우팅 사용 여부")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:5000}",
+               initialDelay = 0)
+    public void checkLag() {
+        boolean wasHealthy = healthy;
+        try {
+            Double lag = replicaJdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            lagSeconds = lag != null ? lag : 0;
+            healthy = lagSeconds <= maxLagSeconds;
+        } catch (Exception e) {
+            lagSeconds = -1;
+            healthy = false;
+            log.debug("Replica lag check failed: {}", e.getMessage());
+        }
+
+        if (wasHealthy != healthy) {
+            if (healthy) {
+                log.info("✅ 읽기 복제본 사용 재개 - lag: {}s", lagSeconds);
+            } else {
+                log.warn("⚠️ 읽기 복제본 제외 (primary로 대체) - lag: {}s, 임계값: {}s", lagSeconds, maxLagSeconds);
+            }
+        }
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public double getLagSeconds() {
+        return lagSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.AOD.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 스트리밍 응답(StreamingResponseBody) 설정
+ * - 전체 카탈로그 내보내기처럼 오래 걸리는 NDJSON 스트림이 컨테이너 기본 비동기 타임아웃(30초)에 끊기지 않도록 연장
+ */
+@Configuration
+public class StreamingConfig implements WebMvcConfigurer {
+
+    @Value("${streaming.async-timeout-ms:600000}")
+    private long asyncTimeoutMs;
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(asyncTimeoutMs);
+    }
+}
@@ -7,7 +7,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Generated;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.generator.EventType;
 
 import java.time.LocalDateTime;
 
@@ -19,6 +21,15 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class Review {
 
+    /**
+     * 상세도 점수 식: 본문 길이(로그 스케일) + 제목 작성 여부
+     * - 도움됨 투표 같은 실제 평가 신호가 아니라 "얼마나 자세히 썼는지"만 나타냄
+     * - DB 생성 컬럼(detail_score) 하나에만 두고 엔티티는 읽기만 함 (DatabaseIndexInitializer도 이 식 사용)
+     */
+    public static final String DETAIL_SCORE_EXPRESSION =
+            "ln(1 + COALESCE(length(review_content), 0)) + " +
+            "CASE WHEN title IS NOT NULL AND btrim(title) <> '' THEN 1 ELSE 0 END";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     @Column(name = "review_id")
@@ -49,6 +60,12 @@ public class Review {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // "자세한 리뷰순" 정렬용 점수 (DB가 저장/수정 시 계산, 저장 후 다시 읽음)
+    @Generated(event = {EventType.INSERT, EventType.UPDATE})
+    @Column(name = "detail_score", insertable = false, updatable = false,
+            columnDefinition = "double precision GENERATED ALWAYS AS (" + DETAIL_SCORE_EXPRESSION + ") STORED")
+    private double detailScore;
+
     // 비즈니스 로직 메서드
     public void updateReview(Double rating, String title, String reviewContent) {
         if (rating != null && rating >= 0.0 && rating <= 5.0) {
@@ -0,0 +1,40 @@
+package com.example.AOD.home.controller;
+
+import com.example.AOD.home.dto.HomeFeedResponse;
+import com.example.AOD.home.service.HomeFeedService;
+import com.example.shared.entity.Domain;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 홈 화면 API 컨트롤러
+ * - GET /api/home?domain=GAME: 랭킹, 최근 출시작, 출시 예정작, 장르 칩을 한 번에 조회
+ * - 응답은 백그라운드에서 미리 생성된 문서 (요청 시 DB 조회 없음)
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/home")
+@RequiredArgsConstructor
+public class HomeController {
+
+    private final HomeFeedService homeFeedService;
+
+    @GetMapping
+    public ResponseEntity<HomeFeedResponse> getHome(@RequestParam(required = false) String domain) {
+        Domain domainEnum = null;
+        if (domain != null && !domain.isBlank()) {
+            try {
+                domainEnum = Domain.valueOf(domain.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                log.warn("Invalid domain parameter: {}", domain);
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        return ResponseEntity.ok(homeFeedService.getHomeFeed(domainEnum));
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.AOD.home.dto;
+
+import com.example.AOD.api.dto.WorkSummaryDTO;
+import com.example.AOD.ranking.dto.RankingResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 홈 화면 통합 응답 (도메인별로 미리 만들어 둔 문서)
+ * - 생성 후 변경하지 않는 불변 객체로 캐시에 보관
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class HomeFeedResponse {
+    private final String domain;                      // MOVIE, TV, GAME, WEBTOON, WEBNOVEL, ALL
+    private final List<RankingResponse> rankings;     // 플랫폼별 랭킹 (매핑 여부 무관)
+    private final List<WorkSummaryDTO> recentReleases;
+    private final List<WorkSummaryDTO> upcomingReleases;
+    private final Map<String, Long> genres;           // 장르 칩 (작품 수 내림차순)
+    private final Instant generatedAt;
+}
@@ -0,0 +1,159 @@
+package com.example.AOD.home.service;
+
+import com.example.AOD.api.dto.WorkSummaryDTO;
+import com.example.AOD.api.service.WorkApiService;
+import com.example.AOD.home.dto.HomeFeedResponse;
+import com.example.AOD.ranking.mapper.RankingMapper;
+import com.example.AOD.ranking.service.RankingService;
+import com.example.shared.entity.Domain;
+import com.example.shared.entity.ExternalRanking;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 홈 화면 섹션 사전 생성 서비스
+ * - 랭킹 / 최근 출시작 / 출시 예정작 / 장르 칩을 도메인별로 미리 만들어 메모리에 보관
+ * - 요청은 캐시된 문서 한 번 읽기로 끝남 (DB 조회 없음)
+ * - 크롤러 서버가 랭킹/작품을 갱신하면 변경 감지 후 백그라운드에서 재생성
+ */
+@Slf4j
+@Service
+public class HomeFeedService {
+
+    private static final String ALL = "ALL";
+
+    private final RankingService rankingService;
+    private final RankingMapper rankingMapper;
+    private final WorkApiService workApiService;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${home.section-size:20}")
+    private int sectionSize;
+
+    @Value("${home.genre-chip-count:20}")
+    private int genreChipCount;
+
+    // 도메인 → 사전 생성된 홈 문서 (전체 교체 방식으로 갱신)
+    private volatile Map<String, HomeFeedResponse> feeds = Map.of();
+    private volatile String lastChangeMarker;
+
+    public HomeFeedService(RankingService rankingService,
+                           RankingMapper rankingMapper,
+                           WorkApiService workApiService,
+                           JdbcTemplate jdbcTemplate) {
+        this.rankingService = rankingService;
+        this.rankingMapper = rankingMapper;
+        this.workApiService = workApiService;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 홈 문서 조회 (domain == null이면 전체)
+     * - 아직 생성 전(기동 직후)이면 즉시 생성
+     */
+    public HomeFeedResponse getHomeFeed(Domain domain) {
+        HomeFeedResponse feed = feeds.get(key(domain));
+        if (feed != null) {
+            return feed;
+        }
+        rebuildAll(currentChangeMarker());
+        return feeds.get(key(domain));
+    }
+
+    /**
+     * 변경 감지 후 재생성
+     * - contents.updated_at 최대값, external_ranking 순위/매핑 상태, 오늘 날짜를 변경 마커로 사용
+     * - 마커가 바뀐 경우에만 전체 도메인 재생성
+     */
+    @Scheduled(fixedDelayString = "${home.refresh-check-interval-ms:30000}",
+            initialDelayString = "${home.refresh-initial-delay-ms:10000}")
+    public void refreshIfChanged() {
+        try {
+            String marker = currentChangeMarker();
+            if (!Objects.equals(marker, lastChangeMarker)) {
+                rebuildAll(marker);
+            }
+        } catch (Exception e) {
+            log.error("❌ 홈 화면 섹션 갱신 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    private synchronized void rebuildAll(String marker) {
+        if (marker != null && marker.equals(lastChangeMarker) && !feeds.isEmpty()) {
+            return; // 다른 스레드가 이미 같은 버전으로 생성함
+        }
+
+        long start = System.currentTimeMillis();
+        Instant now = Instant.now();
+        List<ExternalRanking> allRankings = rankingService.getAllRankings();
+
+        Map<String, HomeFeedResponse> rebuilt = new HashMap<>();
+        rebuilt.put(ALL, build(null, allRankings, now));
+        for (Domain domain : Domain.values()) {
+            List<ExternalRanking> domainRankings = allRankings.stream()
+                    .filter(r -> r.getContent() != null && r.getContent().getDomain() == domain)
+                    .toList();
+            rebuilt.put(domain.name(), build(domain, domainRankings, now));
+        }
+
+        feeds = Map.copyOf(rebuilt);
+        lastChangeMarker = marker;
+        log.info("✅ 홈 화면 섹션 재생성 완료: {}개 도메인, {}ms", rebuilt.size(), System.currentTimeMillis() - start);
+    }
+
+    private HomeFeedResponse build(Domain domain, List<ExternalRanking> rankings, Instant generatedAt) {
+        List<ExternalRanking> sortedRankings = rankings.stream()
+                .sorted(Comparator.comparing(ExternalRanking::getPlatform)
+                        .thenComparing(ExternalRanking::getRanking, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+
+        PageRequest firstPage = PageRequest.of(0, sectionSize);
+        List<WorkSummaryDTO> recent = workApiService.getRecentReleases(domain, null, firstPage).getContent();
+        List<WorkSummaryDTO> upcoming = workApiService.getUpcomingReleases(domain, null, firstPage).getContent();
+
+        Map<String, Long> genres = new LinkedHashMap<>();
+        workApiService.getGenresWithCount(domain).entrySet().stream()
+                .limit(genreChipCount)
+                .forEach(e -> genres.put(e.getKey(), e.getValue()));
+
+        return HomeFeedResponse.builder()
+                .domain(key(domain))
+                .rankings(List.copyOf(rankingMapper.toResponseList(sortedRankings)))
+                .recentReleases(List.copyOf(recent))
+                .upcomingReleases(List.copyOf(upcoming))
+                .genres(Collections.unmodifiableMap(genres))
+                .generatedAt(generatedAt)
+                .build();
+    }
+
+    /**
+     * 변경 마커 계산 (가벼운 집계 쿼리 2개)
+     * - external_ranking은 플랫폼별 상위 N개라 행 수가 작아 전체 해시 계산 비용이 낮음
+     */
+    private String currentChangeMarker() {
+        String contentMarker = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(MAX(updated_at)::text, '') FROM contents", String.class);
+        String rankingMarker = jdbcTemplate.queryForObject(
+                "SELECT COALESCE(md5(string_agg(id || ':' || ranking || ':' || COALESCE(content_id, 0), ',' ORDER BY id)), '') FROM external_ranking",
+                String.class);
+        return LocalDate.now() + "|" + contentMarker + "|" + rankingMarker;
+    }
+
+    private String key(Domain domain) {
+        return domain == null ? ALL : domain.name();
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.AOD.performance;
+
+import lombok.Getter;
+
+/**
+ * AIMD 기반 적응형 동시성 제한기
+ * - 목표 지연시간 이하로 처리되면 limit을 천천히 증가 (윈도우당 약 +1)
+ * - 목표를 넘기거나 타임아웃이 나면 limit을 비율로 감소
+ * - limit에 도달하면 대기 없이 즉시 거절 → 호출 측에서 503 응답
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+
+    @Getter
+    private final String name;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+
+    private double limit;
+    private int inFlight;
+
+    public AdaptiveConcurrencyLimiter(String name, int initialLimit, int minLimit, int maxLimit, long targetLatencyMs) {
+        this.name = name;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = targetLatencyMs * 1_000_000L;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * 슬롯 획득 시도 (대기하지 않음)
+     * @return false면 포화 상태 → 요청 거절
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 정상 완료 - 관측 지연시간으로 limit 조정
+     */
+    public synchronized void onSuccess(long latencyNanos) {
+        inFlight--;
+        if (latencyNanos > targetLatencyNanos) {
+            decrease();
+        } else if (inFlight + 1 >= limit / 2) {
+            // 절반 이상 사용 중일 때만 증가 (유휴 상태에서 limit이 부풀지 않도록)
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * 타임아웃 등 과부하 신호 - 즉시 감소
+     */
+    public synchronized void onDropped() {
+        inFlight--;
+        decrease();
+    }
+
+    /**
+     * 과부하와 무관한 실패 (잘못된 요청 등) - limit 유지
+     */
+    public synchronized void onIgnore() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    private void decrease() {
+        limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+    }
+}
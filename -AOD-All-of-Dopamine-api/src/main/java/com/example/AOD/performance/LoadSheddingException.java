@@ -0,0 +1,10 @@
+package com.example.AOD.performance;
+
+/**
+ * 동시성 한도 초과로 요청을 처리하지 않고 거절할 때 사용 (503 응답 대상)
+ */
+public class LoadSheddingException extends RuntimeException {
+    public LoadSheddingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.AOD.performance;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 요청 병합 로더 (single-flight)
+ * - 같은 키로 동시에 들어온 조회는 먼저 온 요청(leader)의 결과를 함께 받음
+ * - 결과를 저장하지 않음 (캐시 아님): 진행 중인 조회에만 합류
+ * - leader 예외는 대기 중인 요청에도 그대로 전달
+ * - 대기 시간 초과 시 합류를 포기하고 직접 조회
+ *
+ * Micrometer:
+ * - api.singleflight.requests{type, result=leader|coalesced}
+ * - api.singleflight.coalesced.ratio (누적 병합 비율)
+ * - api.singleflight.inflight (진행 중인 키 수)
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long waitTimeoutMs;
+
+    private final LongAdder totalRequests = new LongAdder();
+    private final LongAdder coalescedRequests = new LongAdder();
+
+    public SingleFlight(MeterRegistry meterRegistry,
+                        @Value("${single-flight.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMs = waitTimeoutMs;
+
+        Gauge.builder("api.singleflight.coalesced.ratio", this, SingleFlight::coalescedRatio)
+                .description("전체 조회 중 진행 중인 조회에 합류한 비율")
+                .register(meterRegistry);
+        Gauge.builder("api.singleflight.inflight", inFlight, Map::size)
+                .description("진행 중인 single-flight 키 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param type   메트릭 태그용 조회 종류 (work-detail, ranking 등)
+     * @param key    같은 결과를 내는 요청끼리 동일한 키
+     * @param loader 실제 조회 (leader 스레드에서 실행)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String type, String key, Supplier<T> loader) {
+        totalRequests.increment();
+        String flightKey = type + ":" + key;
+
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, mine);
+
+        if (existing != null) {
+            coalescedRequests.increment();
+            count(type, "coalesced");
+            try {
+                return (T) existing.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException re) {
+                    throw re;
+                }
+                throw new RuntimeException(e.getCause());
+            } catch (TimeoutException e) {
+                log.warn("⚠️ single-flight 대기 시간 초과, 직접 조회 - key: {}", flightKey);
+                return loader.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("single-flight 대기 중 인터럽트: " + flightKey, e);
+            }
+        }
+
+        count(type, "leader");
+        try {
+            T value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private void count(String type, String result) {
+        Counter.builder("api.singleflight.requests")
+                .description("single-flight 조회 요청 수")
+                .tag("type", type)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private double coalescedRatio() {
+        long total = totalRequests.sum();
+        return total == 0 ? 0.0 : (double) coalescedRequests.sum() / total;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.AOD.performance;
+
+import java.util.List;
+
+/**
+ * 작품 목록 조회 쿼리 형태 분류 (동시성 제한 단위)
+ * - HEAVY: 장르 + 키워드/플랫폼 조합 또는 키워드 + 플랫폼 (LIKE 스캔 + 조인/배열 필터)
+ * - FILTERED: 필터 하나
+ * - SIMPLE: 필터 없는 목록
+ */
+public enum WorkQueryClass {
+    HEAVY(4, 1, 6, 1000),
+    FILTERED(8, 2, 12, 500),
+    SIMPLE(16, 4, 32, 300);
+
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyMs;
+
+    WorkQueryClass(int initialLimit, int minLimit, int maxLimit, long targetLatencyMs) {
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyMs = targetLatencyMs;
+    }
+
+    public static WorkQueryClass classify(String keyword, List<String> platforms, List<String> genres) {
+        int filters = 0;
+        if (keyword != null && !keyword.isBlank()) filters++;
+        if (platforms != null && !platforms.isEmpty()) filters++;
+        if (genres != null && !genres.isEmpty()) filters++;
+
+        if (filters >= 2) return HEAVY;
+        if (filters == 1) return FILTERED;
+        return SIMPLE;
+    }
+
+    public int getInitialLimit() { return initialLimit; }
+    public int getMinLimit() { return minLimit; }
+    public int getMaxLimit() { return maxLimit; }
+    public long getTargetLatencyMs() { return targetLatencyMs; }
+}
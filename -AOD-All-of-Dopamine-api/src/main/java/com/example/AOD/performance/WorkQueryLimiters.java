@@ -0,0 +1,60 @@
+package com.example.AOD.performance;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 작품 목록 조회 형태별 적응형 동시성 제한기 모음
+ * - 무거운 조회가 Hikari 커넥션을 독점해 상세 조회 같은 가벼운 요청을 굶기지 않도록 분리
+ * - 설정으로 최대치 조정: works.limiter.heavy.max-limit 등
+ * - Micrometer: api.works.limiter.limit / inflight (gauge), api.works.limiter.rejected (counter)
+ */
+@Slf4j
+@Component
+public class WorkQueryLimiters {
+
+    private final Map<WorkQueryClass, AdaptiveConcurrencyLimiter> limiters = new EnumMap<>(WorkQueryClass.class);
+    private final Map<WorkQueryClass, Counter> rejectedCounters = new EnumMap<>(WorkQueryClass.class);
+
+    public WorkQueryLimiters(Environment environment, MeterRegistry meterRegistry) {
+        for (WorkQueryClass queryClass : WorkQueryClass.values()) {
+            String prefix = "works.limiter." + queryClass.name().toLowerCase() + ".";
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(
+                    queryClass.name(),
+                    environment.getProperty(prefix + "initial-limit", Integer.class, queryClass.getInitialLimit()),
+                    environment.getProperty(prefix + "min-limit", Integer.class, queryClass.getMinLimit()),
+                    environment.getProperty(prefix + "max-limit", Integer.class, queryClass.getMaxLimit()),
+                    environment.getProperty(prefix + "target-latency-ms", Long.class, queryClass.getTargetLatencyMs()));
+            limiters.put(queryClass, limiter);
+
+            String tag = queryClass.name().toLowerCase();
+            Gauge.builder("api.works.limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("작품 목록 조회 형태별 현재 동시성 한도")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            Gauge.builder("api.works.limiter.inflight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("작품 목록 조회 형태별 처리 중 요청 수")
+                    .tag("class", tag)
+                    .register(meterRegistry);
+            rejectedCounters.put(queryClass, Counter.builder("api.works.limiter.rejected")
+                    .description("동시성 한도 초과로 거절된 요청 수")
+                    .tag("class", tag)
+                    .register(meterRegistry));
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter get(WorkQueryClass queryClass) {
+        return limiters.get(queryClass);
+    }
+
+    public void recordRejected(WorkQueryClass queryClass) {
+        rejectedCounters.get(queryClass).increment();
+    }
+}
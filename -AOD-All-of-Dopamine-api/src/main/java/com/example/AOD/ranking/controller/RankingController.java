@@ -1,17 +1,24 @@
 package com.example.AOD.ranking.controller;
 
 import com.example.AOD.ranking.dto.RankingResponse;
-import com.example.shared.entity.ExternalRanking;
 import com.example.AOD.ranking.mapper.RankingMapper;
 import com.example.AOD.ranking.service.RankingService;
+import com.example.AOD.api.service.ResourceVersionService;
+import com.example.AOD.api.service.ResourceVersionService.RankingVersion;
+import com.example.AOD.performance.SingleFlight;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 랭킹 조회 API 컨트롤러 (API 서버)
@@ -22,6 +29,10 @@ import java.util.List;
  * - GET /api/rankings/all: 전체 랭킹 조회
  * - GET /api/rankings/{platform}: 플랫폼별 랭킹 조회
  * - GET /api/rankings/domain/{domain}: 도메인별 랭킹 조회
+ *
+ * 조건부 GET: ranking_versions의 버전을 ETag, 반영 시각을 Last-Modified로 사용
+ * If-None-Match / If-Modified-Since 일치 시 랭킹 본문 조회 없이 304
+ * (304에도 Cache-Control을 다시 실어 보내야 캐시가 신선도 수명을 갱신)
  */
 @RestController
 @RequestMapping("/api/rankings")
@@ -30,6 +41,13 @@ public class RankingController {
 
     private final RankingService rankingService;
     private final RankingMapper rankingMapper;
+    private final SingleFlight singleFlight;
+    private final ResourceVersionService resourceVersionService;
+
+    // 랭킹은 크롤링 주기로만 바뀌므로 브라우저 1분, CDN 5분 (이후 ETag로 재검증)
+    private static final CacheControl RANKING_CACHE = CacheControl.maxAge(Duration.ofMinutes(1))
+            .sMaxAge(Duration.ofMinutes(5))
+            .cachePublic();
 
     /**
      * 전체 랭킹 조회 (DB에서 가져오기)
@@ -37,9 +55,9 @@ public class RankingController {
      * @return 전체 랭킹 리스트
      */
     @GetMapping("/all")
-    public ResponseEntity<List<RankingResponse>> getAllRankings() {
-        List<ExternalRanking> rankings = rankingService.getAllRankings();
-        return ResponseEntity.ok(rankingMapper.toResponseList(rankings));
+    public ResponseEntity<List<RankingResponse>> getAllRankings(WebRequest webRequest) {
+        return conditional(resourceVersionService.getAllRankingsVersion(), webRequest, "all",
+                () -> rankingMapper.toResponseList(rankingService.getAllRankings()));
     }
 
     /**
@@ -49,9 +67,11 @@ public class RankingController {
      * @return 해당 플랫폼의 랭킹 리스트
      */
     @GetMapping("/{platform}")
-    public ResponseEntity<List<RankingResponse>> getRankingsByPlatform(@PathVariable String platform) {
-        List<ExternalRanking> rankings = rankingService.getRankingsByPlatform(platform);
-        return ResponseEntity.ok(rankingMapper.toResponseList(rankings));
+    public ResponseEntity<List<RankingResponse>> getRankingsByPlatform(@PathVariable String platform,
+                                                                       WebRequest webRequest) {
+        return conditional(resourceVersionService.getPlatformRankingVersion(platform), webRequest,
+                "platform:" + platform,
+                () -> rankingMapper.toResponseList(rankingService.getRankingsByPlatform(platform)));
     }
 
     /**
@@ -61,8 +81,28 @@ public class RankingController {
      * @return 해당 도메인의 랭킹 리스트
      */
     @GetMapping("/domain/{domain}")
-    public ResponseEntity<List<RankingResponse>> getRankingsByDomain(@PathVariable String domain) {
-        List<ExternalRanking> rankings = rankingService.getRankingsByDomain(domain);
-        return ResponseEntity.ok(rankingMapper.toResponseList(rankings));
+    public ResponseEntity<List<RankingResponse>> getRankingsByDomain(@PathVariable String domain,
+                                                                     WebRequest webRequest) {
+        return conditional(resourceVersionService.getDomainRankingVersion(domain), webRequest,
+                "domain:" + domain,
+                () -> rankingMapper.toResponseList(rankingService.getRankingsByDomain(domain)));
+    }
+
+    /**
+     * 버전 조회(PK 조회 1회)로 먼저 재검증하고, 바뀌었을 때만 본문 조회
+     * - ETag: 랭킹 버전, Last-Modified: 마지막 랭킹 반영(수집) 시각 (아직 랭킹이 없으면 생략)
+     */
+    private ResponseEntity<List<RankingResponse>> conditional(RankingVersion version, WebRequest webRequest,
+                                                              String key, Supplier<List<RankingResponse>> loader) {
+        String etag = "W/\"" + version.version() + "\"";
+        long lastModified = version.lastModified() != null ? version.lastModified().toEpochMilli() : -1;
+
+        boolean notModified = webRequest.checkNotModified(etag, lastModified);
+        ResponseEntity.BodyBuilder builder = notModified ? ResponseEntity.status(HttpStatus.NOT_MODIFIED) : ResponseEntity.ok();
+        builder.eTag(etag).cacheControl(RANKING_CACHE);
+        if (lastModified >= 0) {
+            builder.lastModified(lastModified);
+        }
+        return notModified ? builder.build() : builder.body(singleFlight.load("ranking", key, loader));
     }
 }
@@ -3,6 +3,8 @@ package com.example.AOD.repo;
 import com.example.AOD.domain.Bookmark;
 import com.example.shared.entity.Content;
 import com.example.AOD.user.model.User;
+import com.example.shared.repository.ContentRepository;
+import com.example.shared.repository.ContentSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,14 +22,34 @@ public interface BookmarkRepository extends JpaRepository<Bookmark, Long> {
     // 특정 사용자의 북마크 목록 조회
     Page<Bookmark> findByUser(User user, Pageable pageable);
     
+    // 특정 사용자의 북마크 작품 목록 (목록용 컬럼만, 페이징)
+    @Query(value = ContentRepository.SUMMARY_SELECT +
+                   "FROM Bookmark b JOIN b.content c WHERE b.user = :user",
+           countQuery = "SELECT COUNT(b) FROM Bookmark b WHERE b.user = :user")
+    Page<ContentSummary> findContentSummariesByUser(@Param("user") User user, Pageable pageable);
+    
     // 특정 사용자의 특정 작품 북마크 조회
     Optional<Bookmark> findByContentAndUser(Content content, User user);
     
     // 북마크 존재 여부
     boolean existsByContentAndUser(Content content, User user);
     
+    // 북마크 존재 여부 (엔티티 로딩 없이 ID로 조회)
+    @Query("SELECT COUNT(b) > 0 FROM Bookmark b WHERE b.content.contentId = :contentId AND b.user.id = :userId")
+    boolean existsByContentIdAndUserId(@Param("contentId") Long contentId, @Param("userId") Long userId);
+    
     // 특정 사용자의 북마크 개수
     long countByUser(User user);
+    
+    // 특정 사용자의 북마크 키셋 페이징 (created_at DESC, bookmark_id DESC, 작품 컬럼 조인 단일 쿼리)
+    @Query("SELECT new com.example.AOD.repo.LibraryEntryRow(b.bookmarkId, b.createdAt, " +
+           "c.contentId, c.domain, c.masterTitle, c.posterImageUrl, c.releaseDate) " +
+           "FROM Bookmark b JOIN b.content c " +
+           "WHERE b.user.id = :userId " +
+           "AND (b.createdAt < :createdAt OR (b.createdAt = :createdAt AND b.bookmarkId < :id)) " +
+           "ORDER BY b.createdAt DESC, b.bookmarkId DESC")
+    List<LibraryEntryRow> findLibraryPageByUserId(@Param("userId") Long userId,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 }
-
-
@@ -3,6 +3,8 @@ package com.example.AOD.repo;
 import com.example.AOD.domain.ContentLike;
 import com.example.shared.entity.Content;
 import com.example.AOD.user.model.User;
+import com.example.shared.repository.ContentRepository;
+import com.example.shared.repository.ContentSummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,6 +12,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,8 +33,31 @@ public interface ContentLikeRepository extends JpaRepository<ContentLike, Long>
     @Query("SELECT COUNT(cl) FROM ContentLike cl WHERE cl.content.contentId = :contentId AND cl.likeType = 'DISLIKE'")
     long countDislikesByContentId(@Param("contentId") Long contentId);
     
+    // 특정 사용자의 특정 작품 좋아요/싫어요 타입 (엔티티 로딩 없이 ID로 조회)
+    @Query("SELECT cl.likeType FROM ContentLike cl WHERE cl.content.contentId = :contentId AND cl.user.id = :userId")
+    Optional<ContentLike.LikeType> findLikeTypeByContentIdAndUserId(@Param("contentId") Long contentId, @Param("userId") Long userId);
+    
     // 사용자가 좋아요한 작품 목록 (페이징)
     Page<ContentLike> findByUserAndLikeType(User user, ContentLike.LikeType likeType, Pageable pageable);
+    
+    // 사용자가 좋아요한 작품 목록 (목록용 컬럼만, 페이징)
+    @Query(value = ContentRepository.SUMMARY_SELECT +
+                   "FROM ContentLike cl JOIN cl.content c WHERE cl.user = :user AND cl.likeType = :likeType",
+           countQuery = "SELECT COUNT(cl) FROM ContentLike cl WHERE cl.user = :user AND cl.likeType = :likeType")
+    Page<ContentSummary> findContentSummariesByUserAndLikeType(@Param("user") User user,
+                                                               @Param("likeType") ContentLike.LikeType likeType,
+                                                               Pageable pageable);
+    
+    // 사용자가 좋아요한 작품 키셋 페이징 (created_at DESC, like_id DESC, 작품 컬럼 조인 단일 쿼리)
+    @Query("SELECT new com.example.AOD.repo.LibraryEntryRow(cl.likeId, cl.createdAt, " +
+           "c.contentId, c.domain, c.masterTitle, c.posterImageUrl, c.releaseDate) " +
+           "FROM ContentLike cl JOIN cl.content c " +
+           "WHERE cl.user.id = :userId AND cl.likeType = :likeType " +
+           "AND (cl.createdAt < :createdAt OR (cl.createdAt = :createdAt AND cl.likeId < :id)) " +
+           "ORDER BY cl.createdAt DESC, cl.likeId DESC")
+    List<LibraryEntryRow> findLibraryPageByUserId(@Param("userId") Long userId,
+                                                 @Param("likeType") ContentLike.LikeType likeType,
+                                                 @Param("createdAt") LocalDateTime createdAt,
+                                                 @Param("id") Long id,
+                                                 Pageable pageable);
 }
-
-
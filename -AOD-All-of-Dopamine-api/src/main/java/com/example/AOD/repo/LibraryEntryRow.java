@@ -0,0 +1,22 @@
+package com.example.AOD.repo;
+
+import com.example.shared.entity.Domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 내 보관함(좋아요/북마크) 목록용 프로젝션
+ * - entryId/addedAt: 좋아요·북마크 행 기준 (커서 위치)
+ * - 작품은 목록용 컬럼만 조인으로 함께 조회, 응답 DTO 변환은 서비스에서 수행
+ */
+public record LibraryEntryRow(
+        Long entryId,
+        LocalDateTime addedAt,
+        Long contentId,
+        Domain domain,
+        String masterTitle,
+        String posterImageUrl,
+        LocalDate releaseDate
+) {
+}
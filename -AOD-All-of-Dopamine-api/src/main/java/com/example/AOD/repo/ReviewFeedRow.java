@@ -0,0 +1,23 @@
+package com.example.AOD.repo;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 목록용 프로젝션 (작성자명/작품명을 조인으로 한 번에 조회)
+ * - 엔티티가 아니므로 영속성 컨텍스트/dirty checking 스냅샷 대상에서 제외
+ * - 응답 DTO 변환은 서비스에서 수행
+ */
+public record ReviewFeedRow(
+        Long reviewId,
+        Long contentId,
+        String contentTitle,
+        Long userId,
+        String username,
+        Double rating,
+        String title,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Double detailScore
+) {
+}
@@ -10,10 +10,17 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+
+    // 리뷰 목록용 프로젝션 (작성자명/작품명 조인)
+    String FEED_SELECT = "SELECT new com.example.AOD.repo.ReviewFeedRow(" +
+            "r.reviewId, c.contentId, c.masterTitle, u.id, u.username, r.rating, r.title, r.reviewContent, " +
+            "r.createdAt, r.updatedAt, r.detailScore) FROM Review r JOIN r.content c JOIN r.user u ";
     
     // 특정 작품의 리뷰 목록 조회
     Page<Review> findByContent(Content content, Pageable pageable);
@@ -22,9 +29,47 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.content.contentId = :contentId")
     Page<Review> findByContentId(@Param("contentId") Long contentId, Pageable pageable);
     
+    // 특정 작품의 리뷰 목록 조회 (작성자명 조인 프로젝션, 오프셋 페이징)
+    @Query(value = FEED_SELECT + "WHERE c.contentId = :contentId",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.content.contentId = :contentId")
+    Page<ReviewFeedRow> findFeedByContentId(@Param("contentId") Long contentId, Pageable pageable);
+    
+    // 특정 작품의 리뷰 키셋 페이징 - 최신순 (created_at DESC, review_id DESC)
+    @Query(FEED_SELECT + "WHERE c.contentId = :contentId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :id)) " +
+           "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<ReviewFeedRow> findLatestFeed(@Param("contentId") Long contentId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+    
+    // 특정 작품의 리뷰 키셋 페이징 - 자세한 리뷰순 (detail_score DESC, review_id DESC)
+    @Query(FEED_SELECT + "WHERE c.contentId = :contentId " +
+           "AND (r.detailScore < :score OR (r.detailScore = :score AND r.reviewId < :id)) " +
+           "ORDER BY r.detailScore DESC, r.reviewId DESC")
+    List<ReviewFeedRow> findDetailedFeed(@Param("contentId") Long contentId,
+                                        @Param("score") double score,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
     // 특정 사용자의 리뷰 목록 조회
     Page<Review> findByUser(User user, Pageable pageable);
     
+    // 특정 사용자의 리뷰 목록 조회 (작품/작성자 fetch join, N+1 방지)
+    @Query(value = "SELECT r FROM Review r JOIN FETCH r.content JOIN FETCH r.user WHERE r.user = :user",
+           countQuery = "SELECT COUNT(r) FROM Review r WHERE r.user = :user")
+    Page<Review> findByUserWithContent(@Param("user") User user, Pageable pageable);
+    
+    // 특정 사용자의 리뷰 키셋 페이징 (created_at DESC, review_id DESC)
+    @Query("SELECT r FROM Review r JOIN FETCH r.content JOIN FETCH r.user " +
+           "WHERE r.user.id = :userId " +
+           "AND (r.createdAt < :createdAt OR (r.createdAt = :createdAt AND r.reviewId < :id)) " +
+           "ORDER BY r.createdAt DESC, r.reviewId DESC")
+    List<Review> findKeysetPageByUserId(@Param("userId") Long userId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+    
     // 특정 사용자의 특정 작품에 대한 리뷰 조회
     Optional<Review> findByContentAndUser(Content content, User user);
     
@@ -0,0 +1,117 @@
+package com.example.AOD.api.controller;
+
+import com.example.AOD.api.dto.PageResponse;
+import com.example.AOD.api.service.CatalogExportService;
+import com.example.AOD.api.service.ChangeFeedService;
+import com.example.AOD.api.service.ResourceVersionService;
+import com.example.AOD.api.service.WorkApiService;
+import com.example.AOD.api.service.WorkPageService;
+import com.example.AOD.performance.AdaptiveConcurrencyLimiter;
+import com.example.AOD.performance.SingleFlight;
+import com.example.AOD.performance.WorkQueryClass;
+import com.example.AOD.performance.WorkQueryLimiters;
+import com.example.AOD.security.JwtTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("WorkController 목록 조회 동시성 제한 테스트")
+class WorkControllerTest {
+
+    private WorkApiService workApiService;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter simpleLimiter;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        workApiService = mock(WorkApiService.class);
+        meterRegistry = new SimpleMeterRegistry();
+
+        // 필터 없는 목록(SIMPLE)의 한도를 2로 고정
+        MockEnvironment env = new MockEnvironment()
+                .withProperty("works.limiter.simple.initial-limit", "2")
+                .withProperty("works.limiter.simple.min-limit", "1")
+                .withProperty("works.limiter.simple.max-limit", "2");
+        WorkQueryLimiters limiters = new WorkQueryLimiters(env, meterRegistry);
+        simpleLimiter = limiters.get(WorkQueryClass.SIMPLE);
+
+        WorkController controller = new WorkController(workApiService, mock(WorkPageService.class),
+                mock(JwtTokenProvider.class), limiters, new SingleFlight(meterRegistry, 5000),
+                mock(ResourceVersionService.class), mock(ChangeFeedService.class), mock(CatalogExportService.class));
+        mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+    }
+
+    @Test
+    @DisplayName("한도가 포화되면 조회 없이 503 + Retry-After, 거절 카운터 증가")
+    void rejectsWith503WhenSaturated() throws Exception {
+        // given: 다른 요청들이 슬롯을 모두 사용 중
+        simpleLimiter.tryAcquire();
+        simpleLimiter.tryAcquire();
+
+        // when / then
+        mockMvc.perform(get("/api/works"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.error").exists());
+
+        verify(workApiService, never()).getWorks(any(), any(), any(), any(), any(), any());
+        assertThat(meterRegistry.get("api.works.limiter.rejected").tag("class", "simple").counter().count())
+                .isEqualTo(1);
+        assertThat(simpleLimiter.getInFlight()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("정상 완료 후 슬롯 반환")
+    void releasesSlotAfterSuccess() throws Exception {
+        when(workApiService.getWorks(any(), any(), any(), any(), any(), any())).thenReturn(new PageResponse<>());
+
+        mockMvc.perform(get("/api/works")).andExpect(status().isOk());
+
+        assertThat(simpleLimiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("쿼리 타임아웃이면 503 + Retry-After, 슬롯 반환 후 한도 감소")
+    void timeoutReturns503AndShrinksLimit() throws Exception {
+        when(workApiService.getWorks(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new QueryTimeoutException("canceling statement due to statement timeout"));
+
+        mockMvc.perform(get("/api/works"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+
+        assertThat(simpleLimiter.getInFlight()).isZero();
+        assertThat(simpleLimiter.getLimit()).isEqualTo(1); // 2 * 0.9
+    }
+
+    @Test
+    @DisplayName("과부하와 무관한 예외도 슬롯을 반환하고 한도는 유지")
+    void otherFailureReleasesSlotWithoutShrinking() {
+        when(workApiService.getWorks(any(), any(), any(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> mockMvc.perform(get("/api/works")))
+                .hasRootCauseInstanceOf(IllegalStateException.class);
+
+        assertThat(simpleLimiter.getInFlight()).isZero();
+        assertThat(simpleLimiter.getLimit()).isEqualTo(2);
+    }
+}
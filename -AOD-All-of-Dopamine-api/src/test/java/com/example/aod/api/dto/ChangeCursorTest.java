@@ -0,0 +1,51 @@
+package com.example.AOD.api.dto;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("ChangeCursor 인코딩 테스트")
+class ChangeCursorTest {
+
+    @Test
+    @DisplayName("encode → decode 왕복 시 같은 위치")
+    void roundTrip() {
+        ChangeCursor cursor = new ChangeCursor(9_876_543_210L, 42L, 17L, Long.MAX_VALUE);
+
+        String encoded = cursor.encode();
+
+        assertThat(ChangeCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(ChangeCursor.decode(ChangeCursor.START.encode())).isEqualTo(ChangeCursor.START);
+        // 쿼리 파라미터에 그대로 쓸 수 있는 URL-safe, 패딩 없음
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"not base64!", "%%%"})
+    @DisplayName("Base64가 아닌 값은 IllegalArgumentException")
+    void rejectsNonBase64(String cursor) {
+        assertThatThrownBy(() -> ChangeCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 since 값");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1|2|3", "1|2|3|4|5", "1|2|3|", "a|2|3|4", "1|2|3|4.5", "||||", "2026-10-19"})
+    @DisplayName("구성 요소 수나 숫자 형식이 맞지 않으면 IllegalArgumentException")
+    void rejectsMalformedContent(String raw) {
+        String cursor = Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> ChangeCursor.decode(cursor))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("잘못된 since 값");
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.AOD.api.service;
+
+import com.example.AOD.api.dto.ChangeCursor;
+import com.example.AOD.support.TestPostgres;
+import com.example.shared.schema.ContentChangeTracking;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 변경 피드 커밋 순서 워터마크 테스트
+ * - 실제 PostgreSQL 필요, 피드에 쓰이는 컬럼만 가진 최소 스키마 + ContentChangeTracking 트리거
+ */
+@DisplayName("ChangeFeedService 변경 피드 테스트")
+@EnabledIf("com.example.AOD.support.TestPostgres#available")
+class ChangeFeedServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbc;
+    private ChangeFeedService service;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = TestPostgres.dataSource();
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS external_ranking, content_tombstones, contents CASCADE");
+        jdbc.execute("CREATE TABLE contents (content_id bigint PRIMARY KEY, domain varchar(255), " +
+                "master_title varchar(255), original_title varchar(255), release_date date, " +
+                "poster_image_url varchar(255), updated_at timestamptz NOT NULL DEFAULT now())");
+        ContentChangeTracking.install(jdbc);
+        service = new ChangeFeedService(jdbc, objectMapper);
+    }
+
+    @Test
+    @DisplayName("진행 중인 트랜잭션 이후에 커밋된 변경은 그 트랜잭션이 끝날 때까지 보류")
+    void holdsBackRowsAtOrAfterWatermark() throws Exception {
+        insertContent(1);
+
+        List<JsonNode> first;
+        List<JsonNode> second;
+        try (Connection open = dataSource.getConnection()) {
+            // given: 먼저 시작한 긴 트랜잭션이 아직 커밋 전 (txid = 워터마크)
+            open.setAutoCommit(false);
+            try (Statement st = open.createStatement()) {
+                st.executeUpdate("INSERT INTO contents (content_id, domain, master_title) VALUES (2, 'MOVIE', 'Title 2')");
+            }
+            // 그 뒤에 시작해 먼저 커밋된 변경
+            insertContent(3);
+
+            // when
+            first = changes(ChangeCursor.START, 10);
+
+            // then: 워터마크 이전 변경만, 이후 커밋분(3)은 보류
+            assertThat(ids(first, "upsert")).containsExactly(1L);
+            assertThat(cursorLine(first).get("hasMore").asBoolean()).isFalse();
+
+            // when: 긴 트랜잭션 커밋 후 이전 커서로 이어서 조회
+            open.commit();
+            second = changes(ChangeCursor.decode(cursorLine(first).get("cursor").asText()), 10);
+        }
+
+        // then: 늦게 커밋된 2도 누락 없이, 커밋 순서가 아닌 txid 순서로
+        assertThat(ids(second, "upsert")).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("삭제는 tombstone으로, limit에 닿으면 hasMore와 이어 받을 커서")
+    void tombstonesAndPaging() throws Exception {
+        insertContent(1);
+        insertContent(2);
+        insertContent(3);
+        jdbc.update("DELETE FROM contents WHERE content_id = 2");
+
+        List<JsonNode> page1 = changes(ChangeCursor.START, 1);
+        assertThat(ids(page1, "upsert")).containsExactly(1L);
+        assertThat(ids(page1, "delete")).containsExactly(2L);
+        assertThat(cursorLine(page1).get("hasMore").asBoolean()).isTrue();
+
+        List<JsonNode> page2 = changes(ChangeCursor.decode(cursorLine(page1).get("cursor").asText()), 1);
+        assertThat(ids(page2, "upsert")).containsExactly(3L);
+        assertThat(ids(page2, "delete")).isEmpty();
+    }
+
+    private void insertContent(long id) {
+        jdbc.update("INSERT INTO contents (content_id, domain, master_title) VALUES (?, 'MOVIE', ?)", id, "Title " + id);
+    }
+
+    private List<JsonNode> changes(ChangeCursor cursor, int limit) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.writeChanges(cursor, limit, out);
+        List<JsonNode> lines = new ArrayList<>();
+        for (String line : out.toString().split("\n")) {
+            lines.add(objectMapper.readTree(line));
+        }
+        return lines;
+    }
+
+    private static List<Long> ids(List<JsonNode> lines, String op) {
+        return lines.stream().filter(l -> op.equals(l.get("op").asText())).map(l -> l.get("id").asLong()).toList();
+    }
+
+    private static JsonNode cursorLine(List<JsonNode> lines) {
+        JsonNode last = lines.get(lines.size() - 1);
+        assertThat(last.get("op").asText()).isEqualTo("cursor");
+        return last;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.AOD.api.service;
+
+import com.example.AOD.api.service.ResourceVersionService.RankingVersion;
+import com.example.AOD.support.TestPostgres;
+import com.example.shared.schema.RankingVersionTracking;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 랭킹 버전(ranking_versions) 트리거 + ResourceVersionService 조회 테스트
+ * - 실제 PostgreSQL 필요, 랭킹 응답에 쓰이는 컬럼만 가진 최소 스키마 사용
+ */
+@DisplayName("ResourceVersionService 랭킹 버전 테스트")
+@EnabledIf("com.example.AOD.support.TestPostgres#available")
+class ResourceVersionServiceTest {
+
+    private JdbcTemplate jdbc;
+    private ResourceVersionService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbc = new JdbcTemplate(TestPostgres.dataSource());
+        jdbc.execute("DROP TABLE IF EXISTS external_ranking, ranking_versions, contents CASCADE");
+        jdbc.execute("CREATE TABLE contents (content_id bigint PRIMARY KEY, domain varchar(255), " +
+                "master_title varchar(255), poster_image_url varchar(255), synopsis text)");
+        jdbc.execute("CREATE TABLE external_ranking (id bigserial PRIMARY KEY, platform varchar(255) NOT NULL, " +
+                "platform_specific_id varchar(255) NOT NULL, title varchar(255) NOT NULL, ranking integer NOT NULL, " +
+                "content_id bigint REFERENCES contents)");
+        RankingVersionTracking.install(jdbc);
+        service = new ResourceVersionService(jdbc);
+    }
+
+    @Test
+    @DisplayName("랭킹이 없는 플랫폼은 버전 0, Last-Modified 없음")
+    void emptyPlatform() {
+        RankingVersion version = service.getPlatformRankingVersion("Steam");
+
+        assertThat(version.version()).isZero();
+        assertThat(version.lastModified()).isNull();
+    }
+
+    @Test
+    @DisplayName("한 트랜잭션에서 여러 행을 저장해도 플랫폼 버전은 한 번만 증가")
+    void bumpsOncePerTransaction() {
+        // when: 한 문장(= 한 트랜잭션)으로 3건 저장
+        jdbc.update("INSERT INTO external_ranking (platform, platform_specific_id, title, ranking) VALUES " +
+                "('Steam', '1', 'A', 1), ('Steam', '2', 'B', 2), ('Steam', '3', 'C', 3)");
+
+        // then
+        RankingVersion first = service.getPlatformRankingVersion("Steam");
+        assertThat(first.version()).isEqualTo(1);
+        assertThat(first.lastModified()).isNotNull();
+
+        // when: 다음 수집에서 순위 변경
+        jdbc.update("UPDATE external_ranking SET ranking = 4 - ranking WHERE platform = 'Steam'");
+
+        // then
+        RankingVersion second = service.getPlatformRankingVersion("Steam");
+        assertThat(second.version()).isEqualTo(2);
+        assertThat(second.lastModified()).isAfterOrEqualTo(first.lastModified());
+        assertThat(service.getPlatformRankingVersion("TMDB_MOVIE").version()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제와 다른 플랫폼 변경은 각자의 버전과 전체 버전에 반영")
+    void deleteAndAllVersion() {
+        jdbc.update("INSERT INTO external_ranking (platform, platform_specific_id, title, ranking) VALUES " +
+                "('Steam', '1', 'A', 1), ('TMDB_MOVIE', '9', 'M', 1)");
+        long allBefore = service.getAllRankingsVersion().version();
+
+        jdbc.update("DELETE FROM external_ranking WHERE platform = 'TMDB_MOVIE'");
+
+        assertThat(service.getPlatformRankingVersion("TMDB_MOVIE").version()).isEqualTo(2);
+        assertThat(service.getPlatformRankingVersion("Steam").version()).isEqualTo(1);
+        assertThat(service.getAllRankingsVersion().version()).isGreaterThan(allBefore);
+        assertThat(service.getDomainRankingVersion("MOVIE")).isEqualTo(service.getAllRankingsVersion());
+    }
+
+    @Test
+    @DisplayName("매핑된 작품의 응답 컬럼이 바뀌면 그 작품을 가진 플랫폼만 버전 증가")
+    void mappedContentChangeBumpsOwningPlatform() {
+        jdbc.update("INSERT INTO contents (content_id, domain, master_title) VALUES (1, 'GAME', 'Old'), (2, 'MOVIE', 'X')");
+        jdbc.update("INSERT INTO external_ranking (platform, platform_specific_id, title, ranking, content_id) VALUES " +
+                "('Steam', '1', 'Old', 1, 1), ('TMDB_MOVIE', '2', 'X', 1, 2)");
+
+        // when: 응답에 들어가는 제목 변경 / 응답에 없는 줄거리 변경
+        jdbc.update("UPDATE contents SET master_title = 'New' WHERE content_id = 1");
+        jdbc.update("UPDATE contents SET synopsis = 'only synopsis' WHERE content_id = 2");
+
+        // then
+        assertThat(service.getPlatformRankingVersion("Steam").version()).isEqualTo(2);
+        assertThat(service.getPlatformRankingVersion("TMDB_MOVIE").version()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재설치(기동) 시 모든 플랫폼 버전을 올려 트리거 없이 바뀐 랭킹도 재검증")
+    void reinstallBumpsVersions() {
+        jdbc.update("INSERT INTO external_ranking (platform, platform_specific_id, title, ranking) VALUES ('Steam', '1', 'A', 1)");
+
+        RankingVersionTracking.install(jdbc);
+
+        assertThat(service.getPlatformRankingVersion("Steam").version()).isEqualTo(2);
+    }
+}
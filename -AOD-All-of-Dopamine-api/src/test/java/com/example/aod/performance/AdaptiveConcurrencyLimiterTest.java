@@ -0,0 +1,117 @@
+package com.example.AOD.performance;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 지연시간은 onSuccess 인자로 직접 넣어 제어 (실제 시간 경과 없음)
+ */
+@DisplayName("AdaptiveConcurrencyLimiter 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long TARGET_MS = 100;
+    private static final long FAST = 10 * 1_000_000L;
+    private static final long SLOW = 500 * 1_000_000L;
+
+    @Test
+    @DisplayName("limit만큼 획득하면 다음 요청은 대기 없이 거절, 반환하면 다시 획득 가능")
+    void rejectsWhenSaturatedAndReleasesSlot() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 2, 1, 4, TARGET_MS);
+
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+
+        limiter.onIgnore();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    @DisplayName("목표 지연 이하로 꽉 찬 윈도우를 처리하면 limit이 천천히 증가 (최대치 이하)")
+    void additiveIncreaseUnderLoad() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 4, 1, 6, TARGET_MS);
+
+        // when: limit만큼 채운 뒤 모두 빠르게 완료 (한 윈도우)
+        fullWindow(limiter, FAST);
+        fullWindow(limiter, FAST);
+
+        // then: 절반 이상 사용 중인 완료만 +1/limit → 4 → 4.48 → 4.92
+        assertThat(limiter.getLimit()).isEqualTo(4);
+
+        fullWindow(limiter, FAST);
+        assertThat(limiter.getLimit()).isEqualTo(5); // 5.32
+
+        for (int i = 0; i < 20; i++) {
+            fullWindow(limiter, FAST);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(6);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 상태(절반 미만 사용)에서는 빠르게 끝나도 limit을 늘리지 않음")
+    void noIncreaseWhenIdle() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 8, 1, 16, TARGET_MS);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onSuccess(FAST);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("목표 초과 / 타임아웃이면 0.9배 감소, 최소치 아래로는 내려가지 않음")
+    void multiplicativeDecrease() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 10, 2, 20, TARGET_MS);
+
+        limiter.tryAcquire();
+        limiter.onSuccess(SLOW);
+        assertThat(limiter.getLimit()).isEqualTo(9);
+
+        limiter.tryAcquire();
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(8); // 8.1
+
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("과부하와 무관한 실패는 limit을 유지하고 슬롯만 반환")
+    void ignoreKeepsLimit() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter("test", 3, 1, 6, TARGET_MS);
+
+        for (int i = 0; i < 3; i++) limiter.tryAcquire();
+        for (int i = 0; i < 3; i++) limiter.onIgnore();
+
+        assertThat(limiter.getLimit()).isEqualTo(3);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("초기값은 [min, max] 범위로 보정")
+    void clampsInitialLimit() {
+        assertThat(new AdaptiveConcurrencyLimiter("low", 0, 2, 5, TARGET_MS).getLimit()).isEqualTo(2);
+        assertThat(new AdaptiveConcurrencyLimiter("high", 50, 2, 5, TARGET_MS).getLimit()).isEqualTo(5);
+    }
+
+    private static void fullWindow(AdaptiveConcurrencyLimiter limiter, long latencyNanos) {
+        int acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.onSuccess(latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.AOD.performance;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private static final int FOLLOWERS = 3;
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight singleFlight;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight(meterRegistry, 5000);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키로 동시에 들어온 요청은 조회 1회를 공유하고 병합 비율에 반영")
+    void concurrentIdenticalKeysShareOneLoad() throws Exception {
+        // given: leader 조회가 끝나지 않은 상태에서 follower 합류
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = startFlight(() -> {
+            loads.incrementAndGet();
+            await(release);
+            return "value";
+        });
+
+        // when
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(requests("leader")).isEqualTo(1);
+        assertThat(requests("coalesced")).isEqualTo(FOLLOWERS);
+        assertThat(ratio()).isEqualTo((double) FOLLOWERS / (FOLLOWERS + 1));
+
+        // 합류 없는 조회가 늘면 비율이 낮아짐
+        singleFlight.load("work-detail", "other", () -> "x");
+        assertThat(ratio()).isEqualTo((double) FOLLOWERS / (FOLLOWERS + 2));
+    }
+
+    @Test
+    @DisplayName("조회가 끝나면 키를 제거 → 다음 호출은 새로 조회 (결과를 캐시하지 않음)")
+    void keyRemovedAfterCompletion() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(singleFlight.load("work-detail", "1", () -> "v" + loads.incrementAndGet())).isEqualTo("v1");
+        assertThat(inFlightKeys()).isZero();
+        assertThat(singleFlight.load("work-detail", "1", () -> "v" + loads.incrementAndGet())).isEqualTo("v2");
+    }
+
+    @Test
+    @DisplayName("조회가 실패해도 키를 제거 → 다음 호출은 다시 조회")
+    void keyRemovedAfterFailure() {
+        assertThatThrownBy(() -> singleFlight.load("work-detail", "1", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(inFlightKeys()).isZero();
+        assertThat(singleFlight.load("work-detail", "1", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("leader 예외는 대기 중인 follower에게 같은 예외로 전달")
+    void followersReceiveLeaderException() throws Exception {
+        IllegalStateException failure = new IllegalStateException("db down");
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = startFlight(() -> {
+            await(release);
+            throw failure;
+        });
+
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .cause().isSameAs(failure);
+        }
+        assertThat(inFlightKeys()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기면 합류를 포기하고 직접 조회")
+    void followerLoadsItselfAfterWaitTimeout() throws Exception {
+        SingleFlight shortWait = new SingleFlight(new SimpleMeterRegistry(), 50);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> shortWait.load("ranking", "all", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "leader";
+        }));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(shortWait.load("ranking", "all", () -> "own")).isEqualTo("own");
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("leader");
+    }
+
+    /**
+     * leader 1개 + follower FOLLOWERS개를 같은 키로 시작하고, follower가 모두 합류할 때까지 대기
+     * (leader 조회는 loader 안에서 release를 기다리는 동안 진행 중 상태로 유지)
+     */
+    private List<Future<String>> startFlight(Supplier<String> loader) throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(() -> singleFlight.load("work-detail", "42", () -> {
+            leaderStarted.countDown();
+            return loader.get();
+        })));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < FOLLOWERS; i++) {
+            results.add(executor.submit(() -> singleFlight.load("work-detail", "42", () -> "follower loaded")));
+        }
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requests("coalesced") < FOLLOWERS && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(requests("coalesced")).isEqualTo(FOLLOWERS);
+        return results;
+    }
+
+    private double requests(String result) {
+        var counter = meterRegistry.find("api.singleflight.requests").tag("result", result).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    private double ratio() {
+        return meterRegistry.get("api.singleflight.coalesced.ratio").gauge().value();
+    }
+
+    private double inFlightKeys() {
+        return meterRegistry.get("api.singleflight.inflight").gauge().value();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.AOD.ranking.controller;
+
+import com.example.AOD.api.service.ResourceVersionService;
+import com.example.AOD.api.service.ResourceVersionService.RankingVersion;
+import com.example.AOD.performance.SingleFlight;
+import com.example.AOD.ranking.dto.RankingResponse;
+import com.example.AOD.ranking.mapper.RankingMapper;
+import com.example.AOD.ranking.service.RankingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DisplayName("RankingController 조건부 GET 테스트")
+class RankingControllerTest {
+
+    private static final Instant CRAWLED_AT = Instant.parse("2026-10-15T03:00:00Z");
+    private static final String CRAWLED_AT_HTTP =
+            DateTimeFormatter.RFC_1123_DATE_TIME.format(CRAWLED_AT.atOffset(ZoneOffset.UTC));
+
+    private RankingService rankingService;
+    private RankingMapper rankingMapper;
+    private SingleFlight singleFlight;
+    private ResourceVersionService resourceVersionService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        rankingService = mock(RankingService.class);
+        rankingMapper = mock(RankingMapper.class);
+        singleFlight = mock(SingleFlight.class);
+        resourceVersionService = mock(ResourceVersionService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new RankingController(rankingService, rankingMapper, singleFlight, resourceVersionService)).build();
+
+        when(resourceVersionService.getPlatformRankingVersion("Steam")).thenReturn(new RankingVersion(7, CRAWLED_AT));
+        when(singleFlight.load(anyString(), anyString(), any())).thenAnswer(inv -> ((Supplier<?>) inv.getArgument(2)).get());
+    }
+
+    @Test
+    @DisplayName("If-None-Match가 현재 버전과 같으면 랭킹 본문을 조회하지 않고 304")
+    void notModifiedByEtagSkipsBody() throws Exception {
+        mockMvc.perform(get("/api/rankings/Steam").header(HttpHeaders.IF_NONE_MATCH, "W/\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, CRAWLED_AT_HTTP))
+                .andExpect(header().exists(HttpHeaders.CACHE_CONTROL));
+
+        verifyNoInteractions(singleFlight, rankingService, rankingMapper);
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 마지막 수집 시각 이후면 본문 조회 없이 304")
+    void notModifiedByLastModifiedSkipsBody() throws Exception {
+        mockMvc.perform(get("/api/rankings/Steam").header(HttpHeaders.IF_MODIFIED_SINCE, CRAWLED_AT_HTTP))
+                .andExpect(status().isNotModified());
+
+        verifyNoInteractions(singleFlight, rankingService, rankingMapper);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌었으면 본문을 조회하고 ETag / Last-Modified를 함께 응답")
+    void changedVersionLoadsBody() throws Exception {
+        RankingResponse row = new RankingResponse();
+        row.setTitle("Hollow Knight");
+        when(rankingMapper.toResponseList(any())).thenReturn(List.of(row));
+
+        mockMvc.perform(get("/api/rankings/Steam").header(HttpHeaders.IF_NONE_MATCH, "W/\"6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, CRAWLED_AT_HTTP))
+                .andExpect(content().json("[{\"title\":\"Hollow Knight\"}]"));
+
+        verify(singleFlight).load(eq("ranking"), eq("platform:Steam"), any());
+        verify(rankingService).getRankingsByPlatform("Steam");
+    }
+
+    @Test
+    @DisplayName("랭킹이 아직 없는 플랫폼은 Last-Modified 없이 ETag만 사용")
+    void noRankingYetOmitsLastModified() throws Exception {
+        when(resourceVersionService.getPlatformRankingVersion("Unknown")).thenReturn(new RankingVersion(0, null));
+        when(rankingMapper.toResponseList(any())).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/rankings/Unknown"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"0\""))
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.AOD.support;
+
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import javax.sql.DataSource;
+
+/**
+ * PostgreSQL 통합 테스트용 DB
+ * - TEST_POSTGRES_URL(+ TEST_POSTGRES_USER / TEST_POSTGRES_PASSWORD)이 있으면 그 DB 사용
+ * - 없으면 Testcontainers postgres:16-alpine 하나를 모든 테스트가 공유
+ * - 둘 다 없으면 available() = false → @EnabledIf로 테스트 건너뜀
+ *
+ * 사용: @EnabledIf("com.example.AOD.support.TestPostgres#available") + TestPostgres.dataSource()
+ */
+public final class TestPostgres {
+
+    private static final String URL = System.getenv("TEST_POSTGRES_URL");
+
+    private static PostgreSQLContainer<?> container;
+
+    private TestPostgres() {
+    }
+
+    public static boolean available() {
+        if (URL != null && !URL.isBlank()) {
+            return true;
+        }
+        try {
+            return DockerClientFactory.instance().isDockerAvailable();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    public static DataSource dataSource() {
+        if (URL != null && !URL.isBlank()) {
+            return new DriverManagerDataSource(URL, env("TEST_POSTGRES_USER", "postgres"),
+                    env("TEST_POSTGRES_PASSWORD", ""));
+        }
+        PostgreSQLContainer<?> pg = container();
+        return new DriverManagerDataSource(pg.getJdbcUrl(), pg.getUsername(), pg.getPassword());
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return container;
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.crawler.ingest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * raw_items payload 해시 처리량/할당량 비교
+ * - legacy: ObjectMapper.writeValueAsBytes + 바이트마다 String.format hex (기존 CollectorService.sha256Canonical)
+ * - canonical: PayloadFingerprinter (정렬 키 순회, MessageDigest 직행)
+ * - payload는 TMDB 영화 상세(TmdbPayloadProcessor 결과) 모양
+ *
+ * 실행: ./gradlew :-AOD-All-of-Dopamine-crawler:jmh  (gc 프로파일러로 gc.alloc.rate.norm 확인)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PayloadFingerprintBenchmark {
+
+    private final ObjectMapper om = new ObjectMapper();
+    private Map<String, Object> payload;
+    private Set<String> volatileFields;
+
+    @Setup
+    public void setUp() {
+        payload = new HashMap<>();
+        payload.put("id", 550);
+        payload.put("title", "파이트 클럽");
+        payload.put("original_title", "Fight Club");
+        payload.put("overview", "자신의 무료한 삶에 지친 남자가 비누 판매상 타일러 더든을 만나 지하 격투 클럽을 만든다. ".repeat(4));
+        payload.put("release_date", "1999-10-15");
+        payload.put("runtime", 139);
+        payload.put("popularity", 61.416);
+        payload.put("vote_average", 8.4);
+        payload.put("vote_count", 30125);
+        payload.put("poster_image_url", "https://image.tmdb.org/t/p/w500/pB8BM7pdSp6B6Ih7QZ4DrQ3PmJK.jpg");
+        payload.put("genres", List.of("드라마", "스릴러"));
+        List<String> cast = new ArrayList<>();
+        for (int i = 0; i < 15; i++) {
+            cast.add("배우 " + i);
+        }
+        payload.put("cast", cast);
+        payload.put("crew", List.of("David Fincher", "Jim Uhls"));
+        payload.put("watch_providers", Map.of("flatrate", List.of("Netflix", "Disney Plus"), "rent", List.of("Apple TV")));
+        volatileFields = Set.of("popularity", "vote_count");
+    }
+
+    @Benchmark
+    public String legacyJsonSha256() throws Exception {
+        byte[] json = om.writeValueAsBytes(payload);
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] d = md.digest(json);
+        StringBuilder sb = new StringBuilder();
+        for (byte b : d) sb.append(String.format("%02x", b));
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String canonical() {
+        return PayloadFingerprinter.sha256(payload, Set.of());
+    }
+
+    @Benchmark
+    public String canonicalWithExclusions() {
+        return PayloadFingerprinter.sha256(payload, volatileFields);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.crawler.service;
+
+import com.example.crawler.rules.MappingRule;
+import com.example.crawler.rules.NormalizerStep;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 규칙 파일별 TransformEngine 처리량 (items/sec)
+ * - legacy: 항목마다 경로 split/괄호 파싱, 목적지 접두 비교, String.replaceAll (기존 구현 복사본)
+ * - compiled: MappingRule.compiled() 실행 계획 사용
+ * - payload는 규칙의 fieldMappings 소스 경로를 따라 합성 (인덱스 경로는 목록으로 채움)
+ *
+ * 실행: ./gradlew :-AOD-All-of-Dopamine-crawler:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TransformEngineBenchmark {
+
+    @Param({
+            "rules/movie/tmdb_movie.yml",
+            "rules/tv/tmdb_tv.yml",
+            "rules/game/steam.yml",
+            "rules/webtoon/naverwebtoon.yml",
+            "rules/webnovel/naverseries.yml",
+            "rules/webnovel/kakaopage.yml"
+    })
+    public String ruleFile;
+
+    private final TransformEngine engine = new TransformEngine();
+    private MappingRule rule;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        rule = new RuleLoader().load(ruleFile);
+        payload = new HashMap<>();
+        for (String src : rule.getFieldMappings().keySet()) {
+            fill(payload, src.split("\\."), 0, "  값 (" + src + ")  시즌 2 ");
+        }
+        if (!legacy().equals(compiled())) {
+            throw new IllegalStateException("compiled/legacy 결과 불일치: " + ruleFile);
+        }
+    }
+
+    @Benchmark
+    public TransformEngine.Triple legacy() {
+        return LegacyTransform.transform(payload, rule);
+    }
+
+    @Benchmark
+    public TransformEngine.Triple compiled() {
+        return engine.transform(payload, rule);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void fill(Map<String, Object> node, String[] parts, int depth, String leaf) {
+        String part = parts[depth];
+        int index = -1;
+        if (part.contains("[") && part.endsWith("]")) {
+            index = Integer.parseInt(part.substring(part.indexOf('[') + 1, part.length() - 1));
+            part = part.substring(0, part.indexOf('['));
+        }
+        boolean last = depth == parts.length - 1;
+        if (index < 0) {
+            if (last) {
+                node.putIfAbsent(part, leaf);
+            } else {
+                Object child = node.computeIfAbsent(part, k -> new HashMap<String, Object>());
+                if (child instanceof Map<?, ?> m) fill((Map<String, Object>) m, parts, depth + 1, leaf);
+            }
+            return;
+        }
+        Object existing = node.computeIfAbsent(part, k -> new ArrayList<>());
+        if (!(existing instanceof List<?>)) return;
+        List<Object> list = (List<Object>) existing;
+        while (list.size() <= index) {
+            list.add(last ? leaf : new HashMap<String, Object>());
+        }
+        if (!last && list.get(index) instanceof Map<?, ?> m) {
+            fill((Map<String, Object>) m, parts, depth + 1, leaf);
+        }
+    }
+
+    /**
+     * 컴파일 도입 전 TransformEngine.transform 복사본 (비교 기준)
+     */
+    static final class LegacyTransform {
+
+        static TransformEngine.Triple transform(Map<String, Object> raw, MappingRule rule) {
+            TransformEngine.MasterDoc master = new TransformEngine.MasterDoc();
+            TransformEngine.PlatformDoc platform = new TransformEngine.PlatformDoc();
+            platform.put("platformName", rule.getPlatformName());
+            TransformEngine.DomainDoc domain = new TransformEngine.DomainDoc();
+
+            for (var e : rule.getFieldMappings().entrySet()) {
+                String dst = e.getValue();
+                Object val = TransformEngine.deepGet(raw, e.getKey());
+                if (val == null && dst.startsWith("platform.attributes.")) {
+                    String attrName = dst.substring("platform.attributes.".length());
+                    if (attrName.contains("count") || attrName.contains("runtime")) {
+                        val = 0;
+                    } else if (attrName.equals("cast") || attrName.equals("crew")) {
+                        val = Collections.emptyList();
+                    } else {
+                        val = "";
+                    }
+                }
+                if (val == null) continue;
+                if (dst.startsWith("platform.")) {
+                    String rest = dst.substring("platform.".length());
+                    if (rest.startsWith("attributes.")) {
+                        platform.attributes().put(rest.substring("attributes.".length()), val);
+                    } else {
+                        platform.put(rest, val);
+                    }
+                } else if (dst.startsWith("domain.")) {
+                    domain.put(dst.substring("domain.".length()), val);
+                } else {
+                    master.put(dst, val);
+                }
+            }
+            applyNormalizers(master, rule.getNormalizers());
+            return new TransformEngine.Triple(master, platform, domain);
+        }
+
+        private static void applyNormalizers(TransformEngine.MasterDoc doc, List<NormalizerStep> steps) {
+            if (steps == null) return;
+            for (NormalizerStep step : steps) {
+                if (step.getFields() == null) continue;
+                for (String f : step.getFields()) {
+                    if (!(doc.get(f) instanceof String s)) continue;
+                    switch (step.getType()) {
+                        case "lowercase" -> doc.put(f, s.toLowerCase());
+                        case "strip_parentheses" -> doc.put(f, s.replaceAll("\\([^)]*\\)", ""));
+                        case "collapse_spaces" -> doc.put(f, s.replaceAll("\\s+", " ").trim());
+                        case "nfkc" -> doc.put(f, java.text.Normalizer.normalize(s, java.text.Normalizer.Form.NFKC));
+                        case "strip_brackets" -> doc.put(f, s.replaceAll("\\[[^\\]]*\\]", ""));
+                        case "strip_series_qualifiers" -> doc.put(f, s.replaceAll("(시즌\\s*\\d+|외전|스페셜)$", "").trim());
+                        default -> { /* noop */ }
+                    }
+                }
+            }
+        }
+    }
+}
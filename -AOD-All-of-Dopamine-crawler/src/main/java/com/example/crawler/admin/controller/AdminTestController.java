@@ -6,10 +6,13 @@ import com.example.crawler.contents.Novel.NaverSeriesNovel.NaverSeriesCrawler;
 import com.example.crawler.contents.Webtoon.NaverWebtoon.NaverWebtoonService;
 import com.example.crawler.ingest.BatchTransformService;
 import com.example.crawler.ingest.BatchTransformServiceOptimized;
+import com.example.crawler.ingest.RawItemQuarantine;
+import com.example.crawler.ingest.RuleReprocessJob;
 import com.example.shared.entity.RawItem;
 import com.example.shared.repository.RawItemRepository;
 import com.example.crawler.rules.MappingRule;
 import com.example.crawler.service.RuleLoader;
+import com.example.crawler.service.RuleRegistry;
 import com.example.crawler.service.TransformEngine;
 import com.example.crawler.service.UpsertService;
 
@@ -32,6 +35,9 @@ public class AdminTestController {
     private final BatchTransformServiceOptimized batchServiceOptimized;
     private final RawItemRepository rawRepo;
     private final RuleLoader ruleLoader;
+    private final RuleRegistry ruleRegistry;
+    private final RuleReprocessJob ruleReprocessJob;
+    private final RawItemQuarantine rawItemQuarantine;
     private final TransformEngine transformEngine;
     private final UpsertService upsertService;
 
@@ -42,6 +48,9 @@ public class AdminTestController {
                                BatchTransformServiceOptimized batchServiceOptimized,
                                RawItemRepository rawRepo,
                                RuleLoader ruleLoader,
+                               RuleRegistry ruleRegistry,
+                               RuleReprocessJob ruleReprocessJob,
+                               RawItemQuarantine rawItemQuarantine,
                                TransformEngine transformEngine,
                                UpsertService upsertService) {
         this.naverSeriesCrawler = naverSeriesCrawler;
@@ -51,6 +60,9 @@ public class AdminTestController {
         this.batchServiceOptimized = batchServiceOptimized;
         this.rawRepo = rawRepo;
         this.ruleLoader = ruleLoader;
+        this.ruleRegistry = ruleRegistry;
+        this.ruleReprocessJob = ruleReprocessJob;
+        this.rawItemQuarantine = rawItemQuarantine;
         this.transformEngine = transformEngine;
         this.upsertService = upsertService;
     }
@@ -318,39 +330,33 @@ public class AdminTestController {
     }
 
     // 규칙 프리뷰: payload + rulePath로 transform만 수행해 확인 (DB 반영 X)
+    // - rulePath가 없으면 domain/platformName으로 레지스트리의 현재 규칙 사용
+    // - 레지스트리에 없는 rulePath는 classpath에서 직접 로드 (작성 중인 규칙 확인용)
     @PostMapping(path = "/transform/preview", consumes = MediaType.APPLICATION_JSON_VALUE)
     public Map<String, Object> previewTransform(@RequestBody PreviewRequest req) {
-        String rulePath = (req.rulePath() != null && !req.rulePath().isBlank())
-                ? req.rulePath()
-                : defaultRulePath(req.domain(), req.platformName());
+        MappingRule rule;
+        String rulePath;
+        if (req.rulePath() != null && !req.rulePath().isBlank()) {
+            rulePath = req.rulePath();
+            rule = ruleRegistry.findBySource(rulePath)
+                    .map(RuleRegistry.Entry::rule)
+                    .orElseGet(() -> ruleLoader.load(rulePath));
+        } else {
+            RuleRegistry.Entry entry = ruleRegistry.require(req.domain(), req.platformName());
+            rulePath = entry.source();
+            rule = entry.rule();
+        }
 
-        MappingRule rule = ruleLoader.load(rulePath);
         var tri = transformEngine.transform(req.payload(), rule);
         return Map.of(
                 "rulePath", rulePath,
+                "ruleVersion", rule.getSchemaVersion(),
                 "master", tri.master(),
                 "platform", tri.platform(),
                 "domain", tri.domain()
         );
     }
 
-    private String defaultRulePath(String domain, String platform) {
-        if ("WEBNOVEL".equalsIgnoreCase(domain)) {
-            if ("NaverSeries".equalsIgnoreCase(platform)) return "rules/webnovel/naverseries.yml";
-            if ("KakaoPage".equalsIgnoreCase(platform))   return "rules/webnovel/kakaopage.yml";
-        }
-        if ("WEBTOON".equalsIgnoreCase(domain)) {
-            if ("NaverWebtoon".equalsIgnoreCase(platform)) return "rules/webtoon/naverwebtoon.yml";
-        }
-        if ("AV".equalsIgnoreCase(domain)) {
-            if ("TMDB".equalsIgnoreCase(platform)) return "rules/av/tmdb.yml";
-        }
-        if ("GAME".equalsIgnoreCase(domain)) {
-            if ("Steam".equalsIgnoreCase(platform)) return "rules/game/steam.yml";
-        }
-        throw new IllegalArgumentException("No default rule for domain=" + domain + ", platform=" + platform);
-    }
-
     /* ===================== 요청 DTO ===================== */
 
     public record CrawlRequest(String baseListUrl, String cookie, Integer pages) {}
@@ -394,6 +400,9 @@ public class AdminTestController {
         // processed를 false로 변경
         raw.setProcessed(false);
         raw.setProcessedAt(null);
+        raw.setAttemptCount(0);
+        raw.setNextAttemptAt(null);
+        raw.setDeadLetteredAt(null);
         rawRepo.save(raw);
         
         // 다시 처리
@@ -406,6 +415,41 @@ public class AdminTestController {
         );
     }
 
+    /**
+     * 규칙 버전 재처리: 현재 규칙보다 낮은 버전으로 변환된 항목만 재적재 (백그라운드 실행)
+     * - platform 미지정 시 전체 규칙 대상
+     */
+    @PostMapping("/batch/reprocess-rules")
+    public Map<String, Object> reprocessByRuleVersion(@RequestParam(required = false) String domain,
+                                                      @RequestParam(required = false) String platform) {
+        boolean started = ruleReprocessJob.trigger(domain, platform);
+        return Map.of(
+                "started", started,
+                "message", started ? "규칙 버전 재처리 시작" : "이미 재처리 작업이 실행 중입니다"
+        );
+    }
+
+    /**
+     * 격리(dead letter)된 항목 현황 (플랫폼별 건수, 게이지 캐시 기준)
+     */
+    @GetMapping("/batch/dead-letter")
+    public Map<String, Long> deadLetterStatus() {
+        return rawItemQuarantine.deadLetterCounts();
+    }
+
+    /**
+     * 격리된 항목을 시도 횟수 초기화 후 다시 변환 대상으로 (규칙/파서 수정 후 사용)
+     * - platform 미지정 시 전체
+     */
+    @PostMapping("/batch/dead-letter/retry")
+    public Map<String, Object> retryDeadLetters(@RequestParam(required = false) String platform) {
+        int released = rawItemQuarantine.releaseDeadLetters(platform);
+        return Map.of(
+                "released", released,
+                "message", "격리 항목 " + released + "건 재시도 대상으로 복귀"
+        );
+    }
+
     /**
      * 중복 검사 테스트용: 최근 처리된 N개를 다시 처리
      */
@@ -1,5 +1,8 @@
 package com.example.crawler.config;
 
+import com.example.crawler.ingest.CollectorService;
+import com.example.shared.schema.ContentChangeTracking;
+import com.example.shared.schema.RankingVersionTracking;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
@@ -23,6 +26,7 @@ import org.springframework.stereotype.Component;
 public class DatabaseIndexInitializer {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CollectorService collectorService;
 
     /**
      * 애플리케이션 준비 완료 후 인덱스 생성
@@ -46,6 +50,95 @@ public class DatabaseIndexInitializer {
         }
     }
     
+    /**
+     * platform_data / 도메인 상세 변경 시 contents.updated_at 갱신 트리거
+     * - ddl-auto=create로 테이블을 다시 만들면 트리거도 사라지므로 크롤러 기동 시에도 설치
+     * - 지표 전용 경로(PlatformMetricsWriter)의 UPDATE도 같은 문장에서 작품 갱신 시각에 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureContentChangeTracking() {
+        try {
+            ContentChangeTracking.install(jdbcTemplate);
+            log.info("✅ Content change tracking triggers verified");
+        } catch (Exception e) {
+            log.warn("⚠ Failed to ensure content change tracking triggers: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * external_ranking 변경 시 플랫폼별 랭킹 버전 갱신 트리거 (API 랭킹 ETag / Last-Modified)
+     * - ddl-auto=create로 external_ranking을 다시 만들면 트리거가 사라지므로 크롤러 기동 시에도 설치
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRankingVersionTracking() {
+        try {
+            RankingVersionTracking.install(jdbcTemplate);
+            log.info("✅ Ranking version tracking triggers verified");
+        } catch (Exception e) {
+            log.warn("⚠ Failed to ensure ranking version tracking triggers: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * raw_items 배치 upsert(ON CONFLICT) 대상 유니크 키 확인
+     * - ddl-auto=create면 엔티티 제약으로 생성되지만, 기존 DB(validate/none)에는 없을 수 있음
+     * - 중복 데이터가 남아 있으면 생성 실패 → 인덱스 유무를 CollectorService에 다시 확인시켜 건별 저장으로 전환
+     *   (인덱스 없이 ON CONFLICT를 실행하면 배치마다 SQL 오류)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRawItemUpsertKey() {
+        try {
+            jdbcTemplate.execute(
+                "CREATE UNIQUE INDEX IF NOT EXISTS uk_raw_platform_id " +
+                "ON raw_items (platform_name, platform_specific_id)");
+            log.info("✅ raw_items upsert key (platform_name, platform_specific_id) verified");
+        } catch (Exception e) {
+            log.warn("⚠ Failed to ensure raw_items upsert key: {}", e.getMessage());
+        }
+        try {
+            collectorService.refreshUpsertKey();
+        } catch (Exception e) {
+            log.warn("⚠ Failed to check raw_items upsert key: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * transform_runs.rule_version 컬럼 / raw_id 인덱스 확인 (기존 DB에는 없을 수 있음)
+     * - 규칙 버전이 바뀐 항목만 재처리할 때 사용 (RuleReprocessJob)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTransformRunRuleVersion() {
+        try {
+            jdbcTemplate.execute("ALTER TABLE transform_runs ADD COLUMN IF NOT EXISTS rule_version integer");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_tr_raw ON transform_runs (raw_id, run_id)");
+            log.info("✅ transform_runs.rule_version column verified");
+        } catch (Exception e) {
+            log.warn("⚠ Failed to ensure transform_runs.rule_version: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * raw_items 재시도/격리 컬럼과 미처리 부분 인덱스 확인 (기존 DB에는 없을 수 있음)
+     * - lockNextBatch는 격리되지 않은 미처리 항목만 fetched_at 순으로 잡음 (RawItemQuarantine)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureRawItemRetryColumns() {
+        try {
+            jdbcTemplate.execute("ALTER TABLE raw_items ADD COLUMN IF NOT EXISTS attempt_count integer NOT NULL DEFAULT 0");
+            jdbcTemplate.execute("ALTER TABLE raw_items ADD COLUMN IF NOT EXISTS next_attempt_at timestamp(6) with time zone");
+            jdbcTemplate.execute("ALTER TABLE raw_items ADD COLUMN IF NOT EXISTS dead_lettered_at timestamp(6) with time zone");
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_raw_pending ON raw_items (fetched_at) " +
+                "WHERE processed = false AND dead_lettered_at IS NULL");
+            jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_raw_dead ON raw_items (platform_name) " +
+                "WHERE dead_lettered_at IS NOT NULL");
+            log.info("✅ raw_items retry/dead-letter columns verified");
+        } catch (Exception e) {
+            log.warn("⚠ Failed to ensure raw_items retry columns: {}", e.getMessage());
+        }
+    }
+
     /**
      * 인덱스 존재 여부 확인 후 없으면 생성
      */
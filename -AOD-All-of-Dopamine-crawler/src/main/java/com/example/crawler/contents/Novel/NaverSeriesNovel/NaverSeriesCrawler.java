@@ -1,6 +1,7 @@
 package com.example.crawler.contents.Novel.NaverSeriesNovel;
 
 import com.example.crawler.ingest.CollectorService;
+import com.example.crawler.ingest.RawItemBuffer;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -54,6 +55,13 @@ public class NaverSeriesCrawler {
     }
 
     public int crawlToRaw(String baseListUrl, String cookieString, int maxPages) throws Exception {
+        // 상세 페이지 결과를 버퍼에 모아 배치 upsert (중단/예외 시에도 close에서 flush)
+        try (RawItemBuffer buffer = collector.newBuffer()) {
+            return crawlToRaw(buffer, baseListUrl, cookieString, maxPages);
+        }
+    }
+
+    private int crawlToRaw(RawItemBuffer buffer, String baseListUrl, String cookieString, int maxPages) throws Exception {
         int saved = 0;
         int page = 1;
 
@@ -202,7 +210,7 @@ public class NaverSeriesCrawler {
                 // [추가됨] 1화 날짜 payload에 추가
                 payload.put("firstDate", firstDate);
 
-                collector.saveRaw("NaverSeries", "WEBNOVEL", payload, titleId, productUrl);
+                buffer.add("NaverSeries", "WEBNOVEL", payload, titleId, productUrl);
                 saved++;
             }
 
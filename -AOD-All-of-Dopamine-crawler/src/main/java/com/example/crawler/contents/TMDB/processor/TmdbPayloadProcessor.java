@@ -15,9 +15,9 @@ public class TmdbPayloadProcessor {
     /**
      * TMDB API의 원본 응답 페이로드를 받아 필요한 데이터만 추출하고 정제하여 새로운 Map으로 반환합니다.
      * 
-     * 주의: CollectorService에서 platformSpecificId 기반 중복 감지를 사용하므로
-     * 동적 필드(vote_count, popularity 등)를 제거하지 않습니다.
-     * 이렇게 하면 데이터 갱신 시 최신 정보가 자동으로 반영됩니다.
+     * 동적 지표(popularity, vote_count, vote_average)도 payload에 담지만,
+     * raw_items 해시에서는 제외되고 PlatformMetricsWriter가 attributes에 직접 반영합니다.
+     * (지표만 바뀐 재수집은 transform/merge를 다시 타지 않음, VolatileMetricCatalog 참고)
      * 
      * @param rawPayload TMDB API 원본 응답
      * @return 정제된 데이터 맵
@@ -40,9 +40,8 @@ public class TmdbPayloadProcessor {
         // 5. 시청 가능 OTT(watch providers) 이름 추출
         extractWatchProviders(rawPayload, processedPayload);
 
-        // 동적 필드(popularity, vote_count 등)는 제거하지 않음!
-        // platformSpecificId 기반 중복 감지를 사용하므로 모든 데이터를 유지하여
-        // 데이터 변경 시 자동 갱신이 가능하도록 함
+        // 6. 동적 지표 (해시 제외, 지표 전용 경로로 반영)
+        copyMetricFields(rawPayload, processedPayload);
 
         return processedPayload;
     }
@@ -60,6 +59,14 @@ public class TmdbPayloadProcessor {
         }
     }
 
+    private void copyMetricFields(Map<String, Object> source, Map<String, Object> dest) {
+        for (String field : new String[]{"popularity", "vote_count", "vote_average"}) {
+            if (source.get(field) != null) {
+                dest.put(field, source.get(field));
+            }
+        }
+    }
+
     private void convertPosterPathToUrl(Map<String, Object> source, Map<String, Object> dest) {
         if (source.containsKey("poster_path") && source.get("poster_path") != null) {
             String posterPath = source.get("poster_path").toString();
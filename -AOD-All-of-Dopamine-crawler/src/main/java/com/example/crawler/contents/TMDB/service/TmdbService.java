@@ -8,6 +8,7 @@ import com.example.crawler.contents.TMDB.dto.TmdbTvShow;
 import com.example.crawler.contents.TMDB.dto.WatchProviderResult;
 import com.example.crawler.contents.TMDB.fetcher.TmdbApiFetcher;
 import com.example.crawler.ingest.CollectorService;
+import com.example.crawler.ingest.RawItemBuffer;
 import com.example.crawler.util.InterruptibleSleep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -123,6 +124,34 @@ public class TmdbService {
     }
 
 
+    // --- 단건 수집 로직 (우선순위 크롤링 큐용) ---
+
+    /**
+     * 특정 TMDB 영화 하나의 상세 정보를 수집하여 raw_items에 저장
+     * @return 저장 성공 여부
+     */
+    public boolean collectMovieById(int movieId, String language) {
+        try {
+            return saveMovieDetails(movieId, language);
+        } catch (Exception e) {
+            log.error("영화 상세 정보 처리 중 오류 발생 (ID: {}): {}", movieId, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 특정 TMDB TV쇼 하나의 상세 정보를 수집하여 raw_items에 저장
+     * @return 저장 성공 여부
+     */
+    public boolean collectTvShowById(int tvId, String language) {
+        try {
+            return saveTvShowDetails(tvId, language);
+        } catch (Exception e) {
+            log.error("TV쇼 상세 정보 처리 중 오류 발생 (ID: {}): {}", tvId, e.getMessage());
+            return false;
+        }
+    }
+
     // --- Private Helper Methods ---
 
     public void collectMoviesForPeriod(String startDate, String endDate, String language, int maxPages) {
@@ -164,19 +193,19 @@ public class TmdbService {
     }
 
     private void processMovieList(java.util.List<TmdbMovie> movies, String language) {
-        for (TmdbMovie movie : movies) {
-            try {
-                Map<String, Object> detailedData = tmdbApiFetcher.getMovieDetails(movie.getId(), language);
-                Map<String, Object> processedData = payloadProcessor.process(detailedData);
-                // av_type 필드 제거 - 도메인이 MOVIE로 분리됨
-                collectorService.saveRaw("TMDB_MOVIE", "MOVIE", processedData, String.valueOf(movie.getId()), "https://www.themoviedb.org/movie/" + movie.getId());
-                
-                if (!InterruptibleSleep.sleep(100, TimeUnit.MILLISECONDS)) {
-                    log.info("TMDB 영화 상세 처리 중 인터럽트 발생, 작업 중단");
-                    return;
+        // 페이지 단위로 모아서 한 번에 upsert (중단 시에도 close에서 flush)
+        try (RawItemBuffer buffer = collectorService.newBuffer()) {
+            for (TmdbMovie movie : movies) {
+                try {
+                    bufferMovieDetails(buffer, movie.getId(), language);
+
+                    if (!InterruptibleSleep.sleep(100, TimeUnit.MILLISECONDS)) {
+                        log.info("TMDB 영화 상세 처리 중 인터럽트 발생, 작업 중단");
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.error("영화 상세 정보 처리 중 오류 발생 (ID: {}): {}", movie.getId(), e.getMessage());
                 }
-            } catch (Exception e) {
-                log.error("영화 상세 정보 처리 중 오류 발생 (ID: {}): {}", movie.getId(), e.getMessage());
             }
         }
     }
@@ -220,20 +249,47 @@ public class TmdbService {
     }
 
     private void processTvShowList(java.util.List<TmdbTvShow> tvShows, String language) {
-        for (TmdbTvShow tvShow : tvShows) {
-            try {
-                Map<String, Object> detailedData = tmdbApiFetcher.getTvShowDetails(tvShow.getId(), language);
-                Map<String, Object> processedData = payloadProcessor.process(detailedData);
-                collectorService.saveRaw("TMDB_TV", "TV", processedData, String.valueOf(tvShow.getId()), "https://www.themoviedb.org/tv/" + tvShow.getId());
-                
-                if (!InterruptibleSleep.sleep(100, TimeUnit.MILLISECONDS)) {
-                    log.info("TMDB TV쇼 상세 처리 중 인터럽트 발생, 작업 중단");
-                    return;
+        try (RawItemBuffer buffer = collectorService.newBuffer()) {
+            for (TmdbTvShow tvShow : tvShows) {
+                try {
+                    bufferTvShowDetails(buffer, tvShow.getId(), language);
+
+                    if (!InterruptibleSleep.sleep(100, TimeUnit.MILLISECONDS)) {
+                        log.info("TMDB TV쇼 상세 처리 중 인터럽트 발생, 작업 중단");
+                        return;
+                    }
+                } catch (Exception e) {
+                    log.error("TV쇼 상세 정보 처리 중 오류 발생 (ID: {}): {}", tvShow.getId(), e.getMessage());
                 }
-            } catch (Exception e) {
-                log.error("TV쇼 상세 정보 처리 중 오류 발생 (ID: {}): {}", tvShow.getId(), e.getMessage());
             }
         }
     }
+
+    private boolean saveMovieDetails(int movieId, String language) {
+        Map<String, Object> detailedData = tmdbApiFetcher.getMovieDetails(movieId, language);
+        if (detailedData == null) return false;
+        Map<String, Object> processedData = payloadProcessor.process(detailedData);
+        // av_type 필드 제거 - 도메인이 MOVIE로 분리됨
+        return collectorService.saveRaw("TMDB_MOVIE", "MOVIE", processedData, String.valueOf(movieId), "https://www.themoviedb.org/movie/" + movieId) > 0;
+    }
+
+    private boolean saveTvShowDetails(int tvId, String language) {
+        Map<String, Object> detailedData = tmdbApiFetcher.getTvShowDetails(tvId, language);
+        if (detailedData == null) return false;
+        Map<String, Object> processedData = payloadProcessor.process(detailedData);
+        return collectorService.saveRaw("TMDB_TV", "TV", processedData, String.valueOf(tvId), "https://www.themoviedb.org/tv/" + tvId) > 0;
+    }
+
+    private void bufferMovieDetails(RawItemBuffer buffer, int movieId, String language) {
+        Map<String, Object> detailedData = tmdbApiFetcher.getMovieDetails(movieId, language);
+        if (detailedData == null) return;
+        buffer.add("TMDB_MOVIE", "MOVIE", payloadProcessor.process(detailedData), String.valueOf(movieId), "https://www.themoviedb.org/movie/" + movieId);
+    }
+
+    private void bufferTvShowDetails(RawItemBuffer buffer, int tvId, String language) {
+        Map<String, Object> detailedData = tmdbApiFetcher.getTvShowDetails(tvId, language);
+        if (detailedData == null) return;
+        buffer.add("TMDB_TV", "TV", payloadProcessor.process(detailedData), String.valueOf(tvId), "https://www.themoviedb.org/tv/" + tvId);
+    }
 }
 
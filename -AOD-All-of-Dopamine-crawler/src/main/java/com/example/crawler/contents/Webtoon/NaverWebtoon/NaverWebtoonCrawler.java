@@ -2,6 +2,7 @@ package com.example.crawler.contents.Webtoon.NaverWebtoon;
 
 
 import com.example.crawler.ingest.CollectorService;
+import com.example.crawler.ingest.RawItemBuffer;
 import com.example.crawler.util.InterruptibleSleep;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -105,6 +106,12 @@ public class NaverWebtoonCrawler {
      * 웹툰 목록 크롤링 (페이지네이션 지원)
      */
     private int crawlWebtoonListWithPagination(String baseUrl, String crawlSource, String weekday, int maxPages) throws Exception {
+        try (RawItemBuffer buffer = collector.newBuffer()) {
+            return crawlWebtoonListWithPagination(buffer, baseUrl, crawlSource, weekday, maxPages);
+        }
+    }
+
+    private int crawlWebtoonListWithPagination(RawItemBuffer buffer, String baseUrl, String crawlSource, String weekday, int maxPages) throws Exception {
         int totalSaved = 0;
         int page = 1;
 
@@ -147,7 +154,7 @@ public class NaverWebtoonCrawler {
                             continue;
                         }
                         
-                        saveToRaw(completeDTO);
+                        saveToRaw(buffer, completeDTO);
                         totalSaved++;
 
                         // 과도한 요청 방지를 위한 딜레이
@@ -186,6 +193,12 @@ public class NaverWebtoonCrawler {
      * 단일 페이지 웹툰 목록 크롤링 (요일별용)
      */
     private int crawlWebtoonList(String url, String crawlSource, String weekday, int maxPages) throws Exception {
+        try (RawItemBuffer buffer = collector.newBuffer()) {
+            return crawlWebtoonList(buffer, url, crawlSource, weekday, maxPages);
+        }
+    }
+
+    private int crawlWebtoonList(RawItemBuffer buffer, String url, String crawlSource, String weekday, int maxPages) throws Exception {
         Document listDoc = get(url);
 
         // 목록에서 웹툰과 기본 정보를 함께 추출
@@ -213,7 +226,7 @@ public class NaverWebtoonCrawler {
                     continue;
                 }
                 
-                saveToRaw(completeDTO);
+                saveToRaw(buffer, completeDTO);
                 saved++;
 
                 // 과도한 요청 방지를 위한 딜레이
@@ -304,9 +317,9 @@ public class NaverWebtoonCrawler {
     }
 
     /**
-     * DTO를 raw_items에 저장
+     * DTO를 raw_items 적재 버퍼에 추가
      */
-    private void saveToRaw(NaverWebtoonDTO dto) {
+    private void saveToRaw(RawItemBuffer buffer, NaverWebtoonDTO dto) {
         Map<String, Object> payload = new LinkedHashMap<>();
 
         // 모든 DTO 필드를 평평한 Map으로 변환
@@ -333,8 +346,8 @@ public class NaverWebtoonCrawler {
         payload.put("originalPlatform", nz(dto.getOriginalPlatform()));
         payload.put("crawlSource", nz(dto.getCrawlSource()));
 
-        // CollectorService를 통해 raw_items에 저장
-        collector.saveRaw("NaverWebtoon", "WEBTOON", payload, dto.getTitleId(), dto.getProductUrl());
+        // 버퍼에 모았다가 CollectorService.saveRawBatch로 일괄 저장
+        buffer.add("NaverWebtoon", "WEBTOON", payload, dto.getTitleId(), dto.getProductUrl());
     }
 
     // ==== 유틸리티 메서드들 ====
@@ -3,6 +3,7 @@ package com.example.crawler.game.steam.service;
 import com.example.crawler.game.steam.fetcher.SteamApiFetcher;
 import com.example.crawler.game.steam.processor.SteamPayloadProcessor;
 import com.example.crawler.ingest.CollectorService;
+import com.example.crawler.ingest.RawItemBuffer;
 import com.example.crawler.util.InterruptibleSleep;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -78,34 +79,36 @@ public class SteamCrawlService {
 
     private int collectGamesFromList(List<Map<String, Object>> appList) {
         int collectedCount = 0;
-        for (Map<String, Object> app : appList) {
-            Long appId = ((Number) app.get("appid")).longValue();
-            String appName = (String) app.get("name");
+        try (RawItemBuffer buffer = collectorService.newBuffer()) {
+            for (Map<String, Object> app : appList) {
+                Long appId = ((Number) app.get("appid")).longValue();
+                String appName = (String) app.get("name");
 
-            if (appName == null || appName.isBlank()) {
-                continue;
-            }
-
-            try {
-                // Rate Limiter가 자동으로 요청 제한을 처리하므로 별도 딜레이 불필요
-                Map<String, Object> gameDetails = steamApiFetcher.fetchGameDetails(appId);
-
-                if (gameDetails != null && "game".equals(gameDetails.get("type"))) {
-                    Map<String, Object> processedDetails = payloadProcessor.process(gameDetails);
-                    collectorService.saveRaw(
-                            "Steam",
-                            "GAME",
-                            processedDetails,
-                            String.valueOf(appId),
-                            "https://store.steampowered.com/app/" + appId);
-                    collectedCount++;
-                    log.info("Steam 게임 수집 성공: {} (ID: {})", appName, appId);
-                } else {
-                    log.debug("Skipping AppID {} ({}): Not a game or details unavailable.", appId, appName);
+                if (appName == null || appName.isBlank()) {
+                    continue;
                 }
 
-            } catch (Exception e) {
-                log.error("Steam 게임 ID {} ({}) 처리 중 오류 발생: {}", appId, appName, e.getMessage());
+                try {
+                    // Rate Limiter가 자동으로 요청 제한을 처리하므로 별도 딜레이 불필요
+                    Map<String, Object> gameDetails = steamApiFetcher.fetchGameDetails(appId);
+
+                    if (gameDetails != null && "game".equals(gameDetails.get("type"))) {
+                        Map<String, Object> processedDetails = payloadProcessor.process(gameDetails);
+                        buffer.add(
+                                "Steam",
+                                "GAME",
+                                processedDetails,
+                                String.valueOf(appId),
+                                "https://store.steampowered.com/app/" + appId);
+                        collectedCount++;
+                        log.info("Steam 게임 수집 성공: {} (ID: {})", appName, appId);
+                    } else {
+                        log.debug("Skipping AppID {} ({}): Not a game or details unavailable.", appId, appName);
+                    }
+
+                } catch (Exception e) {
+                    log.error("Steam 게임 ID {} ({}) 처리 중 오류 발생: {}", appId, appName, e.getMessage());
+                }
             }
         }
         log.info("Steam 게임 데이터 수집 완료. 현재 작업에서 총 {}개의 유효한 게임을 수집했습니다.", collectedCount);
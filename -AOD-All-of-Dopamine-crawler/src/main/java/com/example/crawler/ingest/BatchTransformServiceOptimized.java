@@ -3,21 +3,33 @@ package com.example.crawler.ingest;
 import com.example.shared.entity.Domain;
 import com.example.shared.entity.RawItem;
 import com.example.shared.repository.RawItemRepository;
-import com.example.crawler.rules.MappingRule;
-import com.example.crawler.service.RuleLoader;
+import com.example.crawler.service.BatchInsertWriter;
+import com.example.crawler.service.RuleRegistry;
 import com.example.crawler.service.TransformEngine;
 import com.example.crawler.service.UpsertService;
+import com.example.crawler.service.similarity.ContentMergeService;
+import com.example.crawler.service.similarity.MergeLookup;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.sql.Timestamp;
+import java.sql.Types;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * 🚀 최적화된 배치 변환 서비스
@@ -25,9 +37,21 @@ import java.util.concurrent.Executors;
  * 주요 개선사항:
  * 1. 배치 크기 증가 (100 → 500~1000)
  * 2. 벌크 처리 (saveAll 사용)
- * 3. 병렬 워커 지원
- * 4. 규칙 캐싱
+ * 3. 병렬 워커 지원 (배치마다 TransactionTemplate으로 독립 트랜잭션)
+ * 4. 규칙은 RuleRegistry에서 조회 (컴파일된 규칙 공유, 사용한 schemaVersion을 TransformRun에 기록)
  * 5. 주기적 flush/clear
+ * 6. 배치 중 한 건이라도 실패하면 배치를 롤백하고 같은 항목을 건별 트랜잭션으로 재처리
+ *    (UpsertService가 바깥 트랜잭션에 참여하므로 한 건 실패 = 전체 rollback-only)
+ * 7. 단계별 파이프라인 (claim → transform → lookup → upsert → write)
+ *    - transform: 규칙 적용 + 엔티티 구성(DB 접근 없음)을 청크 단위로 CPU 풀에서 병렬 수행
+ *    - 앞서 나가는 청크는 max-in-flight-chunks개로 제한 (변환 결과가 메모리에 쌓이지 않게)
+ *    - lookup: 청크의 중복 후보/기존 PlatformData를 도메인·플랫폼별 쿼리 1회로 일괄 조회
+ *    - upsert: 병합/갱신 판단은 메모리에서, 새 행은 BatchInserts에 모으기만 함
+ *    - flush: 청크의 새 contents / platform_data는 JDBC 배치 INSERT (ID는 시퀀스에서 청크 단위로 할당),
+ *      도메인 상세 INSERT와 기존 행 UPDATE는 Hibernate 배치 → 청크당 왕복 수가 항목 수와 무관
+ *    - write: transform_runs INSERT와 raw_items processed 갱신을 배치 끝에 JDBC로 한 번에
+ *    - 단계별 소요 시간은 crawler.transform.stage.duration{stage}
+ * 8. 건별 처리에서도 실패한 항목은 RawItemQuarantine이 재시도 백오프/격리 (lockNextBatch가 대기 중인 항목을 건너뜀)
  */
 @Slf4j
 @Service
@@ -36,13 +60,62 @@ public class BatchTransformServiceOptimized {
 
     private final RawItemRepository rawRepo;
     private final TransformRunRepository runRepo;
-    private final RuleLoader ruleLoader;
+    private final RuleRegistry ruleRegistry;
     private final TransformEngine transform;
     private final UpsertService upsert;
     private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ContentMergeService contentMergeService;
+    private final JdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+    private final RawItemQuarantine quarantine;
+    private final BatchInsertWriter insertWriter;
 
-    // 🎯 규칙 캐시 (매번 로드 방지)
-    private final Map<String, MappingRule> ruleCache = new HashMap<>();
+    @Value("${crawler.transform.pipeline.cpu-workers:0}")
+    private int cpuWorkers;
+
+    @Value("${crawler.transform.pipeline.chunk-size:50}")
+    private int chunkSize;
+
+    @Value("${crawler.transform.pipeline.max-in-flight-chunks:2}")
+    private int maxInFlightChunks;
+
+    // 변환 단계 전용 CPU 풀 (모든 배치 워커가 공유)
+    private ExecutorService transformPool;
+
+    /**
+     * 배치 처리 결과
+     *
+     * @param claimed   lockNextBatch로 잡은 건수 (0이면 대기 중인 항목 없음)
+     * @param succeeded 변환/업서트 성공 건수
+     * @param failed    실패 건수 (FAILED TransformRun 기록, processed=false 유지)
+     */
+    public record BatchResult(int claimed, int succeeded, int failed) {
+        static final BatchResult EMPTY = new BatchResult(0, 0, 0);
+    }
+
+    /**
+     * 변환 단계 결과 (prepared가 null이면 master title 없음 → 저장 없이 처리 완료)
+     */
+    private record PreparedItem(RawItem raw, RuleRegistry.Entry rule, UpsertService.Prepared prepared) {}
+
+    @PostConstruct
+    void startTransformPool() {
+        int threads = cpuWorkers > 0 ? cpuWorkers : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        transformPool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "transform-cpu-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        chunkSize = Math.max(1, chunkSize);
+        maxInFlightChunks = Math.max(1, maxInFlightChunks);
+    }
+
+    @PreDestroy
+    void stopTransformPool() {
+        transformPool.shutdownNow();
+    }
 
     /**
      * 🚀 단일 배치 처리 (최적화 버전)
@@ -50,86 +123,300 @@ public class BatchTransformServiceOptimized {
      * @param batchSize 배치 크기 (권장: 500~1000)
      * @return 성공적으로 처리된 항목 수
      */
-    @Transactional
     public int processBatchOptimized(int batchSize) {
-        List<RawItem> batch = rawRepo.lockNextBatch(batchSize);
+        return processNextBatch(batchSize).succeeded();
+    }
+
+    /**
+     * 다음 배치를 잡아 독립 트랜잭션에서 처리 (워커/데몬용 진입점)
+     * - lockNextBatch(SKIP LOCKED)로 잡으므로 여러 워커가 동시에 호출해도 같은 항목을 처리하지 않음
+     * - 프록시를 거치지 않는 내부 호출이어도 TransactionTemplate이라 트랜잭션 경계가 유지됨
+     */
+    public BatchResult processNextBatch(int batchSize) {
+        List<Long> claimedIds = new ArrayList<>();
+        try {
+            BatchResult result = transactionTemplate.execute(status -> processClaimedBatch(batchSize, claimedIds));
+            return result != null ? result : BatchResult.EMPTY;
+        } catch (RuntimeException e) {
+            if (claimedIds.isEmpty()) {
+                throw e;
+            }
+            log.warn("⚠️ 배치 롤백 ({} 건), 건별 트랜잭션으로 재처리: {}", claimedIds.size(), e.getMessage());
+            return processIndividually(claimedIds);
+        }
+    }
+
+    private BatchResult processClaimedBatch(int batchSize, List<Long> claimedIds) {
+        List<RawItem> batch = stageTimer("claim").record(() -> rawRepo.lockNextBatch(batchSize));
         if (batch.isEmpty()) {
-            return 0;
+            return BatchResult.EMPTY;
         }
+        batch.forEach(raw -> claimedIds.add(raw.getRawId()));
 
         log.info("📦 배치 처리 시작: {} 건", batch.size());
         long startTime = System.currentTimeMillis();
 
-        int ok = 0;
         Set<Long> processedContentIds = new HashSet<>();
-        List<TransformRun> runsToSave = new ArrayList<>();
-        List<RawItem> itemsToUpdate = new ArrayList<>();
+        List<TransformRun> runsToSave = new ArrayList<>(batch.size());
+        Deque<CompletableFuture<List<PreparedItem>>> inFlight = new ArrayDeque<>();
+        int next = 0;
+
+        try {
+            while (next < batch.size() || !inFlight.isEmpty()) {
+                // 변환 단계: 현재 청크를 쓰는 동안 다음 청크를 CPU 풀에서 미리 변환 (최대 maxInFlightChunks개)
+                while (inFlight.size() < maxInFlightChunks && next < batch.size()) {
+                    List<RawItem> chunk = batch.subList(next, Math.min(next + chunkSize, batch.size()));
+                    inFlight.add(CompletableFuture.supplyAsync(() -> prepareChunk(chunk), transformPool));
+                    next += chunk.size();
+                }
+                // 실패 시 예외가 그대로 전파 → 배치 롤백 후 건별 재처리
+                runsToSave.addAll(upsertChunk(await(inFlight.poll()), processedContentIds));
+            }
+        } catch (RuntimeException e) {
+            inFlight.forEach(future -> future.cancel(true));
+            throw e;
+        }
+
+        // 🚀 벌크 저장
+        stageTimer("write").record(() -> writeResults(runsToSave));
 
-        for (int i = 0; i < batch.size(); i++) {
-            RawItem raw = batch.get(i);
-            TransformRun run = new TransformRun();
-            run.setRawId(raw.getRawId());
-            run.setPlatformName(raw.getPlatformName());
-            run.setDomain(raw.getDomain());
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("✅ 배치 처리 완료: {} / {} 성공 (소요시간: {}ms, 초당 {} 건)", 
+                runsToSave.size(), batch.size(), elapsed, (batch.size() * 1000L / Math.max(elapsed, 1)));
 
-            try {
-                // 규칙 캐싱
-                String rp = rulePath(raw.getDomain(), raw.getPlatformName());
-                run.setRulePath(rp);
-                MappingRule rule = getCachedRule(rp);
-
-                var tri = transform.transform(raw.getSourcePayload(), rule);
-
-                String psid = extractPlatformSpecificId(raw);
-                String url = firstNonNull(raw.getUrl(), asString(deepGet(raw.getSourcePayload(), "url")));
-
-                Long contentId = upsert.upsert(
-                        Domain.valueOf(rule.getDomain()),
-                        tri.master(), tri.platform(), tri.domain(),
-                        psid, url, rule
-                );
-
-                // 중복 체크
-                if (processedContentIds.contains(contentId)) {
-                    run.setStatus("SUCCESS_DUPLICATE");
-                    run.setProducedContentId(contentId);
-                } else {
-                    processedContentIds.add(contentId);
-                    run.setStatus("SUCCESS");
-                    run.setProducedContentId(contentId);
-                }
+        return new BatchResult(batch.size(), runsToSave.size(), 0);
+    }
 
-                ok++;
-                raw.setProcessed(true);
-                raw.setProcessedAt(Instant.now());
-                itemsToUpdate.add(raw);
+    /**
+     * 변환 단계 (CPU 풀): 규칙 적용 + 저장할 엔티티 구성, DB 접근 없음
+     */
+    private List<PreparedItem> prepareChunk(List<RawItem> chunk) {
+        Timer timer = stageTimer("transform");
+        List<PreparedItem> prepared = new ArrayList<>(chunk.size());
+        for (RawItem raw : chunk) {
+            prepared.add(timer.record(() -> prepareOne(raw)));
+        }
+        return prepared;
+    }
 
-            } catch (Exception e) {
-                log.error("처리 실패 (rawId={}): {}", raw.getRawId(), e.getMessage());
-                run.setStatus("FAILED");
-                run.setError(truncate(e.toString(), 500));
-                // 실패 시에도 계속 진행 (전체 배치 롤백 방지)
-            } finally {
-                run.setFinishedAt(Instant.now());
-                runsToSave.add(run);
+    private PreparedItem prepareOne(RawItem raw) {
+        RuleRegistry.Entry entry = ruleRegistry.require(raw.getDomain(), raw.getPlatformName());
+        var rule = entry.rule();
+
+        var tri = transform.transform(raw.getSourcePayload(), entry.plan());
+
+        String psid = extractPlatformSpecificId(raw);
+        String url = firstNonNull(raw.getUrl(), asString(deepGet(raw.getSourcePayload(), "url")));
+
+        UpsertService.Prepared prepared = upsert.prepare(
+                Domain.valueOf(rule.getDomain()),
+                tri.master(), tri.platform(), tri.domain(),
+                psid, url, rule
+        );
+        return new PreparedItem(raw, entry, prepared);
+    }
+
+    /**
+     * 조회 + 업서트 + flush 단계 (트랜잭션 스레드): 청크 단위 일괄 조회 → 건별 병합 판단 → 청크 단위 일괄 저장
+     */
+    private List<TransformRun> upsertChunk(List<PreparedItem> items, Set<Long> processedContentIds) {
+        MergeLookup lookup = stageTimer("lookup").record(() -> prefetch(items));
+
+        List<TransformRun> runs = stageTimer("upsert").record(() -> {
+            List<TransformRun> chunkRuns = new ArrayList<>(items.size());
+            for (PreparedItem item : items) {
+                Long contentId = item.prepared() == null ? null : upsert.apply(item.prepared(), lookup);
+
+                TransformRun run = newRun(item.raw());
+                setRule(run, item.rule());
+                markProduced(run, contentId, processedContentIds);
+                chunkRuns.add(run);
             }
+            return chunkRuns;
+        });
+
+        // 새 행 INSERT + 변경 감지 UPDATE를 청크마다 한 번에, 이후 clear (다음 청크는 새로 조회한 lookup 사용)
+        stageTimer("flush").record(() -> {
+            insertWriter.write(lookup.inserts());
+            entityManager.flush();
+        });
+        entityManager.clear();
+        return runs;
+    }
 
-            // 주기적 flush (메모리 관리)
-            if (i % 100 == 0 && i > 0) {
-                entityManager.flush();
-                entityManager.clear();
+    private MergeLookup prefetch(List<PreparedItem> items) {
+        Map<Domain, Set<String>> keysByDomain = new EnumMap<>(Domain.class);
+        Map<String, Set<String>> psidsByPlatform = new HashMap<>();
+        for (PreparedItem item : items) {
+            UpsertService.Prepared p = item.prepared();
+            if (p == null) continue;
+            String key = p.duplicateKey();
+            if (key != null) {
+                keysByDomain.computeIfAbsent(p.domain(), d -> new HashSet<>()).add(key);
+            }
+            String platformName = p.platformData().getPlatformName();
+            String psid = p.platformData().getPlatformSpecificId();
+            if (platformName != null && psid != null) {
+                psidsByPlatform.computeIfAbsent(platformName, n -> new HashSet<>()).add(psid);
             }
         }
+        return contentMergeService.prefetch(keysByDomain, psidsByPlatform, insertWriter.begin(items.size()));
+    }
 
-        // 🚀 벌크 저장
-        runRepo.saveAll(runsToSave);
-        rawRepo.saveAll(itemsToUpdate);
+    /**
+     * 쓰기 단계: transform_runs 배치 INSERT + raw_items processed 일괄 갱신
+     * - TransformRun은 IDENTITY 키라 Hibernate 배치 INSERT가 꺼지므로 JDBC로 직접 기록
+     */
+    private void writeResults(List<TransformRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO transform_runs (raw_id, platform_name, domain, rule_path, rule_version, status, error, " +
+                "produced_content_id, created_at, finished_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                runs, runs.size(), (ps, run) -> {
+                    ps.setLong(1, run.getRawId());
+                    ps.setString(2, run.getPlatformName());
+                    ps.setString(3, run.getDomain());
+                    ps.setString(4, run.getRulePath());
+                    ps.setObject(5, run.getRuleVersion(), Types.INTEGER);
+                    ps.setString(6, run.getStatus());
+                    ps.setString(7, run.getError());
+                    ps.setObject(8, run.getProducedContentId(), Types.BIGINT);
+                    ps.setTimestamp(9, Timestamp.from(run.getCreatedAt()));
+                    ps.setTimestamp(10, run.getFinishedAt() != null ? Timestamp.from(run.getFinishedAt()) : null);
+                });
+
+        Long[] rawIds = runs.stream().map(TransformRun::getRawId).toArray(Long[]::new);
+        jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(
+                    "UPDATE raw_items SET processed = true, processed_at = ?, " +
+                    "attempt_count = 0, next_attempt_at = NULL, dead_lettered_at = NULL " +
+                    "WHERE raw_id = ANY(?)");
+            ps.setTimestamp(1, Timestamp.from(Instant.now()));
+            ps.setArray(2, con.createArrayOf("bigint", rawIds));
+            return ps;
+        });
+    }
 
-        long elapsed = System.currentTimeMillis() - startTime;
-        log.info("✅ 배치 처리 완료: {} / {} 성공 (소요시간: {}ms, 초당 {} 건)", 
-                ok, batch.size(), elapsed, (batch.size() * 1000L / Math.max(elapsed, 1)));
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder("crawler.transform.stage.duration")
+                .description("Transform 파이프라인 단계별 소요 시간 (transform은 건당, 나머지는 청크/배치당)")
+                .tag("stage", stage)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 롤백된 배치의 항목을 하나씩 독립 트랜잭션으로 처리
+     * - 실패한 항목만 FAILED로 남고 나머지는 정상 반영
+     */
+    private BatchResult processIndividually(List<Long> rawIds) {
+        int ok = 0;
+        int failed = 0;
+        Set<Long> processedContentIds = new HashSet<>();
+        for (Long rawId : rawIds) {
+            try {
+                Boolean done = transactionTemplate.execute(status -> rawRepo.lockUnprocessedById(rawId)
+                        .map(raw -> {
+                            runRepo.save(transformOne(raw, processedContentIds));
+                            rawRepo.save(raw);
+                            return true;
+                        })
+                        .orElse(false));
+                if (Boolean.TRUE.equals(done)) ok++;
+            } catch (RuntimeException e) {
+                failed++;
+                log.error("처리 실패 (rawId={}): {}", rawId, e.getMessage());
+                recordFailure(rawId, e);
+            }
+        }
+        return new BatchResult(rawIds.size(), ok, failed);
+    }
+
+    private void recordFailure(Long rawId, Exception e) {
+        try {
+            rawRepo.findById(rawId).ifPresent(raw -> {
+                TransformRun run = newRun(raw);
+                ruleRegistry.find(raw.getDomain(), raw.getPlatformName()).ifPresent(entry -> setRule(run, entry));
+                run.setStatus("FAILED");
+                run.setError(truncate(e.toString(), 500));
+                run.setFinishedAt(Instant.now());
+                runRepo.save(run);
+            });
+        } catch (Exception ex) {
+            log.warn("FAILED TransformRun 기록 실패 (rawId={}): {}", rawId, ex.getMessage());
+        }
+        try {
+            quarantine.recordFailure(rawId);
+        } catch (Exception ex) {
+            log.warn("재시도 백오프 기록 실패 (rawId={}): {}", rawId, ex.getMessage());
+        }
+    }
 
-        return ok;
+    /**
+     * 한 건 변환 + 업서트 (실패 시 예외 전파)
+     */
+    private TransformRun transformOne(RawItem raw, Set<Long> processedContentIds) {
+        TransformRun run = newRun(raw);
+
+        RuleRegistry.Entry entry = ruleRegistry.require(raw.getDomain(), raw.getPlatformName());
+        setRule(run, entry);
+        var rule = entry.rule();
+
+        var tri = transform.transform(raw.getSourcePayload(), entry.plan());
+
+        String psid = extractPlatformSpecificId(raw);
+        String url = firstNonNull(raw.getUrl(), asString(deepGet(raw.getSourcePayload(), "url")));
+
+        Long contentId = upsert.upsert(
+                Domain.valueOf(rule.getDomain()),
+                tri.master(), tri.platform(), tri.domain(),
+                psid, url, rule
+        );
+
+        markProduced(run, contentId, processedContentIds);
+
+        raw.setProcessed(true);
+        raw.setProcessedAt(Instant.now());
+        raw.setAttemptCount(0);
+        raw.setNextAttemptAt(null);
+        raw.setDeadLetteredAt(null);
+        return run;
+    }
+
+    /**
+     * 성공 상태 기록 (같은 배치에서 이미 만든 작품이면 SUCCESS_DUPLICATE)
+     * - contentId가 null(master title 없음 → 저장 안 함)이면 중복 추적 대상이 아님
+     */
+    private static void markProduced(TransformRun run, Long contentId, Set<Long> processedContentIds) {
+        boolean duplicate = contentId != null && !processedContentIds.add(contentId);
+        run.setStatus(duplicate ? "SUCCESS_DUPLICATE" : "SUCCESS");
+        run.setProducedContentId(contentId);
+        run.setFinishedAt(Instant.now());
+    }
+
+    private TransformRun newRun(RawItem raw) {
+        TransformRun run = new TransformRun();
+        run.setRawId(raw.getRawId());
+        run.setPlatformName(raw.getPlatformName());
+        run.setDomain(raw.getDomain());
+        return run;
+    }
+
+    private static void setRule(TransformRun run, RuleRegistry.Entry entry) {
+        run.setRulePath(entry.source());
+        run.setRuleVersion(entry.version());
     }
 
     /**
@@ -152,29 +439,24 @@ public class BatchTransformServiceOptimized {
             final int workerNum = i % numWorkers + 1;
             CompletableFuture<Integer> future = CompletableFuture.supplyAsync(() -> {
                 log.info("🔧 워커 #{} 시작", workerNum);
-                return processBatchOptimized(batchSize);
+                // 각 배치가 자체 트랜잭션 (this 호출이어도 TransactionTemplate이라 경계 유지)
+                return processNextBatch(batchSize).succeeded();
             }, executor);
             
             futures.add(future);
         }
 
-        // 모든 워커 완료 대기
-        int totalProcessed = futures.stream()
-                .map(CompletableFuture::join)
-                .mapToInt(Integer::intValue)
-                .sum();
-
-        executor.shutdown();
-        log.info("✅ 병렬 배치 처리 완료: 총 {} 건 성공", totalProcessed);
-        
-        return totalProcessed;
-    }
-
-    /**
-     * 🎯 캐시된 규칙 가져오기
-     */
-    private MappingRule getCachedRule(String rulePath) {
-        return ruleCache.computeIfAbsent(rulePath, ruleLoader::load);
+        try {
+            // 모든 워커 완료 대기
+            int totalProcessed = futures.stream()
+                    .map(CompletableFuture::join)
+                    .mapToInt(Integer::intValue)
+                    .sum();
+            log.info("✅ 병렬 배치 처리 완료: 총 {} 건 성공", totalProcessed);
+            return totalProcessed;
+        } finally {
+            executor.shutdown();
+        }
     }
 
     /**
@@ -194,33 +476,6 @@ public class BatchTransformServiceOptimized {
 
     // ========== 헬퍼 메서드 ==========
 
-    private String rulePath(String domain, String platformName) {
-        return switch (domain) {
-            case "WEBNOVEL" -> switch (platformName) {
-                case "NaverSeries" -> "rules/webnovel/naverseries.yml";
-                case "KakaoPage" -> "rules/webnovel/kakaopage.yml";
-                default -> throw new IllegalArgumentException("No rule for webnovel platform: " + platformName);
-            };
-            case "MOVIE" -> switch (platformName) {
-                case "TMDB_MOVIE" -> "rules/movie/tmdb_movie.yml";
-                default -> throw new IllegalArgumentException("No rule for MOVIE platform: " + platformName);
-            };
-            case "TV" -> switch (platformName) {
-                case "TMDB_TV" -> "rules/tv/tmdb_tv.yml";
-                default -> throw new IllegalArgumentException("No rule for TV platform: " + platformName);
-            };
-            case "GAME" -> switch (platformName) {
-                case "Steam" -> "rules/game/steam.yml";
-                default -> throw new IllegalArgumentException("No rule for GAME platform: " + platformName);
-            };
-            case "WEBTOON" -> switch (platformName) {
-                case "NaverWebtoon" -> "rules/webtoon/naverwebtoon.yml";
-                default -> throw new IllegalArgumentException("No rule for WEBTOON platform: " + platformName);
-            };
-            default -> throw new IllegalArgumentException("No rule for domain " + domain);
-        };
-    }
-
     private static Object deepGet(Object obj, String path) {
         if (obj == null || path == null) return null;
         String[] parts = path.split("\\.");
@@ -3,14 +3,24 @@ package com.example.crawler.ingest;
 import com.example.shared.entity.RawItem;
 import com.example.shared.repository.RawItemRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
+import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -19,23 +29,282 @@ import java.util.Optional;
 @Service @RequiredArgsConstructor
 public class CollectorService {
 
+    /** Postgres 바인드 파라미터 한도(65535) 안쪽으로 한 INSERT 문에 담을 최대 행 수 */
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+
+    private static final String UPSERT_PREFIX =
+            "INSERT INTO raw_items (platform_name, domain, source_payload, platform_specific_id, url, hash, fetched_at, processed) VALUES ";
+    private static final String UPSERT_ROW = "(?, ?, CAST(? AS jsonb), ?, ?, ?, ?, false)";
+    // 해시가 같으면 DO UPDATE가 걸러져 RETURNING에 나오지 않음 → UNCHANGED
+    // xmax = 0 이면 이번 문장에서 새로 삽입된 행 → NEW, 아니면 갱신 → CHANGED
+    private static final String UPSERT_SUFFIX = """
+             ON CONFLICT (platform_name, platform_specific_id) DO UPDATE
+            SET source_payload = EXCLUDED.source_payload,
+                hash = EXCLUDED.hash,
+                url = EXCLUDED.url,
+                fetched_at = EXCLUDED.fetched_at,
+                processed = false,
+                processed_at = NULL,
+                attempt_count = 0,
+                next_attempt_at = NULL,
+                dead_lettered_at = NULL
+            WHERE raw_items.hash <> EXCLUDED.hash
+            RETURNING raw_id, platform_name, platform_specific_id, (xmax = 0) AS inserted
+            """;
+
     private final RawItemRepository rawRepo;
+    private final JdbcTemplate jdbcTemplate;
+    private final PayloadFingerprinter fingerprinter;
+    private final PlatformMetricsWriter metricsWriter;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper om = new ObjectMapper();
 
+    @Value("${crawler.ingest.batch-size:50}")
+    private int batchSize;
+
+    // ON CONFLICT 대상 유니크 인덱스 존재 여부 (null = 아직 확인 안 함)
+    private volatile Boolean upsertKeyPresent;
+
+    /**
+     * 크롤러 루프용 적재 버퍼 생성 (crawler.ingest.batch-size 단위로 flush)
+     */
+    public RawItemBuffer newBuffer() {
+        return new RawItemBuffer(this, batchSize);
+    }
+
     @Transactional
     public Long saveRaw(String platformName, String domain,
                         Map<String,Object> payload,
                         String platformSpecificId, String url) {
-        
+        RawItemDraft draft = new RawItemDraft(platformName, domain, payload, platformSpecificId, url);
+        RawSaveResult result = saveOne(draft);
+        recordOutcome(result);
+        if (result.outcome() == RawSaveResult.Outcome.UNCHANGED || result.outcome() == RawSaveResult.Outcome.CHANGED) {
+            writeMetrics(List.of(draft));
+        }
+        if (result.outcome() == RawSaveResult.Outcome.NEW || result.outcome() == RawSaveResult.Outcome.CHANGED) {
+            publishArrival(platformName, 1); // 트랜잭션 커밋 후 전달됨 (TransformDaemon)
+        }
+        return result.saved() ? result.rawId() : -1L;
+    }
+
+    /**
+     * 여러 건을 한 번의 INSERT ... ON CONFLICT 문으로 upsert
+     * - 건당 select/select/save 3회 왕복 → 배치당 1회 왕복
+     * - (platform_name, platform_specific_id) 충돌 시 해시가 다를 때만 갱신하고 processed=false로 재설정
+     * - 다른 작품과 해시가 겹쳐 uk_raw_hash 위반이 나면 해당 배치만 건별 저장으로 폴백
+     * - (platform_name, platform_specific_id) 유니크 인덱스가 없으면 ON CONFLICT 자체가 실패하므로 처음부터 건별 저장
+     *
+     * @return 입력 순서와 같은 순서의 건별 결과
+     */
+    public List<RawSaveResult> saveRawBatch(List<RawItemDraft> drafts) {
+        return save(drafts, true);
+    }
+
+    /**
+     * 배치 upsert 없이 한 건씩 저장 (RawItemBuffer가 배치 flush에 실패했을 때 재시도용)
+     * - 건별 실패는 해당 항목만 REJECTED로 기록하고 나머지는 계속 저장
+     */
+    List<RawSaveResult> saveRawEach(List<RawItemDraft> drafts) {
+        return save(drafts, false);
+    }
+
+    private List<RawSaveResult> save(List<RawItemDraft> drafts, boolean allowBatchUpsert) {
+        List<RawSaveResult> results = new ArrayList<>(drafts.size());
+        if (drafts.isEmpty()) {
+            return results;
+        }
+
+        // 유효성 검증 + 배치 내 중복 키 제거 (같은 행을 한 문장에서 두 번 갱신할 수 없음, 마지막 값 우선)
+        Map<String, RawItemDraft> valid = new LinkedHashMap<>();
+        boolean[] accepted = new boolean[drafts.size()];
+        for (int i = 0; i < drafts.size(); i++) {
+            RawItemDraft d = drafts.get(i);
+            accepted[i] = isValidId(d);
+            if (accepted[i]) {
+                valid.remove(d.key());
+                valid.put(d.key(), d);
+            }
+        }
+
+        Map<String, RawSaveResult> byKey = new HashMap<>();
+        List<RawItemDraft> unique = new ArrayList<>(valid.values());
+        boolean batchUpsert = allowBatchUpsert && hasUpsertKey();
+        for (int from = 0; from < unique.size(); from += MAX_ROWS_PER_STATEMENT) {
+            List<RawItemDraft> chunk = unique.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, unique.size()));
+            if (!batchUpsert) {
+                for (RawItemDraft d : chunk) {
+                    byKey.put(d.key(), saveOneSafely(d));
+                }
+                continue;
+            }
+            try {
+                byKey.putAll(upsertChunk(chunk));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("⚠️  [배치 적재] 제약 조건 위반으로 건별 저장으로 폴백 - {}건, 원인: {}",
+                        chunk.size(), e.getMostSpecificCause().getMessage());
+                for (RawItemDraft d : chunk) {
+                    byKey.put(d.key(), saveOneSafely(d));
+                }
+            }
+        }
+
+        int created = 0, changed = 0, unchanged = 0, rejected = 0;
+        Map<String, Integer> arrivals = new LinkedHashMap<>();
+        for (int i = 0; i < drafts.size(); i++) {
+            RawItemDraft d = drafts.get(i);
+            RawSaveResult r = accepted[i]
+                    ? byKey.get(d.key())
+                    : new RawSaveResult(d.platformName(), d.platformSpecificId(), null, RawSaveResult.Outcome.REJECTED);
+            results.add(r);
+            recordOutcome(r);
+            if (r.outcome() == RawSaveResult.Outcome.NEW || r.outcome() == RawSaveResult.Outcome.CHANGED) {
+                arrivals.merge(d.platformName(), 1, Integer::sum);
+            }
+            switch (r.outcome()) {
+                case NEW -> created++;
+                case CHANGED -> changed++;
+                case UNCHANGED -> unchanged++;
+                case REJECTED -> rejected++;
+            }
+        }
+
+        // 지표 필드는 해시에서 빠져 있으므로 변경 여부와 무관하게 attributes에 직접 반영
+        List<RawItemDraft> existing = new ArrayList<>(valid.size());
+        for (RawItemDraft d : valid.values()) {
+            RawSaveResult r = byKey.get(d.key());
+            if (r != null && (r.outcome() == RawSaveResult.Outcome.UNCHANGED || r.outcome() == RawSaveResult.Outcome.CHANGED)) {
+                existing.add(d);
+            }
+        }
+        writeMetrics(existing);
+        // 배치에 여러 플랫폼이 섞일 수 있으므로 플랫폼별로 발행
+        arrivals.forEach(this::publishArrival);
+        log.info("📦 [배치 적재] raw_items upsert 완료 - 요청: {}, 신규: {}, 갱신: {}, 동일: {}, 거부: {}",
+                drafts.size(), created, changed, unchanged, rejected);
+        return results;
+    }
+
+    /**
+     * raw_items (platform_name, platform_specific_id) 유니크 인덱스 재확인 (DatabaseIndexInitializer가 생성 시도 후 호출)
+     */
+    public void refreshUpsertKey() {
+        Boolean present = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_index i JOIN pg_class t ON t.oid = i.indrelid " +
+                "WHERE t.relname = 'raw_items' AND i.indisunique AND i.indisvalid AND i.indpred IS NULL " +
+                "AND (SELECT array_agg(a.attname::text ORDER BY a.attname) FROM pg_attribute a " +
+                "     WHERE a.attrelid = t.oid AND a.attnum = ANY (i.indkey)) " +
+                "    = ARRAY['platform_name', 'platform_specific_id'])",
+                Boolean.class);
+        upsertKeyPresent = Boolean.TRUE.equals(present);
+        if (!upsertKeyPresent) {
+            log.warn("⚠️  [배치 적재] raw_items (platform_name, platform_specific_id) 유니크 인덱스 없음 → 건별 저장으로 동작");
+        }
+    }
+
+    private boolean hasUpsertKey() {
+        if (upsertKeyPresent == null) {
+            refreshUpsertKey();
+        }
+        return upsertKeyPresent;
+    }
+
+    private Map<String, RawSaveResult> upsertChunk(List<RawItemDraft> chunk) {
+        StringBuilder sql = new StringBuilder(UPSERT_PREFIX);
+        List<Object> args = new ArrayList<>(chunk.size() * 7);
+        Timestamp now = Timestamp.from(Instant.now());
+        for (int i = 0; i < chunk.size(); i++) {
+            RawItemDraft d = chunk.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append(UPSERT_ROW);
+            args.add(d.platformName());
+            args.add(d.domain());
+            args.add(toJson(d.payload()));
+            args.add(d.platformSpecificId());
+            args.add(d.url());
+            args.add(fingerprinter.fingerprint(d.platformName(), d.payload()));
+            args.add(now);
+        }
+        sql.append(UPSERT_SUFFIX);
+
+        Map<String, RawSaveResult> out = new HashMap<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            String platformName = rs.getString("platform_name");
+            String platformSpecificId = rs.getString("platform_specific_id");
+            RawSaveResult.Outcome outcome = rs.getBoolean("inserted")
+                    ? RawSaveResult.Outcome.NEW : RawSaveResult.Outcome.CHANGED;
+            out.put(platformName + "|" + platformSpecificId,
+                    new RawSaveResult(platformName, platformSpecificId, rs.getLong("raw_id"), outcome));
+        }, args.toArray());
+
+        // RETURNING에 없는 행 = 해시 동일로 갱신되지 않은 행
+        for (RawItemDraft d : chunk) {
+            out.putIfAbsent(d.key(), new RawSaveResult(d.platformName(), d.platformSpecificId(),
+                    null, RawSaveResult.Outcome.UNCHANGED));
+        }
+        return out;
+    }
+
+    private void writeMetrics(List<RawItemDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        try {
+            metricsWriter.write(drafts);
+        } catch (Exception e) {
+            // 지표 반영 실패가 원본 적재를 막지 않도록 로그만 남김
+            log.warn("⚠️  [지표 갱신 실패] {}건, 원인: {}", drafts.size(), e.getMessage());
+        }
+    }
+
+    private void publishArrival(String platformName, int count) {
+        if (count > 0) {
+            eventPublisher.publishEvent(new RawItemsArrivedEvent(platformName, count));
+        }
+    }
+
+    private void recordOutcome(RawSaveResult r) {
+        Counter.builder("crawler.ingest.items")
+                .description("raw_items 적재 결과 (NEW/CHANGED만 transform 대상)")
+                .tag("platform", String.valueOf(r.platformName()))
+                .tag("outcome", r.outcome().name())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private RawSaveResult saveOneSafely(RawItemDraft d) {
+        try {
+            return saveOne(d);
+        } catch (Exception e) {
+            log.error("❌ [저장 실패] Platform: {}, ID: {}, 원인: {}", d.platformName(), d.platformSpecificId(), e.getMessage());
+            return new RawSaveResult(d.platformName(), d.platformSpecificId(), null, RawSaveResult.Outcome.REJECTED);
+        }
+    }
+
+    private boolean isValidId(RawItemDraft d) {
+        String id = d.platformSpecificId();
+        if (id == null || "null".equals(id) || id.trim().isEmpty()) {
+            log.error("❌ [유효성 검증 실패] 유효하지 않은 platformSpecificId: '{}', Platform: {}, Domain: {}",
+                    id, d.platformName(), d.domain());
+            return false;
+        }
+        return true;
+    }
+
+    private RawSaveResult saveOne(RawItemDraft draft) {
+        String platformName = draft.platformName();
+        String domain = draft.domain();
+        Map<String,Object> payload = draft.payload();
+        String platformSpecificId = draft.platformSpecificId();
+        String url = draft.url();
+
         // platformSpecificId 유효성 검증
-        if (platformSpecificId == null || "null".equals(platformSpecificId) 
-            || platformSpecificId.trim().isEmpty()) {
-            log.error("❌ [유효성 검증 실패] 유효하지 않은 platformSpecificId: '{}', Platform: {}, Domain: {}", 
-                    platformSpecificId, platformName, domain);
-            return -1L; // 저장하지 않음
+        if (!isValidId(draft)) {
+            return new RawSaveResult(platformName, platformSpecificId, null, RawSaveResult.Outcome.REJECTED); // 저장하지 않음
         }
         
-        String hash = sha256Canonical(payload);
+        String hash = fingerprinter.fingerprint(platformName, payload);
         
         // 1차: platformName + platformSpecificId로 기존 데이터 검색 (같은 콘텐츠 찾기)
         Optional<RawItem> existingByPlatformId = rawRepo.findByPlatformNameAndPlatformSpecificId(
@@ -47,12 +316,12 @@ public class CollectorService {
             
             // 데이터가 변경되었는지 해시로 확인
             if (oldHash.equals(hash)) {
-                // 완전히 동일한 데이터 → 아무것도 안 함
+                // 구조 데이터 동일 → 재처리 없음 (지표는 PlatformMetricsWriter가 반영)
                 log.info("⚠️  [중복 감지] 동일한 데이터가 이미 존재 (변경 없음) - Platform: {}, Domain: {}, ID: {}", 
                         platformName, domain, platformSpecificId);
-                return existing.getRawId();
+                return new RawSaveResult(platformName, platformSpecificId, existing.getRawId(), RawSaveResult.Outcome.UNCHANGED);
             } else {
-                // 데이터가 변경됨 (vote_count, popularity 등) → 업데이트
+                // 구조 데이터가 변경됨 (지표 필드는 해시에서 제외됨) → 업데이트
                 log.info("🔄 [데이터 갱신] 기존 데이터 업데이트 - Platform: {}, Domain: {}, ID: {}, OldHash: {}, NewHash: {}",
                         platformName, domain, platformSpecificId, 
                         oldHash.substring(0, 8) + "...", hash.substring(0, 8) + "...");
@@ -64,9 +333,12 @@ public class CollectorService {
                 existing.setFetchedAt(Instant.now());
                 existing.setProcessed(false);  // 재처리 필요
                 existing.setProcessedAt(null);
+                existing.setAttemptCount(0);      // payload가 바뀌었으니 격리/백오프도 해제
+                existing.setNextAttemptAt(null);
+                existing.setDeadLetteredAt(null);
                 
                 rawRepo.save(existing);
-                return existing.getRawId();
+                return new RawSaveResult(platformName, platformSpecificId, existing.getRawId(), RawSaveResult.Outcome.CHANGED);
             }
         }
         
@@ -91,18 +363,13 @@ public class CollectorService {
         Long savedId = rawRepo.save(r).getRawId();
         log.info("✅ [신규 저장] raw_items에 저장 완료 - Platform: {}, Domain: {}, ID: {}, RawId: {}",
                 platformName, domain, platformSpecificId, savedId);
-        return savedId;
+        return new RawSaveResult(platformName, platformSpecificId, savedId, RawSaveResult.Outcome.NEW);
     }
 
-    private String sha256Canonical(Map<String,Object> payload){
+    private String toJson(Map<String,Object> payload) {
         try {
-            byte[] json = om.writeValueAsBytes(payload); // 캐논라이즈
-            MessageDigest md = MessageDigest.getInstance("SHA-256");
-            byte[] d = md.digest(json);
-            StringBuilder sb = new StringBuilder();
-            for (byte b : d) sb.append(String.format("%02x", b));
-            return sb.toString();
-        } catch (Exception e) { throw new IllegalStateException(e); }
+            return om.writeValueAsString(payload);
+        } catch (JsonProcessingException e) { throw new IllegalStateException(e); }
     }
 }
 
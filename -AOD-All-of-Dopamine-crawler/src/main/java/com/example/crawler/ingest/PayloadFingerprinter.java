@@ -0,0 +1,254 @@
+package com.example.crawler.ingest;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * raw_items payload 정규화 해시 (SHA-256)
+ * - Map 키를 정렬해서 순회 → HashMap 순서와 무관하게 같은 payload는 같은 해시
+ * - 숫자는 값 기준으로 인코딩 (1, 1L, 1.0, BigDecimal("1.00") 모두 동일)
+ * - 타입 태그 + 길이 접두로 인코딩해서 ["ab"] / ["a","b"] 같은 경계 충돌 방지
+ * - JSON 직렬화 없이 스레드별 고정 버퍼를 거쳐 MessageDigest로 바로 흘려보냄
+ * - 플랫폼별 제외 필드는 최상위 키 기준으로 해시에서 제외
+ *   = VolatileMetricCatalog의 지표 필드 + 설정 crawler.fingerprint.exclude.<Platform>=a,b
+ */
+@Component
+public class PayloadFingerprinter {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final ThreadLocal<DigestSink> SINK = ThreadLocal.withInitial(DigestSink::new);
+    private static final Comparator<Map.Entry<?, ?>> KEY_ORDER =
+            Comparator.comparing(entry -> String.valueOf(entry.getKey()));
+
+    private final Environment environment;
+    private final VolatileMetricCatalog volatileMetrics;
+    private final Map<String, Set<String>> exclusionCache = new ConcurrentHashMap<>();
+
+    public PayloadFingerprinter(Environment environment, VolatileMetricCatalog volatileMetrics) {
+        this.environment = environment;
+        this.volatileMetrics = volatileMetrics;
+    }
+
+    public String fingerprint(String platformName, Map<String, ?> payload) {
+        return sha256(payload, excludedFields(platformName));
+    }
+
+    public Set<String> excludedFields(String platformName) {
+        return exclusionCache.computeIfAbsent(platformName, p -> {
+            String value = environment.getProperty("crawler.fingerprint.exclude." + p, "");
+            return Stream.concat(Arrays.stream(value.split(",")), volatileMetrics.rootKeys(p).stream())
+                    .map(String::trim)
+                    .filter(key -> !key.isEmpty())
+                    .collect(Collectors.toUnmodifiableSet());
+        });
+    }
+
+    /**
+     * 정규화 해시 계산 (hex 64자)
+     *
+     * @param excluded 해시에서 뺄 최상위 키
+     */
+    public static String sha256(Map<String, ?> payload, Set<String> excluded) {
+        DigestSink sink = SINK.get();
+        sink.reset();
+        writeMap(sink, payload, excluded);
+        return HEX.formatHex(sink.digest());
+    }
+
+    private static void writeValue(DigestSink sink, Object value) {
+        if (value == null) {
+            sink.put('Z');
+        } else if (value instanceof CharSequence s) {
+            writeString(sink, s);
+        } else if (value instanceof Number n) {
+            writeNumber(sink, n);
+        } else if (value instanceof Boolean b) {
+            sink.put(b ? 'T' : 'F');
+        } else if (value instanceof Map<?, ?> m) {
+            writeMap(sink, m, Collections.emptySet());
+        } else if (value instanceof Collection<?> c) {
+            sink.put('L');
+            sink.putLong(c.size());
+            for (Object element : c) {
+                writeValue(sink, element);
+            }
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            sink.put('L');
+            sink.putLong(length);
+            for (int i = 0; i < length; i++) {
+                writeValue(sink, Array.get(value, i));
+            }
+        } else {
+            // LocalDate, Enum 등은 문자열 표현 기준
+            writeString(sink, value.toString());
+        }
+    }
+
+    private static void writeMap(DigestSink sink, Map<?, ?> map, Set<String> excluded) {
+        if (map == null) {
+            sink.put('Z');
+            return;
+        }
+        Map.Entry<?, ?>[] entries = new Map.Entry<?, ?>[map.size()];
+        int n = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (excluded.isEmpty() || !excluded.contains(String.valueOf(entry.getKey()))) {
+                entries[n++] = entry;
+            }
+        }
+        Arrays.sort(entries, 0, n, KEY_ORDER);
+
+        sink.put('M');
+        sink.putLong(n);
+        for (int i = 0; i < n; i++) {
+            writeString(sink, String.valueOf(entries[i].getKey()));
+            writeValue(sink, entries[i].getValue());
+        }
+    }
+
+    private static void writeString(DigestSink sink, CharSequence s) {
+        sink.put('S');
+        sink.putLong(s.length());
+        sink.putUtf8(s);
+    }
+
+    private static void writeNumber(DigestSink sink, Number n) {
+        sink.put('N');
+        if (n instanceof Long || n instanceof Integer || n instanceof Short || n instanceof Byte) {
+            sink.putLong(n.longValue());
+            return;
+        }
+        if (n instanceof Double || n instanceof Float) {
+            double d = n.doubleValue();
+            if (Double.isNaN(d) || Double.isInfinite(d)) {
+                sink.putText(Double.toString(d));
+                return;
+            }
+            if (d == Math.rint(d) && Math.abs(d) < 0x1p63) {
+                // 정수값 실수는 long과 같은 표현 (JSON 파서가 1 / 1.0 을 다르게 줘도 같은 해시)
+                sink.putLong((long) d);
+                return;
+            }
+            sink.putText(BigDecimal.valueOf(d).stripTrailingZeros().toPlainString());
+            return;
+        }
+        BigDecimal decimal = n instanceof BigDecimal bd ? bd
+                : n instanceof BigInteger bi ? new BigDecimal(bi)
+                : new BigDecimal(n.toString());
+        BigDecimal stripped = decimal.stripTrailingZeros();
+        if (stripped.scale() <= 0 && stripped.precision() - stripped.scale() <= 18) {
+            sink.putLong(stripped.longValueExact());
+        } else {
+            sink.putText(stripped.toPlainString());
+        }
+    }
+
+    /**
+     * MessageDigest 앞단 고정 크기 버퍼 (스레드당 1개 재사용)
+     */
+    private static final class DigestSink {
+        private final MessageDigest md;
+        private final byte[] buf = new byte[512];
+        private int pos;
+
+        DigestSink() {
+            try {
+                md = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void reset() {
+            md.reset();
+            pos = 0;
+        }
+
+        byte[] digest() {
+            flush();
+            return md.digest();
+        }
+
+        void put(char tag) {
+            putByte((byte) tag);
+        }
+
+        void putByte(byte b) {
+            if (pos == buf.length) {
+                flush();
+            }
+            buf[pos++] = b;
+        }
+
+        /** 10진수 ASCII + 구분자 (문자열 변환 없이 기록) */
+        void putLong(long v) {
+            if (v == Long.MIN_VALUE) {
+                putUtf8(Long.toString(v));
+            } else {
+                if (v < 0) {
+                    putByte((byte) '-');
+                    v = -v;
+                }
+                long div = 1;
+                while (v / div >= 10) div *= 10;
+                for (; div > 0; div /= 10) {
+                    putByte((byte) ('0' + (v / div) % 10));
+                }
+            }
+            putByte((byte) ';');
+        }
+
+        /** 숫자 등 길이 접두 없는 텍스트 + 구분자 */
+        void putText(String s) {
+            putUtf8(s);
+            putByte((byte) ';');
+        }
+
+        void putUtf8(CharSequence s) {
+            int len = s.length();
+            for (int i = 0; i < len; i++) {
+                char c = s.charAt(i);
+                if (c < 0x80) {
+                    putByte((byte) c);
+                } else if (c < 0x800) {
+                    putByte((byte) (0xC0 | (c >> 6)));
+                    putByte((byte) (0x80 | (c & 0x3F)));
+                } else if (Character.isHighSurrogate(c) && i + 1 < len && Character.isLowSurrogate(s.charAt(i + 1))) {
+                    int cp = Character.toCodePoint(c, s.charAt(++i));
+                    putByte((byte) (0xF0 | (cp >> 18)));
+                    putByte((byte) (0x80 | ((cp >> 12) & 0x3F)));
+                    putByte((byte) (0x80 | ((cp >> 6) & 0x3F)));
+                    putByte((byte) (0x80 | (cp & 0x3F)));
+                } else {
+                    putByte((byte) (0xE0 | (c >> 12)));
+                    putByte((byte) (0x80 | ((c >> 6) & 0x3F)));
+                    putByte((byte) (0x80 | (c & 0x3F)));
+                }
+            }
+        }
+
+        private void flush() {
+            if (pos > 0) {
+                md.update(buf, 0, pos);
+                pos = 0;
+            }
+        }
+    }
+}
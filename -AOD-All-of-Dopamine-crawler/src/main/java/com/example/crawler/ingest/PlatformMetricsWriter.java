@@ -0,0 +1,90 @@
+package com.example.crawler.ingest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 자주 바뀌는 지표(조회수/좋아요/투표 수 등)를 PlatformData.attributes에 직접 반영
+ * - 플랫폼당 UPDATE ... FROM (VALUES ...) 한 문장 (건별 엔티티 로딩/merge 없음)
+ * - attributes || metrics 로 해당 키만 덮어씀, 이미 같은 값이면(@>) 갱신하지 않음
+ * - 아직 platform_data가 없는 작품(신규)은 대상 행이 없어 그냥 지나감 → transform이 처음 생성
+ * - 실제로 바뀐 행은 platform_data 트리거(ContentChangeTracking)가 같은 문장에서 contents.updated_at 갱신
+ *   → 상세 ETag / 변경 피드 / 홈 피드 마커에 지표 변화가 반영됨
+ * - 재변환은 이 경로가 쓴 지표 값을 유지 (UpsertService.keepMetrics)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlatformMetricsWriter {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final VolatileMetricCatalog catalog;
+    private final MeterRegistry meterRegistry;
+    private final ObjectMapper om = new ObjectMapper();
+
+    /**
+     * @return 실제로 갱신된 platform_data 행 수
+     */
+    public int write(List<RawItemDraft> drafts) {
+        Map<String, Map<String, Map<String, Object>>> byPlatform = new LinkedHashMap<>();
+        for (RawItemDraft d : drafts) {
+            Map<String, Object> metrics = catalog.extract(d.platformName(), d.payload());
+            if (!metrics.isEmpty()) {
+                byPlatform.computeIfAbsent(d.platformName(), p -> new LinkedHashMap<>())
+                        .put(d.platformSpecificId(), metrics);
+            }
+        }
+
+        int updated = 0;
+        for (Map.Entry<String, Map<String, Map<String, Object>>> e : byPlatform.entrySet()) {
+            List<Map.Entry<String, Map<String, Object>>> rows = new ArrayList<>(e.getValue().entrySet());
+            for (int from = 0; from < rows.size(); from += MAX_ROWS_PER_STATEMENT) {
+                updated += update(e.getKey(), rows.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, rows.size())));
+            }
+        }
+        return updated;
+    }
+
+    private int update(String platformName, List<Map.Entry<String, Map<String, Object>>> rows) {
+        StringBuilder sql = new StringBuilder("UPDATE platform_data pd SET attributes = pd.attributes || v.metrics FROM (VALUES ");
+        List<Object> args = new ArrayList<>(rows.size() * 2 + 1);
+        for (int i = 0; i < rows.size(); i++) {
+            if (i > 0) sql.append(", ");
+            sql.append("(?, CAST(? AS jsonb))");
+            args.add(rows.get(i).getKey());
+            args.add(toJson(rows.get(i).getValue()));
+        }
+        sql.append(") AS v(platform_specific_id, metrics) ")
+                .append("WHERE pd.platform_name = ? AND pd.platform_specific_id = v.platform_specific_id ")
+                .append("AND NOT (pd.attributes @> v.metrics)");
+        args.add(platformName);
+
+        int updated = jdbcTemplate.update(sql.toString(), args.toArray());
+        Counter.builder("crawler.metrics.updated")
+                .description("지표 전용 경로로 갱신된 platform_data 행 수")
+                .tag("platform", platformName)
+                .register(meterRegistry)
+                .increment(updated);
+        log.debug("📈 [지표 갱신] Platform: {}, 요청: {}, 갱신: {}", platformName, rows.size(), updated);
+        return updated;
+    }
+
+    private String toJson(Map<String, Object> metrics) {
+        try {
+            return om.writeValueAsString(metrics);
+        } catch (JsonProcessingException e) { throw new IllegalStateException(e); }
+    }
+}
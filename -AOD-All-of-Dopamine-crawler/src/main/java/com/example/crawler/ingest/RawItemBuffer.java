@@ -0,0 +1,82 @@
+package com.example.crawler.ingest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 크롤러용 raw_items 적재 버퍼
+ * - flushSize 만큼 모이면 CollectorService.saveRawBatch로 한 번에 upsert
+ * - try-with-resources로 사용하면 중단/예외 시에도 남은 항목이 flush됨
+ * - 저장에 성공한 뒤에만 비움 → 실패(연결 끊김 등)한 배치는 다음 flush에서 다시 시도
+ * - close 시 마지막 배치 저장이 실패하면 건별 저장으로 다시 시도 (그래도 실패한 항목은 REJECTED로 집계/로그)
+ * - 스레드 안전하지 않음 (크롤링 루프 하나당 하나씩 생성)
+ */
+@Slf4j
+public class RawItemBuffer implements AutoCloseable {
+
+    private final CollectorService collector;
+    private final int flushSize;
+    private final List<RawItemDraft> pending;
+    private final Map<RawSaveResult.Outcome, Integer> totals = new EnumMap<>(RawSaveResult.Outcome.class);
+
+    RawItemBuffer(CollectorService collector, int flushSize) {
+        this.collector = collector;
+        this.flushSize = Math.max(1, flushSize);
+        this.pending = new ArrayList<>(this.flushSize);
+    }
+
+    public void add(String platformName, String domain, Map<String, Object> payload,
+                    String platformSpecificId, String url) {
+        pending.add(new RawItemDraft(platformName, domain, payload, platformSpecificId, url));
+        if (pending.size() >= flushSize) {
+            flush();
+        }
+    }
+
+    public List<RawSaveResult> flush() {
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+        return record(collector.saveRawBatch(List.copyOf(pending)));
+    }
+
+    private List<RawSaveResult> record(List<RawSaveResult> results) {
+        pending.clear();
+        for (RawSaveResult r : results) {
+            totals.merge(r.outcome(), 1, Integer::sum);
+        }
+        return results;
+    }
+
+    /** 지금까지 flush된 결과 중 해당 outcome 건수 */
+    public int count(RawSaveResult.Outcome outcome) {
+        return totals.getOrDefault(outcome, 0);
+    }
+
+    /** 지금까지 flush된 결과 중 저장(신규+변경+동일) 건수 */
+    public int savedCount() {
+        return count(RawSaveResult.Outcome.NEW) + count(RawSaveResult.Outcome.CHANGED)
+                + count(RawSaveResult.Outcome.UNCHANGED);
+    }
+
+    @Override
+    public void close() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            log.warn("⚠️  [배치 적재] 남은 raw_items {}건 flush 실패 → 건별 저장으로 재시도, 원인: {}",
+                    pending.size(), e.getMessage());
+            List<RawSaveResult> results = record(collector.saveRawEach(List.copyOf(pending)));
+            long failed = results.stream().filter(r -> !r.saved()).count();
+            if (failed > 0) {
+                log.error("❌ [배치 적재] 건별 재시도 후에도 {}건 저장 실패: {}", failed,
+                        results.stream().filter(r -> !r.saved())
+                                .map(r -> r.platformName() + "|" + r.platformSpecificId()).toList());
+            }
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.crawler.ingest;
+
+import java.util.Map;
+
+/**
+ * raw_items 배치 적재 입력 한 건
+ * - CollectorService.saveRaw 파라미터를 그대로 묶은 값 객체
+ */
+public record RawItemDraft(String platformName,
+                           String domain,
+                           Map<String, Object> payload,
+                           String platformSpecificId,
+                           String url) {
+
+    /** 배치 내 중복 제거/결과 매칭용 키 */
+    String key() {
+        return platformName + "|" + platformSpecificId;
+    }
+}
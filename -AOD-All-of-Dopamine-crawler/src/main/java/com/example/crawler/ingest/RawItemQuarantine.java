@@ -0,0 +1,198 @@
+package com.example.crawler.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 변환 실패 항목 재시도 백오프 / 격리(dead letter)
+ * - 실패할 때마다 attempt_count 증가, next_attempt_at = now + min(max-backoff, base-backoff * 2^(시도-1))
+ *   (대기 시간표는 생성 시 한 번 계산하고, UPDATE의 CASE 식도 같은 표로 만듦 → 로그와 실제 예약 시각이 항상 같음)
+ *   → lockNextBatch가 next_attempt_at 전에는 잡지 않으므로 같은 항목이 매 배치 실패를 반복하지 않음
+ * - max-attempts 번 실패하면 dead_lettered_at 기록 → 더 이상 변환 대상 아님 (적체/지연 집계에서도 제외)
+ * - 성공, payload 변경(CollectorService), 규칙 재처리(RuleReprocessJob), 관리자 해제 시 시도 정보 초기화
+ * - 갱신은 UPDATE ... RETURNING 한 문장 (동시 실패가 겹쳐도 카운트 유실 없음)
+ *
+ * 메트릭: crawler.transform.retry.scheduled{platform}, crawler.transform.deadletter.added{platform},
+ *        crawler.transform.deadletter{platform} (현재 격리 건수)
+ */
+@Slf4j
+@Component
+public class RawItemQuarantine {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    // backoffSchedule[i] = (i+1)번째 실패 후 대기 시간, 마지막 값 이후는 동일
+    private final long[] backoffSchedule;
+    private final String failureSql;
+
+    private final Map<String, AtomicLong> deadLetters = new ConcurrentHashMap<>();
+
+    /**
+     * 실패 기록 결과
+     * @param deadLettered 이번 실패로 격리되었으면 true
+     */
+    public record Outcome(String platformName, int attemptCount, boolean deadLettered) {}
+
+    public RawItemQuarantine(JdbcTemplate jdbcTemplate,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${crawler.transform.retry.max-attempts:5}") int maxAttempts,
+                             @Value("${crawler.transform.retry.base-backoff-ms:60000}") long baseBackoffMs,
+                             @Value("${crawler.transform.retry.max-backoff-ms:21600000}") long maxBackoffMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = Math.max(0, baseBackoffMs);
+        this.maxBackoffMs = Math.max(this.baseBackoffMs, maxBackoffMs);
+        this.backoffSchedule = backoffSchedule(this.maxAttempts, this.baseBackoffMs, this.maxBackoffMs);
+        this.failureSql = failureSql(backoffSchedule);
+    }
+
+    /**
+     * 변환 실패 1회 기록 (이미 처리 완료됐거나 없는 항목이면 null)
+     */
+    public Outcome recordFailure(Long rawId) {
+        List<Outcome> rows = jdbcTemplate.query(failureSql,
+                (rs, i) -> new Outcome(rs.getString("platform_name"), rs.getInt("attempt_count"), rs.getBoolean("dead")),
+                maxAttempts, rawId);
+        if (rows.isEmpty()) {
+            return null;
+        }
+
+        Outcome outcome = rows.get(0);
+        if (outcome.deadLettered()) {
+            counter("crawler.transform.deadletter.added", "시도 횟수 초과로 격리된 raw_items 건수", outcome.platformName())
+                    .increment();
+            deadLetterGauge(outcome.platformName()).incrementAndGet();
+            log.warn("⚠️ [격리] rawId={} ({}) {}회 연속 변환 실패 → dead letter",
+                    rawId, outcome.platformName(), outcome.attemptCount());
+        } else {
+            counter("crawler.transform.retry.scheduled", "변환 실패 후 재시도 예약된 raw_items 건수", outcome.platformName())
+                    .increment();
+            log.info("📦 [재시도 예약] rawId={} ({}) {}/{}회 실패, {}ms 후 재시도",
+                    rawId, outcome.platformName(), outcome.attemptCount(), maxAttempts,
+                    backoffMs(outcome.attemptCount()));
+        }
+        return outcome;
+    }
+
+    /**
+     * 격리된 항목을 다시 변환 대상으로 되돌림 (platformName이 null이면 전체)
+     *
+     * @return 해제한 건수
+     */
+    public int releaseDeadLetters(String platformName) {
+        String sql = "UPDATE raw_items SET attempt_count = 0, next_attempt_at = NULL, dead_lettered_at = NULL " +
+                "WHERE dead_lettered_at IS NOT NULL AND processed = false";
+        int released = platformName == null
+                ? jdbcTemplate.update(sql)
+                : jdbcTemplate.update(sql + " AND platform_name = ?", platformName);
+        if (released > 0) {
+            log.info("🚀 [격리 해제] {} {}건 재시도 대상으로 복귀", platformName != null ? platformName : "전체", released);
+            eventPublisher.publishEvent(new RawItemsArrivedEvent(platformName, released));
+            refreshDeadLetterCounts();
+        }
+        return released;
+    }
+
+    /**
+     * 플랫폼별 격리 건수 게이지 갱신 (스크레이프마다 DB 조회하지 않도록 주기적으로 캐시)
+     */
+    @Scheduled(fixedDelayString = "${crawler.transform.retry.deadletter-refresh-ms:60000}")
+    public void refreshDeadLetterCounts() {
+        try {
+            Map<String, Long> counts = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT platform_name, COUNT(*) AS cnt FROM raw_items " +
+                    "WHERE dead_lettered_at IS NOT NULL GROUP BY platform_name",
+                    rs -> {
+                        counts.put(rs.getString("platform_name"), rs.getLong("cnt"));
+                    });
+            counts.keySet().forEach(this::deadLetterGauge);
+            deadLetters.forEach((platform, value) -> value.set(counts.getOrDefault(platform, 0L)));
+        } catch (Exception e) {
+            log.debug("dead letter 건수 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Long> deadLetterCounts() {
+        Map<String, Long> snapshot = new HashMap<>();
+        deadLetters.forEach((platform, value) -> snapshot.put(platform, value.get()));
+        return snapshot;
+    }
+
+    /** attempt번째 실패 후 대기 시간 (recordFailure의 SQL CASE 식과 같은 표) */
+    long backoffMs(int attempt) {
+        int index = Math.min(Math.max(attempt, 1), backoffSchedule.length) - 1;
+        return backoffSchedule[index];
+    }
+
+    /**
+     * 1번째부터 대기 시간이 더 늘지 않는 시도(최대치 도달, max-attempts, 지수 30)까지의 표
+     */
+    static long[] backoffSchedule(int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        List<Long> schedule = new ArrayList<>();
+        for (int exponent = 0; exponent <= 30 && schedule.size() < maxAttempts; exponent++) {
+            long delay = Math.min(maxBackoffMs, baseBackoffMs * (1L << exponent));
+            schedule.add(delay);
+            if (delay == maxBackoffMs) break;
+        }
+        return schedule.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * 실패 기록 UPDATE (SET 절의 attempt_count는 갱신 전 값 = 이번 시도 번호 - 1 → 표의 인덱스)
+     */
+    static String failureSql(long[] schedule) {
+        StringBuilder backoff = new StringBuilder("CASE LEAST(attempt_count, ")
+                .append(schedule.length - 1).append(")");
+        for (int i = 0; i < schedule.length; i++) {
+            backoff.append(" WHEN ").append(i).append(" THEN ").append(schedule[i]);
+        }
+        backoff.append(" END");
+        return "UPDATE raw_items SET " +
+                "  attempt_count = attempt_count + 1, " +
+                "  next_attempt_at = now() + (" + backoff + ") * interval '1 millisecond', " +
+                "  dead_lettered_at = CASE WHEN attempt_count + 1 >= ? THEN now() ELSE NULL END " +
+                "WHERE raw_id = ? AND processed = false " +
+                "RETURNING platform_name, attempt_count, dead_lettered_at IS NOT NULL AS dead";
+    }
+
+    private Counter counter(String name, String description, String platformName) {
+        return Counter.builder(name)
+                .description(description)
+                .tag("platform", platformName)
+                .register(meterRegistry);
+    }
+
+    private AtomicLong deadLetterGauge(String platformName) {
+        return deadLetters.computeIfAbsent(platformName, p -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("crawler.transform.deadletter", value, AtomicLong::get)
+                    .description("격리(dead letter)된 raw_items 건수")
+                    .tag("platform", p)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.crawler.ingest;
+
+/**
+ * 새로 적재되었거나 구조 데이터가 바뀐(transform 대상) raw_items 알림
+ * - CollectorService가 발행, TransformDaemon이 커밋 이후 받아 대기 중인 워커를 깨움
+ *
+ * - 한 배치에 여러 플랫폼이 섞이면 플랫폼별로 하나씩 발행
+ *
+ * @param platformName 플랫폼
+ * @param count        NEW + CHANGED 건수
+ */
+public record RawItemsArrivedEvent(String platformName, int count) {
+}
@@ -0,0 +1,23 @@
+package com.example.crawler.ingest;
+
+/**
+ * raw_items 저장 결과 (건별)
+ *
+ * @param rawId 저장/갱신된 raw_id (UNCHANGED면 null일 수 있음, REJECTED면 null)
+ */
+public record RawSaveResult(String platformName,
+                            String platformSpecificId,
+                            Long rawId,
+                            Outcome outcome) {
+
+    public enum Outcome {
+        NEW,        // 신규 삽입
+        CHANGED,    // payload 해시 변경 → 갱신 후 재처리 대상
+        UNCHANGED,  // 동일 해시 → 아무 것도 안 함
+        REJECTED    // 유효성 검증 실패 또는 저장 오류
+    }
+
+    public boolean saved() {
+        return outcome != Outcome.REJECTED;
+    }
+}
@@ -0,0 +1,273 @@
+package com.example.crawler.ingest;
+
+import com.example.crawler.service.RuleRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Array;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 규칙 버전 기반 선택적 재처리
+ * - 마지막 성공 TransformRun의 rule_version이 현재 규칙(RuleRegistry)보다 낮은 raw_item만 골라 processed=false로 되돌림
+ * - raw_id 키셋 페이지로 chunk-size씩 UPDATE ... WHERE raw_id = ANY(?) 한 번에 재적재 → Transform 데몬을 깨움
+ * - 미처리 적체가 max-backlog 이상이면 재적재를 멈추고 대기 (lockNextBatch가 fetched_at 순이라
+ *   오래된 재처리 항목이 한꺼번에 들어가면 새로 수집된 항목이 밀리므로)
+ * - rule_version이 없는 과거 실행(버전 기록 전)은 include-unversioned=true일 때만 대상
+ * - 규칙 교체 후 주기적으로 자동 확인 + 관리자 API로 플랫폼 지정 실행, 한 번에 하나의 작업만 실행
+ * - 주기 확인은 규칙별로 마지막으로 끝까지 처리한 버전을 기억해 버전이 올랐을 때만 스캔
+ *   (기동 직후 첫 확인은 중단 중 바뀐 규칙을 위해 전체 스캔, 관리자 실행은 항상 스캔)
+ *
+ * 메트릭: crawler.transform.reprocess.requeued{platform}, .remaining{platform}, .running
+ */
+@Slf4j
+@Component
+public class RuleReprocessJob {
+
+    private static final String LAST_SUCCESS_VERSION =
+            "(SELECT t.rule_version FROM transform_runs t " +
+            " WHERE t.raw_id = r.raw_id AND t.status IN ('SUCCESS', 'SUCCESS_DUPLICATE') " +
+            " ORDER BY t.run_id DESC LIMIT 1)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RuleRegistry ruleRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int chunkSize;
+    private final long maxBacklog;
+    private final long throttleWaitMs;
+    private final long chunkDelayMs;
+    private final boolean includeUnversioned;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "rule-reprocess");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean stopping;
+    private final Map<String, AtomicLong> remaining = new ConcurrentHashMap<>();
+    // 규칙 키(domain|platform) → 재처리를 끝까지 마친 규칙 버전
+    private final Map<String, Integer> handledVersions = new ConcurrentHashMap<>();
+
+    public RuleReprocessJob(JdbcTemplate jdbcTemplate,
+                            RuleRegistry ruleRegistry,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${crawler.transform.reprocess.enabled:true}") boolean enabled,
+                            @Value("${crawler.transform.reprocess.chunk-size:500}") int chunkSize,
+                            @Value("${crawler.transform.reprocess.max-backlog:2000}") long maxBacklog,
+                            @Value("${crawler.transform.reprocess.throttle-wait-ms:5000}") long throttleWaitMs,
+                            @Value("${crawler.transform.reprocess.chunk-delay-ms:200}") long chunkDelayMs,
+                            @Value("${crawler.transform.reprocess.include-unversioned:false}") boolean includeUnversioned) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ruleRegistry = ruleRegistry;
+        this.eventPublisher = eventPublisher;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.maxBacklog = Math.max(this.chunkSize, maxBacklog);
+        this.throttleWaitMs = Math.max(100, throttleWaitMs);
+        this.chunkDelayMs = Math.max(0, chunkDelayMs);
+        this.includeUnversioned = includeUnversioned;
+
+        Gauge.builder("crawler.transform.reprocess.running", running, b -> b.get() ? 1 : 0)
+                .description("규칙 버전 재처리 작업 실행 여부")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        stopping = true;
+        runner.shutdownNow();
+    }
+
+    /**
+     * 규칙이 바뀐 플랫폼이 있는지 주기적으로 확인 (스케줄러 스레드를 막지 않도록 별도 스레드에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${crawler.transform.reprocess.interval-ms:300000}",
+            initialDelayString = "${crawler.transform.reprocess.initial-delay-ms:120000}")
+    public void scheduledCheck() {
+        if (!enabled) {
+            return;
+        }
+        List<RuleRegistry.Entry> changed = ruleRegistry.all().stream()
+                .filter(e -> {
+                    Integer handled = handledVersions.get(handledKey(e));
+                    return handled == null || e.version() > handled;
+                })
+                .toList();
+        if (!changed.isEmpty()) {
+            start(changed);
+        }
+    }
+
+    /**
+     * 재처리 시작 (domain/platformName이 null이면 전체 규칙 대상)
+     *
+     * @return 시작했으면 true, 이미 실행 중이면 false
+     */
+    public boolean trigger(String domain, String platformName) {
+        List<RuleRegistry.Entry> targets = platformName == null
+                ? List.copyOf(ruleRegistry.all())
+                : List.of(ruleRegistry.require(domain, platformName));
+        return start(targets);
+    }
+
+    private boolean start(List<RuleRegistry.Entry> targets) {
+        if (!running.compareAndSet(false, true)) {
+            return false;
+        }
+        runner.submit(() -> {
+            try {
+                for (RuleRegistry.Entry entry : targets) {
+                    if (stopping) break;
+                    if (reprocess(entry)) {
+                        handledVersions.merge(handledKey(entry), entry.version(), Math::max);
+                    }
+                }
+            } catch (Exception e) {
+                log.error("❌ [규칙 재처리] 실패: {}", e.getMessage(), e);
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    /**
+     * @return 끝까지 처리했으면 true (종료 요청으로 중단되면 false → 다음 확인에서 다시 스캔)
+     */
+    private boolean reprocess(RuleRegistry.Entry entry) throws InterruptedException {
+        long stale = countStale(entry);
+        if (stale == 0) {
+            return true;
+        }
+        AtomicLong left = remainingGauge(entry.platformName());
+        left.set(stale);
+        Counter requeuedCounter = Counter.builder("crawler.transform.reprocess.requeued")
+                .description("규칙 버전 변경으로 재적재한 raw_items 건수")
+                .tag("platform", entry.platformName())
+                .register(meterRegistry);
+        log.info("🚀 [규칙 재처리] {} v{} 이전 버전으로 변환된 {}건 재적재 시작",
+                entry.platformName(), entry.version(), stale);
+
+        long lastRawId = 0;
+        long requeued = 0;
+        while (!stopping) {
+            waitForSlack();
+            List<Long> ids = findStale(entry, lastRawId);
+            if (ids.isEmpty()) {
+                break;
+            }
+            lastRawId = ids.get(ids.size() - 1);
+
+            int updated = requeue(ids);
+            requeued += updated;
+            requeuedCounter.increment(updated);
+            left.set(Math.max(0, left.get() - ids.size()));
+            if (updated > 0) {
+                eventPublisher.publishEvent(new RawItemsArrivedEvent(entry.platformName(), updated));
+            }
+            if (chunkDelayMs > 0) {
+                Thread.sleep(chunkDelayMs);
+            }
+        }
+        left.set(0);
+        if (stopping) {
+            return false;
+        }
+        log.info("✅ [규칙 재처리] {} v{} 재적재 완료: {}건", entry.platformName(), entry.version(), requeued);
+        return true;
+    }
+
+    private static String handledKey(RuleRegistry.Entry entry) {
+        return entry.domain() + "|" + entry.platformName();
+    }
+
+    /**
+     * 미처리 적체가 max-backlog 미만이 될 때까지 대기 (수집 항목 처리를 우선)
+     */
+    private void waitForSlack() throws InterruptedException {
+        while (!stopping && pendingAtLeast(maxBacklog)) {
+            log.debug("[규칙 재처리] 미처리 적체 {}건 이상 - {}ms 대기", maxBacklog, throttleWaitMs);
+            Thread.sleep(throttleWaitMs);
+        }
+    }
+
+    private boolean pendingAtLeast(long limit) {
+        Long pending = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT 1 FROM raw_items " +
+                "WHERE processed = false AND dead_lettered_at IS NULL LIMIT ?) p",
+                Long.class, limit);
+        return pending != null && pending >= limit;
+    }
+
+    private long countStale(RuleRegistry.Entry entry) {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM raw_items r " +
+                "WHERE r.domain = ? AND r.platform_name = ? AND r.processed = true " +
+                "AND " + staleCondition(),
+                Long.class, entry.domain(), entry.platformName(), entry.version());
+        return count != null ? count : 0;
+    }
+
+    private List<Long> findStale(RuleRegistry.Entry entry, long afterRawId) {
+        return jdbcTemplate.queryForList(
+                "SELECT r.raw_id FROM raw_items r " +
+                "WHERE r.domain = ? AND r.platform_name = ? AND r.processed = true AND r.raw_id > ? " +
+                "AND " + staleCondition() + " " +
+                "ORDER BY r.raw_id LIMIT ?",
+                Long.class, entry.domain(), entry.platformName(), afterRawId, entry.version(), chunkSize);
+    }
+
+    /** 마지막 성공 실행의 규칙 버전 < 현재 버전 (파라미터 1개: 현재 버전) */
+    private String staleCondition() {
+        return includeUnversioned
+                ? "COALESCE(" + LAST_SUCCESS_VERSION + ", 0) < ?"
+                : LAST_SUCCESS_VERSION + " < ?";
+    }
+
+    private int requeue(List<Long> rawIds) {
+        return jdbcTemplate.update(con -> {
+            var ps = con.prepareStatement(
+                    "UPDATE raw_items SET processed = false, processed_at = NULL, " +
+                    "attempt_count = 0, next_attempt_at = NULL, dead_lettered_at = NULL " +
+                    "WHERE raw_id = ANY(?) AND processed = true");
+            Array ids = con.createArrayOf("bigint", rawIds.toArray());
+            ps.setArray(1, ids);
+            return ps;
+        });
+    }
+
+    private AtomicLong remainingGauge(String platformName) {
+        return remaining.computeIfAbsent(platformName, p -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder("crawler.transform.reprocess.remaining", value, AtomicLong::get)
+                    .description("규칙 버전 재처리 남은 건수")
+                    .tag("platform", p)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
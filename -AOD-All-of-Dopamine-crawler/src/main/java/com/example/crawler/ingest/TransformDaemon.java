@@ -0,0 +1,272 @@
+package com.example.crawler.ingest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상시 실행 Transform 데몬 (하루 1회 배치 대체)
+ * - N개 워커가 각자 BatchTransformServiceOptimized.processNextBatch로 배치를 잡아 독립 트랜잭션에서 처리
+ * - lockNextBatch(SKIP LOCKED)라 워커끼리 같은 raw_item을 잡지 않음
+ * - 처리할 항목이 없으면 대기 시간을 idle-backoff-min → max까지 2배씩 늘림, 처리하면 바로 다음 배치
+ * - CollectorService가 새 raw_items 커밋 후 RawItemsArrivedEvent를 발행하면 대기 중인 워커를 즉시 깨움
+ *   (wake-debounce-ms 동안 더 들어오는 알림을 모아 한 배치로 처리, 폴링은 안전망 역할만)
+ * - 종료 시 새 배치를 잡지 않고 진행 중인 배치가 끝날 때까지 shutdown-timeout-ms 만큼 대기
+ *
+ * 설정:
+ *   crawler.transform.daemon.enabled (기본 true, false면 TransformSchedulingService 정기 배치 사용)
+ *   crawler.transform.daemon.workers / batch-size / idle-backoff-min-ms / idle-backoff-max-ms / shutdown-timeout-ms
+ *   crawler.transform.daemon.wake-debounce-ms
+ */
+@Slf4j
+@Component
+public class TransformDaemon implements SmartLifecycle {
+
+    private final BatchTransformServiceOptimized batchService;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+    private final int workers;
+    private final int batchSize;
+    private final long idleBackoffMinMs;
+    private final long idleBackoffMaxMs;
+    private final long shutdownTimeoutMs;
+    private final long wakeDebounceMs;
+
+    private final Object idleMonitor = new Object();
+    private volatile boolean running;
+    private final AtomicBoolean pendingSignal = new AtomicBoolean();
+    private ExecutorService executor;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    private final Counter succeededCounter;
+    private final Counter failedCounter;
+    private final Counter errorCounter;
+    private final Counter signalWakeups;
+    private final Counter timerWakeups;
+    private final Timer batchTimer;
+
+    public TransformDaemon(BatchTransformServiceOptimized batchService,
+                           JdbcTemplate jdbcTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${crawler.transform.daemon.enabled:true}") boolean enabled,
+                           @Value("${crawler.transform.daemon.workers:2}") int workers,
+                           @Value("${crawler.transform.daemon.batch-size:200}") int batchSize,
+                           @Value("${crawler.transform.daemon.idle-backoff-min-ms:500}") long idleBackoffMinMs,
+                           @Value("${crawler.transform.daemon.idle-backoff-max-ms:60000}") long idleBackoffMaxMs,
+                           @Value("${crawler.transform.daemon.shutdown-timeout-ms:30000}") long shutdownTimeoutMs,
+                           @Value("${crawler.transform.daemon.wake-debounce-ms:20}") long wakeDebounceMs) {
+        this.batchService = batchService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.workers = Math.max(1, workers);
+        this.batchSize = Math.max(1, batchSize);
+        this.idleBackoffMinMs = Math.max(10, idleBackoffMinMs);
+        this.idleBackoffMaxMs = Math.max(this.idleBackoffMinMs, idleBackoffMaxMs);
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        this.wakeDebounceMs = Math.max(0, wakeDebounceMs);
+
+        this.succeededCounter = Counter.builder("crawler.transform.items")
+                .description("Transform 데몬 처리 건수")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("crawler.transform.items")
+                .description("Transform 데몬 처리 건수")
+                .tag("result", "failed")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("crawler.transform.errors")
+                .description("Transform 데몬 배치 단위 오류 횟수")
+                .register(meterRegistry);
+        this.signalWakeups = Counter.builder("crawler.transform.wakeups")
+                .description("Transform 워커 기상 원인별 횟수")
+                .tag("source", "signal")
+                .register(meterRegistry);
+        this.timerWakeups = Counter.builder("crawler.transform.wakeups")
+                .description("Transform 워커 기상 원인별 횟수")
+                .tag("source", "timer")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("crawler.transform.batch.duration")
+                .description("Transform 데몬 배치 처리 시간")
+                .register(meterRegistry);
+        Gauge.builder("crawler.transform.workers.active", activeWorkers, AtomicInteger::get)
+                .description("배치를 처리 중인 Transform 워커 수")
+                .register(meterRegistry);
+        Gauge.builder("crawler.transform.backlog", backlog, AtomicLong::get)
+                .description("미처리 raw_items 건수")
+                .register(meterRegistry);
+        Gauge.builder("crawler.transform.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("가장 오래된 미처리 raw_item의 대기 시간(초)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        AtomicInteger seq = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, r -> {
+            Thread t = new Thread(r, "transform-worker-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.submit(this::workerLoop);
+        }
+        log.info("🚀 [Transform 데몬] 시작 - 워커: {}, 배치: {}, 유휴 대기: {}~{}ms",
+                workers, batchSize, idleBackoffMinMs, idleBackoffMaxMs);
+    }
+
+    @Override
+    public void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        wakeUp();
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                log.warn("⚠️ [Transform 데몬] {}ms 내에 종료되지 않아 워커 인터럽트", shutdownTimeoutMs);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        log.info("🛑 [Transform 데몬] 종료");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 대기 중인 워커를 즉시 깨움 (새 raw_items 적재 알림, 종료 요청 등)
+     */
+    public void wakeUp() {
+        synchronized (idleMonitor) {
+            idleMonitor.notifyAll();
+        }
+    }
+
+    private void workerLoop() {
+        long backoff = idleBackoffMinMs;
+        while (running && !Thread.currentThread().isInterrupted()) {
+            BatchTransformServiceOptimized.BatchResult result;
+            activeWorkers.incrementAndGet();
+            Timer.Sample sample = Timer.start();
+            try {
+                result = batchService.processNextBatch(batchSize);
+            } catch (Exception e) {
+                errorCounter.increment();
+                log.error("❌ [Transform 데몬] 배치 처리 오류: {}", e.getMessage(), e);
+                result = null;
+            } finally {
+                activeWorkers.decrementAndGet();
+            }
+
+            if (result != null && result.claimed() > 0) {
+                sample.stop(batchTimer);
+                succeededCounter.increment(result.succeeded());
+                failedCounter.increment(result.failed());
+            }
+
+            // 성공한 항목이 있으면 바로 다음 배치, 없으면(빈 큐/전부 실패/오류) 점점 길게 대기
+            if (result != null && result.succeeded() > 0) {
+                backoff = idleBackoffMinMs;
+                continue;
+            }
+            if (!idle(backoff)) {
+                return;
+            }
+            backoff = Math.min(backoff * 2, idleBackoffMaxMs);
+        }
+    }
+
+    /**
+     * 새 raw_items 커밋 알림 → 대기 중인 워커 기상
+     * - 처리 중인 워커는 pendingSignal을 보고 대기 없이 바로 다음 배치를 잡음 (알림 유실 없음)
+     * - 트랜잭션 밖(saveRawBatch)에서 발행된 이벤트도 받도록 fallbackExecution
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRawItemsArrived(RawItemsArrivedEvent event) {
+        if (!running) {
+            return;
+        }
+        pendingSignal.set(true);
+        wakeUp();
+    }
+
+    /**
+     * @return 계속 실행할지 여부 (종료/인터럽트 시 false)
+     */
+    private boolean idle(long millis) {
+        try {
+            synchronized (idleMonitor) {
+                if (running && !pendingSignal.get()) {
+                    idleMonitor.wait(millis);
+                }
+            }
+            if (!running) {
+                return false;
+            }
+            if (pendingSignal.getAndSet(false)) {
+                signalWakeups.increment();
+                // 짧게 기다려 연달아 들어오는 적재를 한 배치로 모음
+                if (wakeDebounceMs > 0) {
+                    Thread.sleep(wakeDebounceMs);
+                }
+            } else {
+                timerWakeups.increment();
+            }
+            return running;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 적체량/지연 게이지 갱신 (스크레이프마다 DB 조회하지 않도록 주기적으로 캐시)
+     */
+    @Scheduled(fixedDelayString = "${crawler.transform.daemon.backlog-refresh-ms:15000}")
+    public void refreshBacklog() {
+        if (!running) {
+            return;
+        }
+        try {
+            jdbcTemplate.query(
+                    "SELECT COUNT(*) AS pending, " +
+                    "COALESCE(EXTRACT(EPOCH FROM (now() - MIN(fetched_at))), 0) AS lag " +
+                    "FROM raw_items WHERE processed = false AND dead_lettered_at IS NULL",
+                    rs -> {
+                        backlog.set(rs.getLong("pending"));
+                        lagSeconds.set(rs.getLong("lag"));
+                    });
+        } catch (Exception e) {
+            log.debug("Transform backlog 조회 실패: {}", e.getMessage());
+        }
+    }
+}
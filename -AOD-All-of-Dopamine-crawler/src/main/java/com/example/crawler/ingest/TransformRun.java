@@ -6,7 +6,10 @@ import lombok.Getter; import lombok.Setter;
 import java.time.Instant;
 
 @Entity @Getter @Setter
-@Table(name="transform_runs", indexes = @Index(name="idx_tr_created", columnList="createdAt"))
+@Table(name="transform_runs", indexes = {
+        @Index(name="idx_tr_created", columnList="createdAt"),
+        @Index(name="idx_tr_raw", columnList="rawId, runId")   // raw_item별 마지막 실행 조회 (규칙 버전 재처리)
+})
 public class TransformRun {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long runId;
@@ -15,6 +18,7 @@ public class TransformRun {
     @Column(nullable=false, length=100) private String platformName;
     @Column(nullable=false, length=50) private String domain;
     @Column(length=500) private String rulePath;           // ex: rules/webnovel/naverseries.yml
+    private Integer ruleVersion;                            // 사용한 규칙의 schemaVersion (규칙 변경 시 재처리 대상 선별용)
 
     @Column(nullable=false, length=50) private String status; // SUCCESS/FAILED
     @Column(columnDefinition="text") private String error;
@@ -2,6 +2,7 @@ package com.example.crawler.ingest;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
@@ -9,9 +10,11 @@ import org.springframework.stereotype.Service;
  * Transform 정기 스케줄러
  * - 크롤링된 raw_items를 정기적으로 변환하여 contents로 upsert
  * - 처리되지 않은 데이터를 배치로 처리
+ * - 기본은 TransformDaemon이 상시 처리하므로, 데몬을 끈 경우(crawler.transform.daemon.enabled=false)에만 활성화
  */
 @Slf4j
 @Service
+@ConditionalOnProperty(name = "crawler.transform.daemon.enabled", havingValue = "false")
 @RequiredArgsConstructor
 public class TransformSchedulingService {
 
@@ -0,0 +1,121 @@
+package com.example.crawler.ingest;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 플랫폼별 "자주 바뀌는 지표" 필드 목록
+ * - payload 경로 → PlatformData.attributes 키 (rules/*.yml의 platform.attributes.* 키와 동일하게 유지)
+ * - 이 필드들은 raw_items 해시에서 빠지고, 매 수집마다 PlatformMetricsWriter가 attributes에 직접 반영
+ *   → 조회수/좋아요 변화만으로는 transform/merge 경로를 다시 타지 않음
+ * - 설정으로 교체 가능: crawler.volatile-metrics.NaverWebtoon=likeCount:like_count
+ */
+@Component
+public class VolatileMetricCatalog {
+
+    private static final Map<String, String> TMDB = orderedOf(
+            "popularity", "popularity",
+            "vote_count", "vote_count",
+            "vote_average", "vote_average");
+
+    private static final Map<String, Map<String, String>> DEFAULTS = Map.of(
+            "TMDB_MOVIE", TMDB,
+            "TMDB_TV", TMDB,
+            "Steam", orderedOf("recommendations.total", "recommendation_count"),
+            "NaverWebtoon", orderedOf("likeCount", "like_count"),
+            "NaverSeries", orderedOf(
+                    "rating", "rating",
+                    "downloadCount", "download_count",
+                    "commentCount", "comment_count"),
+            "KakaoPage", orderedOf(
+                    "rating", "rating",
+                    "viewCount", "view_count",
+                    "commentCount", "comment_count")
+    );
+
+    private final Environment environment;
+    private final Map<String, Map<String, String>> cache = new ConcurrentHashMap<>();
+
+    public VolatileMetricCatalog(Environment environment) {
+        this.environment = environment;
+    }
+
+    /**
+     * payload 경로(점 구분) → attributes 키
+     */
+    public Map<String, String> mappings(String platformName) {
+        return cache.computeIfAbsent(platformName, p -> {
+            String override = environment.getProperty("crawler.volatile-metrics." + p);
+            if (override == null) {
+                return DEFAULTS.getOrDefault(p, Collections.emptyMap());
+            }
+            Map<String, String> parsed = new LinkedHashMap<>();
+            for (String pair : override.split(",")) {
+                String[] parts = pair.trim().split(":", 2);
+                if (!parts[0].isBlank()) {
+                    parsed.put(parts[0].trim(), parts.length > 1 ? parts[1].trim() : parts[0].trim());
+                }
+            }
+            return Collections.unmodifiableMap(parsed);
+        });
+    }
+
+    /**
+     * 해시에서 제외할 payload 최상위 키
+     */
+    public Set<String> rootKeys(String platformName) {
+        return mappings(platformName).keySet().stream()
+                .map(path -> {
+                    int dot = path.indexOf('.');
+                    return dot < 0 ? path : path.substring(0, dot);
+                })
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * payload에서 지표 값만 추출 (attributes 키 기준, null 제외)
+     */
+    public Map<String, Object> extract(String platformName, Map<String, Object> payload) {
+        Map<String, String> mappings = mappings(platformName);
+        if (mappings.isEmpty() || payload == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>(mappings.size() * 2);
+        for (Map.Entry<String, String> e : mappings.entrySet()) {
+            Object value = get(payload, e.getKey());
+            if (value != null) {
+                metrics.put(e.getValue(), value);
+            }
+        }
+        return metrics;
+    }
+
+    private static Object get(Map<String, Object> payload, String path) {
+        if (path.indexOf('.') < 0) {
+            return payload.get(path);
+        }
+        Object cur = payload;
+        for (String segment : path.split("\\.")) {
+            if (!(cur instanceof Map<?, ?> m)) {
+                return null;
+            }
+            cur = m.get(segment);
+        }
+        return cur;
+    }
+
+    private static Map<String, String> orderedOf(String... kv) {
+        Map<String, String> m = new LinkedHashMap<>();
+        for (int i = 0; i < kv.length; i += 2) {
+            m.put(kv[i], kv[i + 1]);
+        }
+        return Collections.unmodifiableMap(m);
+    }
+}
@@ -69,5 +69,13 @@ public class CustomMetrics {
                         "platform", platform)
                 .increment(count);
     }
-}
 
+    public void recordPriorityCrawl(String platform, String result) {
+        Counter.builder("crawler.priority.crawl")
+                .description("우선순위 크롤링 처리 결과")
+                .tag("platform", platform)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.crawler.ranking.common;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+
+/**
+ * 매핑 실패 랭킹 작품 우선순위 크롤링 큐
+ * - 랭킹 저장 시 PlatformData가 없는 (platform, platformSpecificId)를 적재
+ * - 순위가 높은(숫자가 작은) 작품부터 꺼내도록 정렬
+ * - 같은 작품은 큐에 한 번만 존재 (중복 적재 방지)
+ * - 단건 상세 수집이 가능한 플랫폼만 적재 (Steam, TMDB)
+ */
+@Slf4j
+@Component
+public class PriorityCrawlQueue {
+
+    /** 단건 상세 수집을 지원하는 플랫폼 (네이버 계열은 목록 크롤링만 지원) */
+    public static final Set<String> SUPPORTED_PLATFORMS = Set.of("Steam", "TMDB_MOVIE", "TMDB_TV");
+
+    private final PriorityBlockingQueue<PriorityCrawlTask> queue = new PriorityBlockingQueue<>(64,
+            Comparator.comparing(PriorityCrawlTask::ranking, Comparator.nullsLast(Comparator.naturalOrder()))
+                    .thenComparing(PriorityCrawlTask::enqueuedAt));
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final int capacity;
+
+    public PriorityCrawlQueue(MeterRegistry meterRegistry,
+                              @Value("${crawler.priority-crawl.capacity:500}") int capacity) {
+        this.capacity = capacity;
+        Gauge.builder("crawler.priority.queue.size", queue, PriorityBlockingQueue::size)
+                .description("우선순위 크롤링 큐 대기 작품 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 매핑 실패 작품 적재
+     *
+     * @return 새로 적재되었으면 true (미지원 플랫폼, 중복, 용량 초과 시 false)
+     */
+    public boolean enqueue(String platform, String platformSpecificId, Integer ranking) {
+        return offer(new PriorityCrawlTask(platform, platformSpecificId, ranking, Instant.now(), 0));
+    }
+
+    /**
+     * 실패한 작업 재적재 (시도 횟수 증가)
+     */
+    public boolean requeue(PriorityCrawlTask task) {
+        return offer(new PriorityCrawlTask(task.platform(), task.platformSpecificId(), task.ranking(),
+                Instant.now(), task.attempts() + 1));
+    }
+
+    private boolean offer(PriorityCrawlTask task) {
+        if (task.platform() == null || !SUPPORTED_PLATFORMS.contains(task.platform())) {
+            return false;
+        }
+        if (task.platformSpecificId() == null || task.platformSpecificId().isBlank()) {
+            return false;
+        }
+        if (queue.size() >= capacity) {
+            log.warn("우선순위 크롤링 큐가 가득 찼습니다. 적재 생략: {} ({})", task.platform(), task.platformSpecificId());
+            return false;
+        }
+        if (!pendingKeys.add(task.key())) {
+            return false;
+        }
+        queue.offer(task);
+        log.debug("우선순위 크롤링 큐 적재: {} ({}), 순위={}", task.platform(), task.platformSpecificId(), task.ranking());
+        return true;
+    }
+
+    /**
+     * 우선순위 순으로 최대 maxItems개 꺼내기
+     */
+    public List<PriorityCrawlTask> drain(int maxItems) {
+        List<PriorityCrawlTask> drained = new ArrayList<>(maxItems);
+        queue.drainTo(drained, maxItems);
+        drained.forEach(task -> pendingKeys.remove(task.key()));
+        return drained;
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * 우선순위 크롤링 작업 단위
+     */
+    public record PriorityCrawlTask(String platform, String platformSpecificId, Integer ranking,
+                                    Instant enqueuedAt, int attempts) {
+        String key() {
+            return platform + ":" + platformSpecificId;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.crawler.ranking.common;
+
+import com.example.crawler.contents.TMDB.service.TmdbService;
+import com.example.crawler.game.steam.service.SteamCrawlService;
+import com.example.crawler.ingest.BatchTransformService;
+import com.example.crawler.monitoring.CustomMetrics;
+import com.example.crawler.ranking.common.PriorityCrawlQueue.PriorityCrawlTask;
+import com.example.crawler.util.InterruptibleSleep;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 우선순위 크롤링 큐 처리 워커
+ * - 랭킹에는 있지만 상세 페이지가 없는 작품을 수 분 내로 수집
+ * - 단건 상세 수집 → 해당 raw_item 즉시 Transform → 랭킹 행 재매핑
+ * - 실패 시 최대 재시도 횟수까지 큐에 재적재
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriorityCrawlWorker {
+
+    private static final String TMDB_LANGUAGE = "ko-KR";
+
+    private final PriorityCrawlQueue priorityCrawlQueue;
+    private final SteamCrawlService steamCrawlService;
+    private final TmdbService tmdbService;
+    private final BatchTransformService batchTransformService;
+    private final RankingUpsertHelper rankingUpsertHelper;
+    private final CustomMetrics customMetrics;
+
+    @Value("${crawler.priority-crawl.batch-size:20}")
+    private int batchSize;
+
+    @Value("${crawler.priority-crawl.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${crawler.priority-crawl.request-delay-ms:500}")
+    private long requestDelayMs;
+
+    // 1분마다 큐 확인 (이전 실행 종료 후 기준)
+    @Scheduled(fixedDelayString = "${crawler.priority-crawl.interval:60000}",
+            initialDelayString = "${crawler.priority-crawl.initial-delay:60000}")
+    public void processQueue() {
+        List<PriorityCrawlTask> tasks = priorityCrawlQueue.drain(batchSize);
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        log.info("🚀 [우선순위 크롤링] {}개 작품 처리 시작 (대기 {}개)", tasks.size(), priorityCrawlQueue.size());
+        int mapped = 0;
+
+        for (PriorityCrawlTask task : tasks) {
+            if (Thread.currentThread().isInterrupted()) {
+                log.info("작업 인터럽트 감지, 우선순위 크롤링 중단");
+                return;
+            }
+
+            if (process(task)) {
+                mapped++;
+            }
+
+            if (!InterruptibleSleep.sleep(requestDelayMs)) {
+                log.info("우선순위 크롤링 중 인터럽트 발생, 작업 중단");
+                return;
+            }
+        }
+
+        log.info("✅ [우선순위 크롤링] 완료: {}/{}개 랭킹 재매핑", mapped, tasks.size());
+    }
+
+    private boolean process(PriorityCrawlTask task) {
+        String platform = task.platform();
+        String psid = task.platformSpecificId();
+        try {
+            if (!fetch(platform, psid)) {
+                retryOrDrop(task, "fetch_failed");
+                return false;
+            }
+
+            batchTransformService.processRawItem(platform, psid);
+
+            if (rankingUpsertHelper.remapRanking(platform, psid)) {
+                customMetrics.recordPriorityCrawl(platform, "mapped");
+                return true;
+            }
+            retryOrDrop(task, "not_mapped");
+        } catch (Exception e) {
+            log.warn("우선순위 크롤링 처리 실패: {} ({}): {}", platform, psid, e.getMessage());
+            retryOrDrop(task, "error");
+        }
+        return false;
+    }
+
+    /**
+     * 플랫폼별 단건 상세 수집 → raw_items 저장
+     */
+    private boolean fetch(String platform, String psid) {
+        return switch (platform) {
+            case "Steam" -> steamCrawlService.collectGameByAppId(Long.parseLong(psid));
+            case "TMDB_MOVIE" -> tmdbService.collectMovieById(Integer.parseInt(psid), TMDB_LANGUAGE);
+            case "TMDB_TV" -> tmdbService.collectTvShowById(Integer.parseInt(psid), TMDB_LANGUAGE);
+            default -> false;
+        };
+    }
+
+    private void retryOrDrop(PriorityCrawlTask task, String reason) {
+        if (task.attempts() + 1 < maxAttempts && priorityCrawlQueue.requeue(task)) {
+            customMetrics.recordPriorityCrawl(task.platform(), "retried");
+            return;
+        }
+        log.warn("우선순위 크롤링 포기: {} ({}), 사유={}, 시도={}회",
+                task.platform(), task.platformSpecificId(), reason, task.attempts() + 1);
+        customMetrics.recordPriorityCrawl(task.platform(), reason);
+    }
+}
@@ -7,6 +7,7 @@ import com.example.shared.repository.PlatformDataRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -17,6 +18,7 @@ import java.util.Optional;
  * - 기존 작품: ID 유지하며 랭킹/제목 업데이트
  * - 신규 작품: 새로 추가
  * - 제외 작품: 삭제
+ * - 매핑 실패 작품: 우선순위 크롤링 큐에 적재 후 수집 완료 시 재매핑
  */
 @Slf4j
 @Component
@@ -25,6 +27,7 @@ public class RankingUpsertHelper {
 
     private final ExternalRankingRepository rankingRepository;
     private final PlatformDataRepository platformDataRepository;
+    private final PriorityCrawlQueue priorityCrawlQueue;
 
     /**
      * 랭킹 데이터 Upsert (Insert or Update)
@@ -86,12 +89,46 @@ public class RankingUpsertHelper {
                 log.debug("작품 매핑 성공: {} -> contentId={}", ranking.getTitle(), platformDataOpt.get().getContent().getContentId());
             } else {
                 log.debug("작품 매핑 실패 (DB에 없음): {} ({})", ranking.getTitle(), ranking.getPlatformSpecificId());
+                priorityCrawlQueue.enqueue(platform, ranking.getPlatformSpecificId(), ranking.getRanking());
             }
         } catch (Exception e) {
             log.warn("작품 매핑 중 오류 발생: {}", e.getMessage());
         }
     }
 
+    /**
+     * 우선순위 크롤링 완료 후 랭킹 행 재매핑
+     *
+     * @param platform 플랫폼 이름
+     * @param platformSpecificId 플랫폼별 고유 ID
+     * @return 매핑되었으면 true (랭킹에서 빠졌거나 아직 PlatformData가 없으면 false)
+     */
+    @Transactional
+    public boolean remapRanking(String platform, String platformSpecificId) {
+        Optional<ExternalRanking> rankingOpt = rankingRepository
+                .findByPlatformAndPlatformSpecificId(platform, platformSpecificId);
+        if (rankingOpt.isEmpty()) {
+            log.debug("재매핑 대상 랭킹 없음 (이미 제외됨): {} ({})", platform, platformSpecificId);
+            return false;
+        }
+
+        ExternalRanking ranking = rankingOpt.get();
+        if (ranking.getContent() != null) {
+            return true;
+        }
+
+        Optional<PlatformData> platformDataOpt = platformDataRepository
+                .findByPlatformNameAndPlatformSpecificId(platform, platformSpecificId);
+        if (platformDataOpt.isEmpty()) {
+            return false;
+        }
+
+        ranking.setContent(platformDataOpt.get().getContent());
+        rankingRepository.save(ranking);
+        log.info("랭킹 재매핑 완료: {} -> contentId={}", ranking.getTitle(), platformDataOpt.get().getContent().getContentId());
+        return true;
+    }
+
     /**
      * 현재 랭킹 목록에 없는 작품 삭제
      * 
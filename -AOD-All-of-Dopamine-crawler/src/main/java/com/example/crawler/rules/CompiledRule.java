@@ -0,0 +1,168 @@
+package com.example.crawler.rules;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * MappingRule 실행 계획 (규칙당 1회 컴파일, 불변 → 여러 변환 스레드가 공유)
+ * - 소스 경로를 세그먼트(키 + [인덱스])로 미리 분해 → 항목마다 split/괄호 파싱 없음
+ * - 목적지를 MASTER / PLATFORM / ATTRIBUTES / DOMAIN 슬롯과 최종 키로 미리 해석
+ * - platform.attributes 값이 없을 때 쓰는 기본값(0 / 빈 목록 / "")을 미리 결정
+ * - 정규화 단계는 미리 컴파일한 Pattern 기반 함수로 변환 (알 수 없는 type은 제외)
+ */
+public final class CompiledRule {
+
+    private static final String PLATFORM_PREFIX = "platform.";
+    private static final String ATTRIBUTES_PREFIX = "attributes.";
+    private static final String DOMAIN_PREFIX = "domain.";
+
+    private static final Pattern PARENTHESES = Pattern.compile("\\([^)]*\\)");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+    private static final Pattern BRACKETS = Pattern.compile("\\[[^\\]]*\\]");
+    private static final Pattern SERIES_QUALIFIERS = Pattern.compile("(시즌\\s*\\d+|외전|스페셜)$");
+
+    public enum Target { MASTER, PLATFORM, ATTRIBUTES, DOMAIN }
+
+    /** 경로 한 칸 (index < 0 이면 인덱스 없음) */
+    public record Segment(String key, int index) {}
+
+    /**
+     * 필드 매핑 1개
+     * @param defaultValue 값이 없을 때 넣을 값 (null이면 건너뜀)
+     */
+    public record FieldPlan(String source, List<Segment> path, Target target, String key, Object defaultValue) {
+
+        public Object read(Object root) {
+            Object cur = root;
+            for (int i = 0, n = path.size(); i < n; i++) {
+                if (!(cur instanceof Map<?, ?> m)) return null;
+                Segment segment = path.get(i);
+                cur = m.get(segment.key());
+                if (segment.index() >= 0) {
+                    if (!(cur instanceof List<?> list) || segment.index() >= list.size()) return null;
+                    cur = list.get(segment.index());
+                }
+            }
+            return cur;
+        }
+    }
+
+    /** 정규화 단계 1개 (master 문서의 fields에 op 적용) */
+    public record NormalizerPlan(String type, List<String> fields, UnaryOperator<String> op) {}
+
+    private final MappingRule rule;
+    private final List<FieldPlan> fields;
+    private final List<NormalizerPlan> normalizers;
+
+    private CompiledRule(MappingRule rule, List<FieldPlan> fields, List<NormalizerPlan> normalizers) {
+        this.rule = rule;
+        this.fields = fields;
+        this.normalizers = normalizers;
+    }
+
+    public static CompiledRule compile(MappingRule rule) {
+        List<FieldPlan> fields = new ArrayList<>();
+        Map<String, String> fm = rule.getFieldMappings();
+        if (fm != null) {
+            for (var e : fm.entrySet()) {
+                fields.add(compileField(e.getKey(), e.getValue()));
+            }
+        }
+
+        List<NormalizerPlan> normalizers = new ArrayList<>();
+        if (rule.getNormalizers() != null) {
+            for (NormalizerStep step : rule.getNormalizers()) {
+                UnaryOperator<String> op = normalizer(step.getType());
+                if (op != null && step.getFields() != null && !step.getFields().isEmpty()) {
+                    normalizers.add(new NormalizerPlan(step.getType(), List.copyOf(step.getFields()), op));
+                }
+            }
+        }
+        return new CompiledRule(rule, List.copyOf(fields), List.copyOf(normalizers));
+    }
+
+    public MappingRule rule() {
+        return rule;
+    }
+
+    public List<FieldPlan> fields() {
+        return fields;
+    }
+
+    public List<NormalizerPlan> normalizers() {
+        return normalizers;
+    }
+
+    private static FieldPlan compileField(String src, String dst) {
+        Target target;
+        String key;
+        if (dst.startsWith(PLATFORM_PREFIX)) {
+            String rest = dst.substring(PLATFORM_PREFIX.length());
+            if (rest.startsWith(ATTRIBUTES_PREFIX)) {
+                target = Target.ATTRIBUTES;
+                key = rest.substring(ATTRIBUTES_PREFIX.length());
+            } else {
+                target = Target.PLATFORM;
+                key = rest;
+            }
+        } else if (dst.startsWith(DOMAIN_PREFIX)) {
+            target = Target.DOMAIN;
+            key = dst.substring(DOMAIN_PREFIX.length());
+        } else {
+            target = Target.MASTER;
+            key = dst;
+        }
+        Object defaultValue = target == Target.ATTRIBUTES ? attributeDefault(key) : null;
+        return new FieldPlan(src, parsePath(src), target, key, defaultValue);
+    }
+
+    /**
+     * developers[0].name → [developers[0], name]
+     * - 괄호 안이 숫자가 아니면 인덱스 없이 키만 사용 (기존 deepGet과 동일)
+     */
+    static List<Segment> parsePath(String path) {
+        List<Segment> segments = new ArrayList<>();
+        for (String part : path.split("\\.")) {
+            int index = -1;
+            if (part.contains("[") && part.endsWith("]")) {
+                int i = part.indexOf('[');
+                String idxStr = part.substring(i + 1, part.length() - 1);
+                part = part.substring(0, i);
+                try {
+                    int parsed = Integer.parseInt(idxStr);
+                    index = parsed < 0 ? Integer.MAX_VALUE : parsed; // 음수 인덱스는 항상 범위 밖
+                } catch (NumberFormatException ignored) {}
+            }
+            segments.add(new Segment(part, index));
+        }
+        return List.copyOf(segments);
+    }
+
+    private static Object attributeDefault(String attrName) {
+        if (attrName.contains("count") || attrName.contains("runtime")) {
+            return 0;
+        } else if (attrName.equals("cast") || attrName.equals("crew")) {
+            return Collections.emptyList();
+        } else {
+            return "";
+        }
+    }
+
+    private static UnaryOperator<String> normalizer(String type) {
+        if (type == null) return null;
+        return switch (type) {
+            case "lowercase" -> String::toLowerCase;
+            case "strip_parentheses" -> s -> PARENTHESES.matcher(s).replaceAll("");
+            case "collapse_spaces" -> s -> SPACES.matcher(s).replaceAll(" ").trim();
+            case "nfkc" -> s -> Normalizer.normalize(s, Normalizer.Form.NFKC);
+            case "strip_brackets" -> s -> BRACKETS.matcher(s).replaceAll("");
+            case "strip_series_qualifiers" -> s -> SERIES_QUALIFIERS.matcher(s).replaceAll("").trim();
+            default -> null;
+        };
+    }
+}
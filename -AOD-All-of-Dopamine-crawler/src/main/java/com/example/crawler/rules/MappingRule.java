@@ -1,5 +1,6 @@
 package com.example.crawler.rules;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -19,6 +20,22 @@ public class MappingRule {
     // [ ✨ 핵심 추가 ] YAML의 domainObjectMappings를 담을 필드
     private Map<String, DomainObjectMapping> domainObjectMappings;
     // getters/setters
+
+    // 실행 계획 캐시 (YAML 바인딩 대상 아님, 로드 후 규칙을 수정하지 않는 전제)
+    @Getter(AccessLevel.NONE) @Setter(AccessLevel.NONE)
+    private volatile CompiledRule compiled;
+
+    /**
+     * 실행 계획 (최초 호출 시 1회 컴파일, 동시에 컴파일돼도 결과가 같으므로 락 없음)
+     */
+    public CompiledRule compiled() {
+        CompiledRule plan = compiled;
+        if (plan == null) {
+            plan = CompiledRule.compile(this);
+            compiled = plan;
+        }
+        return plan;
+    }
 }
 
 
@@ -0,0 +1,106 @@
+package com.example.crawler.service;
+
+import com.example.shared.entity.Content;
+import com.example.shared.entity.PlatformData;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.LockMode;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 배치 변환 청크의 새 행 일괄 저장
+ * - contents / platform_data는 IDENTITY 키라 JPA로 저장하면 건마다 즉시 INSERT (Hibernate 배치 불가)
+ *   → 시퀀스에서 ID를 청크 단위로 미리 받고 JDBC 배치 INSERT 1회씩
+ * - 도메인 상세는 작품 ID를 그대로 키로 쓰므로(@MapsId) persist만 해두면 flush 때 Hibernate가 배치 INSERT
+ *   (JDBC로 넣은 작품은 먼저 영속성 컨텍스트에 다시 연결)
+ * - 같은 트랜잭션의 커넥션을 쓰므로 실패하면 청크가 속한 배치 전체가 롤백
+ */
+@Component
+@RequiredArgsConstructor
+public class BatchInsertWriter {
+
+    private static final String ALLOCATE_IDS =
+            "SELECT nextval(pg_get_serial_sequence(?, ?)) FROM generate_series(1, ?)";
+
+    private static final String INSERT_CONTENT =
+            "INSERT INTO contents (content_id, domain, master_title, original_title, release_date, " +
+            "poster_image_url, synopsis, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_PLATFORM_DATA =
+            "INSERT INTO platform_data (platform_data_id, content_id, platform_name, platform_specific_id, url, " +
+            "attributes, last_seen_at) VALUES (?, ?, ?, ?, ?, CAST(? AS jsonb), ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper om = new ObjectMapper();
+
+    /**
+     * 청크 하나의 새 행 버퍼 생성
+     * @param expectedRows 청크 항목 수 (ID를 이만큼씩 미리 할당)
+     */
+    public BatchInserts begin(int expectedRows) {
+        return new BatchInserts(
+                count -> allocateIds("contents", "content_id", count),
+                count -> allocateIds("platform_data", "platform_data_id", count),
+                expectedRows);
+    }
+
+    /**
+     * 버퍼에 모인 새 행 저장 (호출 후 EntityManager.flush로 도메인 상세 INSERT)
+     */
+    public void write(BatchInserts inserts) {
+        List<Content> contents = inserts.contents();
+        if (!contents.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CONTENT, contents, contents.size(), (ps, c) -> {
+                ps.setLong(1, c.getContentId());
+                ps.setString(2, c.getDomain().name());
+                ps.setString(3, c.getMasterTitle());
+                ps.setString(4, c.getOriginalTitle());
+                ps.setObject(5, c.getReleaseDate(), Types.DATE);
+                ps.setString(6, c.getPosterImageUrl());
+                ps.setString(7, c.getSynopsis());
+                ps.setTimestamp(8, Timestamp.from(c.getCreatedAt()));
+                ps.setTimestamp(9, Timestamp.from(c.getUpdatedAt()));
+            });
+        }
+
+        List<PlatformData> platformData = inserts.platformData();
+        if (!platformData.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_PLATFORM_DATA, platformData, platformData.size(), (ps, pd) -> {
+                ps.setLong(1, pd.getPlatformDataId());
+                ps.setLong(2, pd.getContent().getContentId());
+                ps.setString(3, pd.getPlatformName());
+                ps.setString(4, pd.getPlatformSpecificId());
+                ps.setString(5, pd.getUrl());
+                ps.setString(6, toJson(pd.getAttributes()));
+                ps.setTimestamp(7, pd.getLastSeenAt() != null ? Timestamp.from(pd.getLastSeenAt()) : null);
+            });
+        }
+
+        // JDBC로 넣은 작품을 조회 없이 영속 상태로 다시 연결 (도메인 상세의 @MapsId가 작품을 새 엔티티로 보지 않게)
+        Session session = entityManager.unwrap(Session.class);
+        contents.forEach(c -> session.lock(c, LockMode.NONE));
+        inserts.domainEntities().forEach(entityManager::persist);
+    }
+
+    private List<Long> allocateIds(String table, String column, int count) {
+        return jdbcTemplate.queryForList(ALLOCATE_IDS, Long.class, table, column, count);
+    }
+
+    private String toJson(Map<String, Object> attributes) {
+        try {
+            return om.writeValueAsString(attributes != null ? attributes : Map.of());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
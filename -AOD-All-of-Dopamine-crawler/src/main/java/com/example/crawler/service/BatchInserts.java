@@ -0,0 +1,100 @@
+package com.example.crawler.service;
+
+import com.example.shared.entity.Content;
+import com.example.shared.entity.PlatformData;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * 배치 변환 청크에서 새로 만든 행 (청크 끝에 BatchInsertWriter가 한 번에 INSERT)
+ * - contents / platform_data ID는 시퀀스에서 청크 단위로 미리 받아 바로 부여
+ *   → 같은 청크의 뒤 항목이 새 작품을 중복 후보로 보고 병합하거나 참조할 수 있음
+ * - INSERT는 청크 끝에 하므로 청크 안에서 병합으로 채운 값도 최종 상태로 기록됨
+ *
+ * 한 트랜잭션(한 스레드) 안에서만 사용
+ */
+public class BatchInserts {
+
+    private final IdBlock contentIds;
+    private final IdBlock platformDataIds;
+    private final List<Content> contents = new ArrayList<>();
+    private final List<PlatformData> platformData = new ArrayList<>();
+    private final List<Object> domainEntities = new ArrayList<>();
+
+    /**
+     * @param contentIdSource      contents ID n개 할당
+     * @param platformDataIdSource platform_data ID n개 할당
+     * @param blockSize            한 번에 할당받을 ID 수 (보통 청크 크기)
+     */
+    BatchInserts(IntFunction<List<Long>> contentIdSource, IntFunction<List<Long>> platformDataIdSource, int blockSize) {
+        this.contentIds = new IdBlock(contentIdSource, blockSize);
+        this.platformDataIds = new IdBlock(platformDataIdSource, blockSize);
+    }
+
+    /**
+     * 새 작품 등록 (ID/생성 시각 부여, 저장은 청크 끝)
+     */
+    public Content addContent(Content content) {
+        Instant now = Instant.now();
+        content.setContentId(contentIds.next());
+        content.setCreatedAt(now);
+        content.setUpdatedAt(now);
+        contents.add(content);
+        return content;
+    }
+
+    /**
+     * 새 플랫폼 정보 등록 (ID 부여, 저장은 청크 끝)
+     */
+    public PlatformData addPlatformData(PlatformData pd) {
+        pd.setPlatformDataId(platformDataIds.next());
+        platformData.add(pd);
+        return pd;
+    }
+
+    /**
+     * 새 작품의 도메인 상세 등록 (청크 끝에 persist → Hibernate 배치 INSERT)
+     */
+    public void addDomainEntity(Object domainEntity) {
+        domainEntities.add(domainEntity);
+    }
+
+    List<Content> contents() {
+        return contents;
+    }
+
+    List<PlatformData> platformData() {
+        return platformData;
+    }
+
+    List<Object> domainEntities() {
+        return domainEntities;
+    }
+
+    /**
+     * 필요할 때 blockSize개씩 받아 두고 하나씩 꺼내 씀 (청크당 보통 쿼리 1회)
+     */
+    private static final class IdBlock {
+
+        private final IntFunction<List<Long>> source;
+        private final int blockSize;
+        private final Deque<Long> ids = new ArrayDeque<>();
+
+        IdBlock(IntFunction<List<Long>> source, int blockSize) {
+            this.source = source;
+            this.blockSize = Math.max(1, blockSize);
+        }
+
+        long next() {
+            if (ids.isEmpty()) {
+                ids.addAll(source.apply(blockSize));
+            }
+            return ids.poll();
+        }
+    }
+}
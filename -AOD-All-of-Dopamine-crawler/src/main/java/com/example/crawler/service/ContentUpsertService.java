@@ -65,6 +65,28 @@ public class ContentUpsertService {
         return content;
     }
 
+    /**
+     * 이미 저장된 작품에 새로 변환한 값 반영 (재변환용, null 값은 반영하지 않음)
+     * @param overwrite true면 기존 값을 덮어씀, false면 비어 있는 필드만 채움 (다른 플랫폼과 병합된 작품)
+     */
+    public void refreshContent(Content existing, Content built, boolean overwrite) {
+        if (overwrite && built.getMasterTitle() != null) {
+            existing.setMasterTitle(built.getMasterTitle());
+        }
+        if (built.getOriginalTitle() != null && (overwrite || existing.getOriginalTitle() == null)) {
+            existing.setOriginalTitle(built.getOriginalTitle());
+        }
+        if (built.getReleaseDate() != null && (overwrite || existing.getReleaseDate() == null)) {
+            existing.setReleaseDate(built.getReleaseDate());
+        }
+        if (built.getPosterImageUrl() != null && (overwrite || existing.getPosterImageUrl() == null)) {
+            existing.setPosterImageUrl(built.getPosterImageUrl());
+        }
+        if (built.getSynopsis() != null && (overwrite || existing.getSynopsis() == null)) {
+            existing.setSynopsis(built.getSynopsis());
+        }
+    }
+
     /**
      * Content 엔티티 저장
      */
@@ -58,9 +58,19 @@ public class DomainCoreUpsertService {
      */
     @Transactional
     public void saveDomainData(Domain domain, Content content, Map<String, Object> domainDoc, MappingRule rule) {
+        updateDomainData(domain, content, null, domainDoc, rule);
+    }
+
+    /**
+     * 기존 작품의 도메인 데이터 갱신 (재변환용)
+     * @param existingEntity 미리 조회한 도메인 엔티티 (null이면 조회 후 없으면 생성)
+     */
+    @Transactional
+    public void updateDomainData(Domain domain, Content content, Object existingEntity,
+                                 Map<String, Object> domainDoc, MappingRule rule) {
         if (domainDoc == null || domainDoc.isEmpty()) return;
 
-        Object domainEntity = findOrCreateDomainEntity(domain, content);
+        Object domainEntity = existingEntity != null ? existingEntity : findOrCreateDomainEntity(domain, content);
         if (domainEntity == null) return;
 
         genericUpserter.upsert(domainEntity, domainDoc, rule.getDomainObjectMappings());
@@ -2,6 +2,7 @@ package com.example.crawler.service;
 
 import com.example.crawler.rules.MappingRule;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
 import org.springframework.stereotype.Component;
 import org.yaml.snakeyaml.Yaml;
 
@@ -10,13 +11,19 @@ import java.io.InputStream;
 @Component
 public class RuleLoader {
     public MappingRule load(String pathOnClasspath) {
-        try (InputStream in = new ClassPathResource(pathOnClasspath).getInputStream()) {
+        return load(new ClassPathResource(pathOnClasspath), pathOnClasspath);
+    }
+
+    /**
+     * 임의 위치(클래스패스/외부 디렉터리)의 규칙 YAML 로드
+     * @param description 오류 메시지에 표시할 규칙 위치
+     */
+    public MappingRule load(Resource resource, String description) {
+        try (InputStream in = resource.getInputStream()) {
             Yaml yaml = new Yaml();
             return yaml.loadAs(in, MappingRule.class);
         } catch (Exception e) {
-            throw new IllegalStateException("Failed to load rule: " + pathOnClasspath, e);
+            throw new IllegalStateException("Failed to load rule: " + description, e);
         }
     }
 }
-
-
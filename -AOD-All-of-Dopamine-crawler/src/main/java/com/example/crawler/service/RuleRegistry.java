@@ -0,0 +1,304 @@
+package com.example.crawler.service;
+
+import com.example.crawler.rules.CompiledRule;
+import com.example.crawler.rules.MappingRule;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 변환 규칙 레지스트리 (도메인 + 플랫폼 → 컴파일된 규칙)
+ * - 시작 시 classpath:rules/**\/*.yml 을 한 번 로드/컴파일 (키는 YAML의 domain, platformName)
+ * - crawler.rules.external-dir 가 있으면 그 디렉터리의 규칙이 같은 키의 classpath 규칙을 덮어씀
+ *   파일 변경을 WatchService로 감지해 다시 로드 (파싱 실패 시 기존 규칙 유지)
+ * - 규칙마다 schemaVersion별 이력을 보관 → TransformRun.ruleVersion으로 어떤 규칙을 썼는지 추적
+ * - 조회는 락 없는 ConcurrentHashMap, 교체는 엔트리 단위 원자적 put
+ */
+@Slf4j
+@Component
+public class RuleRegistry {
+
+    private static final String CLASSPATH_RULES = "classpath*:rules/**/*.yml";
+
+    /**
+     * 등록된 규칙 1개
+     * @param source 규칙 파일 위치 (classpath 상대 경로 또는 외부 파일 절대 경로)
+     */
+    public record Entry(String domain, String platformName, int version, String source,
+                        MappingRule rule, CompiledRule plan) {}
+
+    private final RuleLoader ruleLoader;
+    private final String externalDir;
+    private final long reloadDebounceMs;
+    private final Counter reloadSuccess;
+    private final Counter reloadFailure;
+
+    private final Map<String, Entry> current = new ConcurrentHashMap<>();
+    private final Map<String, NavigableMap<Integer, Entry>> history = new ConcurrentHashMap<>();
+    // 외부 파일별 마지막 반영 시각 (변경된 파일만 다시 로드)
+    private final Map<Path, FileTime> externalLoadedAt = new HashMap<>();
+
+    private WatchService watchService;
+    private Thread watcher;
+
+    public RuleRegistry(RuleLoader ruleLoader,
+                        MeterRegistry meterRegistry,
+                        @Value("${crawler.rules.external-dir:}") String externalDir,
+                        @Value("${crawler.rules.reload-debounce-ms:500}") long reloadDebounceMs) {
+        this.ruleLoader = ruleLoader;
+        this.externalDir = externalDir;
+        this.reloadDebounceMs = Math.max(0, reloadDebounceMs);
+        this.reloadSuccess = Counter.builder("crawler.rules.reloads")
+                .description("변환 규칙 (재)로드 결과")
+                .tag("result", "success")
+                .register(meterRegistry);
+        this.reloadFailure = Counter.builder("crawler.rules.reloads")
+                .description("변환 규칙 (재)로드 결과")
+                .tag("result", "failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        loadClasspathRules();
+        if (!externalDir.isBlank()) {
+            loadExternalRules();
+            startWatcher();
+        }
+        log.info("✅ 변환 규칙 {}개 로드: {}", current.size(),
+                current.values().stream().map(e -> e.platformName() + "@v" + e.version()).sorted().toList());
+    }
+
+    @PreDestroy
+    void stopWatcher() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * 현재 규칙 (없으면 IllegalArgumentException)
+     */
+    public Entry require(String domain, String platformName) {
+        return find(domain, platformName).orElseThrow(() -> new IllegalArgumentException(
+                "No rule for domain=" + domain + ", platform=" + platformName));
+    }
+
+    public Optional<Entry> find(String domain, String platformName) {
+        if (domain == null || platformName == null) return Optional.empty();
+        return Optional.ofNullable(current.get(key(domain, platformName)));
+    }
+
+    /**
+     * 특정 schemaVersion 규칙 (이번 실행 중 로드된 적 있는 버전만)
+     */
+    public Optional<Entry> find(String domain, String platformName, int version) {
+        if (domain == null || platformName == null) return Optional.empty();
+        NavigableMap<Integer, Entry> versions = history.get(key(domain, platformName));
+        return versions == null ? Optional.empty() : Optional.ofNullable(versions.get(version));
+    }
+
+    /**
+     * 규칙 파일 위치로 조회 (관리자 프리뷰의 rulePath 지정용)
+     */
+    public Optional<Entry> findBySource(String source) {
+        return current.values().stream().filter(e -> e.source().equals(source)).findFirst();
+    }
+
+    public Collection<Entry> all() {
+        return List.copyOf(current.values());
+    }
+
+    private void loadClasspathRules() {
+        Resource[] resources;
+        try {
+            resources = new PathMatchingResourcePatternResolver().getResources(CLASSPATH_RULES);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to scan rules on classpath", e);
+        }
+        for (Resource resource : resources) {
+            String source = classpathSource(resource);
+            // 시작 시 classpath 규칙 오류는 배포 오류이므로 그대로 실패
+            register(ruleLoader.load(resource, source), source);
+        }
+    }
+
+    /**
+     * 외부 디렉터리에서 새로 생기거나 바뀐 규칙만 재로드 (파일별로 실패해도 나머지는 반영)
+     */
+    private synchronized void loadExternalRules() {
+        Path dir = Paths.get(externalDir);
+        if (!Files.isDirectory(dir)) {
+            log.warn("⚠️ 외부 규칙 디렉터리 없음: {}", dir);
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.filter(RuleRegistry::isRuleFile).sorted().toList()) {
+                String source = file.toAbsolutePath().toString();
+                FileTime modified = Files.getLastModifiedTime(file);
+                if (modified.equals(externalLoadedAt.put(file, modified))) {
+                    continue;
+                }
+                try {
+                    Entry entry = register(ruleLoader.load(new FileSystemResource(file), source), source);
+                    reloadSuccess.increment();
+                    log.info("📦 외부 규칙 반영: {} v{} ({})", entry.platformName(), entry.version(), source);
+                } catch (RuntimeException e) {
+                    reloadFailure.increment();
+                    log.error("❌ 외부 규칙 로드 실패, 기존 규칙 유지: {} - {}", source, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            reloadFailure.increment();
+            log.error("❌ 외부 규칙 디렉터리 읽기 실패: {} - {}", dir, e.getMessage());
+        }
+    }
+
+    private Entry register(MappingRule rule, String source) {
+        if (rule == null || rule.getDomain() == null || rule.getPlatformName() == null) {
+            throw new IllegalStateException("Rule must declare domain and platformName: " + source);
+        }
+        // 컴파일 오류도 등록 전에 드러나도록 여기서 컴파일
+        Entry entry = new Entry(rule.getDomain(), rule.getPlatformName(), rule.getSchemaVersion(),
+                source, rule, rule.compiled());
+        String key = key(entry.domain(), entry.platformName());
+
+        Entry previous = current.put(key, entry);
+        history.computeIfAbsent(key, k -> new ConcurrentSkipListMap<>()).put(entry.version(), entry);
+        if (previous != null && previous.version() == entry.version()) {
+            log.warn("⚠️ 규칙 {}/{} 가 schemaVersion {} 그대로 교체됨 ({} → {}) - 재처리 대상 추적을 위해 버전을 올리세요",
+                    entry.domain(), entry.platformName(), entry.version(), previous.source(), entry.source());
+        }
+        return entry;
+    }
+
+    private void startWatcher() {
+        Path dir = Paths.get(externalDir);
+        if (!Files.isDirectory(dir)) {
+            return;
+        }
+        try {
+            watchService = dir.getFileSystem().newWatchService();
+            watchTree(dir);
+        } catch (IOException e) {
+            log.error("❌ 외부 규칙 감시 시작 실패 (핫 리로드 비활성): {}", e.getMessage());
+            return;
+        }
+        watcher = new Thread(this::watchLoop, "rule-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        log.info("🚀 외부 규칙 디렉터리 감시 시작: {}", dir.toAbsolutePath());
+    }
+
+    private void watchLoop() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // 편집기 저장(임시 파일 → rename 등)으로 이벤트가 연달아 오므로 잠시 모았다가 한 번에 재로드
+                TimeUnit.MILLISECONDS.sleep(reloadDebounceMs);
+                List<WatchKey> keys = new ArrayList<>();
+                keys.add(key);
+                for (WatchKey more = watchService.poll(); more != null; more = watchService.poll()) {
+                    keys.add(more);
+                }
+                for (WatchKey k : keys) {
+                    for (WatchEvent<?> event : k.pollEvents()) {
+                        watchCreatedDirectory(k, event);
+                    }
+                    k.reset();
+                }
+                loadExternalRules();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // 종료
+        }
+    }
+
+    /**
+     * root와 그 아래 모든 디렉터리를 감시 등록 (WatchService는 하위 디렉터리를 자동으로 감시하지 않음)
+     */
+    private void watchTree(Path root) throws IOException {
+        try (Stream<Path> dirs = Files.walk(root)) {
+            for (Path d : dirs.filter(Files::isDirectory).toList()) {
+                d.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        }
+    }
+
+    /**
+     * 감시 시작 후 새로 생긴 하위 디렉터리도 감시 대상에 추가
+     * - 등록 전에 그 안에 만들어진 파일은 이어지는 loadExternalRules()의 전체 탐색이 반영
+     */
+    private void watchCreatedDirectory(WatchKey key, WatchEvent<?> event) {
+        if (event.kind() != StandardWatchEventKinds.ENTRY_CREATE
+                || !(key.watchable() instanceof Path parent)
+                || !(event.context() instanceof Path name)) {
+            return;
+        }
+        Path created = parent.resolve(name);
+        if (!Files.isDirectory(created)) {
+            return;
+        }
+        try {
+            watchTree(created);
+            log.info("📦 외부 규칙 하위 디렉터리 감시 추가: {}", created);
+        } catch (IOException e) {
+            log.error("❌ 외부 규칙 하위 디렉터리 감시 실패: {} - {}", created, e.getMessage());
+        }
+    }
+
+    private static boolean isRuleFile(Path path) {
+        String name = path.getFileName().toString();
+        return Files.isRegularFile(path) && (name.endsWith(".yml") || name.endsWith(".yaml"));
+    }
+
+    private static String classpathSource(Resource resource) {
+        try {
+            String url = resource.getURL().toString();
+            int idx = url.lastIndexOf("rules/");
+            return idx >= 0 ? url.substring(idx) : resource.getFilename();
+        } catch (IOException e) {
+            return resource.getFilename();
+        }
+    }
+
+    private static String key(String domain, String platformName) {
+        return domain.toUpperCase(Locale.ROOT) + "|" + platformName.toLowerCase(Locale.ROOT);
+    }
+}
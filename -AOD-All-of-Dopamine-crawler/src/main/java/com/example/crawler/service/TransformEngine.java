@@ -1,6 +1,7 @@
 package com.example.crawler.service;
 
 
+import com.example.crawler.rules.CompiledRule;
 import com.example.crawler.rules.MappingRule;
 import com.example.crawler.rules.NormalizerStep;
 import org.springframework.stereotype.Component;
@@ -57,20 +58,16 @@ public class TransformEngine {
 
     public void applyNormalizers(MasterDoc doc, List<NormalizerStep> steps) {
         if (steps == null) return;
-        for (NormalizerStep step : steps) {
-            String type = step.getType();
-            if (step.getFields() == null) continue;
-            for (String f : step.getFields()) {
-                Object v = doc.get(f);
-                if (!(v instanceof String s)) continue;
-                switch (type) {
-                    case "lowercase" -> doc.put(f, s.toLowerCase());
-                    case "strip_parentheses" -> doc.put(f, s.replaceAll("\\([^)]*\\)", ""));
-                    case "collapse_spaces" -> doc.put(f, s.replaceAll("\\s+", " ").trim());
-                    case "nfkc" -> doc.put(f, java.text.Normalizer.normalize(s, java.text.Normalizer.Form.NFKC));
-                    case "strip_brackets" -> doc.put(f, s.replaceAll("\\[[^\\]]*\\]", ""));
-                    case "strip_series_qualifiers" -> doc.put(f, s.replaceAll("(시즌\\s*\\d+|외전|스페셜)$","").trim());
-                    default -> { /* noop */ }
+        MappingRule rule = new MappingRule();
+        rule.setNormalizers(steps);
+        applyNormalizers(doc, CompiledRule.compile(rule));
+    }
+
+    private void applyNormalizers(MasterDoc doc, CompiledRule plan) {
+        for (CompiledRule.NormalizerPlan step : plan.normalizers()) {
+            for (String f : step.fields()) {
+                if (doc.get(f) instanceof String s) {
+                    doc.put(f, step.op().apply(s));
                 }
             }
         }
@@ -78,48 +75,32 @@ public class TransformEngine {
 
     /** raw(Map) -> (master, platform, domain) */
     public Triple transform(Map<String,Object> raw, MappingRule rule) {
+        return transform(raw, rule.compiled());
+    }
+
+    /** 컴파일된 실행 계획으로 변환 (경로 파싱/목적지 해석/정규식 컴파일 없음) */
+    public Triple transform(Map<String,Object> raw, CompiledRule plan) {
         MasterDoc master = new MasterDoc();
         PlatformDoc platform = new PlatformDoc();
-        platform.put("platformName", rule.getPlatformName());
+        platform.put("platformName", plan.rule().getPlatformName());
         DomainDoc domain = new DomainDoc();
+        Map<String,Object> attributes = platform.attributes();
 
-        Map<String,String> fm = rule.getFieldMappings();
-        if (fm != null) {
-            for (var e : fm.entrySet()) {
-                String src = e.getKey();
-                String dst = e.getValue();
-
-                Object val = deepGet(raw, src);
-
-                // 값이 null일 경우, platform.attributes 필드에 한해 기본값 설정
-                if (val == null && dst.startsWith("platform.attributes.")) {
-                    String attrName = dst.substring("platform.attributes.".length());
-                    if (attrName.contains("count") || attrName.contains("runtime")) {
-                        val = 0;
-                    } else if (attrName.equals("cast") || attrName.equals("crew")) {
-                        val = Collections.emptyList();
-                    } else {
-                        val = "";
-                    }
-                }
+        for (CompiledRule.FieldPlan field : plan.fields()) {
+            Object val = field.read(raw);
 
-                if (val == null) continue;
-
-                if (dst.startsWith("platform.")) {
-                    String rest = dst.substring("platform.".length());
-                    if (rest.startsWith("attributes.")) {
-                        platform.attributes().put(rest.substring("attributes.".length()), val);
-                    } else {
-                        platform.put(rest, val);
-                    }
-                } else if (dst.startsWith("domain.")) {
-                    domain.put(dst.substring("domain.".length()), val);
-                } else {
-                    master.put(dst, val);
-                }
+            // 값이 null일 경우, platform.attributes 필드에 한해 기본값 설정
+            if (val == null) val = field.defaultValue();
+            if (val == null) continue;
+
+            switch (field.target()) {
+                case ATTRIBUTES -> attributes.put(field.key(), val);
+                case PLATFORM -> platform.put(field.key(), val);
+                case DOMAIN -> domain.put(field.key(), val);
+                case MASTER -> master.put(field.key(), val);
             }
         }
-        applyNormalizers(master, rule.getNormalizers());
+        applyNormalizers(master, plan);
         return new Triple(master, platform, domain);
     }
 
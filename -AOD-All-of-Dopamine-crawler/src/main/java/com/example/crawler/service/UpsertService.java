@@ -5,14 +5,18 @@ import com.example.shared.entity.Content;
 import com.example.shared.entity.Domain;
 import com.example.shared.entity.PlatformData;
 import com.example.shared.repository.PlatformDataRepository;
+import com.example.crawler.ingest.VolatileMetricCatalog;
 import com.example.crawler.rules.MappingRule;
 import com.example.crawler.service.similarity.ContentMergeService;
+import com.example.crawler.service.similarity.MergeLookup;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -24,6 +28,24 @@ public class UpsertService {
     private final DomainCoreUpsertService domainCoreUpsert;
     private final ContentUpsertService contentUpsertService;
     private final ContentMergeService contentMergeService;
+    private final VolatileMetricCatalog metricCatalog;
+
+    /**
+     * upsert에 필요한 엔티티를 미리 구성한 결과 (아직 저장 안 함)
+     */
+    public record Prepared(Domain domain,
+                           Content content,
+                           Object domainData,
+                           PlatformData platformData,
+                           Map<String, Object> attributes,
+                           Map<String, Object> domainDoc,
+                           MappingRule rule) {
+
+        /** 중복 탐지 키 (GAME=developer, WEBTOON/WEBNOVEL=author) */
+        public String duplicateKey() {
+            return ContentMergeService.duplicateKey(domainData);
+        }
+    }
 
     @Transactional
     public Long upsert(Domain domain,
@@ -33,6 +55,21 @@ public class UpsertService {
                        String platformSpecificId,
                        String url,
                        MappingRule rule) {
+        Prepared prepared = prepare(domain, master, platform, domainDoc, platformSpecificId, url, rule);
+        return prepared == null ? null : apply(prepared, null);
+    }
+
+    /**
+     * Content / 도메인 상세 / PlatformData 구성만 수행 (DB 접근 없음 → 배치 변환에서 병렬 호출 가능)
+     * @return master title이 비어 있으면 null
+     */
+    public Prepared prepare(Domain domain,
+                            Map<String,Object> master,
+                            Map<String,Object> platform,
+                            Map<String,Object> domainDoc,
+                            String platformSpecificId,
+                            String url,
+                            MappingRule rule) {
 
         String masterTitle = (String) master.get("master_title");
         if (masterTitle == null || masterTitle.isBlank()) {
@@ -51,14 +88,36 @@ public class UpsertService {
         @SuppressWarnings("unchecked")
         Map<String, Object> attributes = (Map<String, Object>) platform.get("attributes");
         PlatformData newPlatformData = buildPlatformData(platformName, platformSpecificId, url, attributes);
-        
-        // 4. 중복 체크 및 병합 (domainDoc와 domainMappings 전달)
+
+        return new Prepared(domain, newContent, domainSpecificData, newPlatformData, attributes, domainDoc, rule);
+    }
+
+    /**
+     * 구성된 엔티티를 기존 작품 갱신, 중복 병합 또는 신규 저장
+     * - 같은 플랫폼 + platformSpecificId의 PlatformData가 이미 있으면 그 작품을 갱신 (재변환/재시도/payload 변경)
+     *   → 새 Content를 만들어 PlatformData만 옮기면 기존 작품(북마크/좋아요/리뷰)이 고아가 되므로
+     * @param lookup 배치 변환에서 청크 단위로 미리 조회한 후보/플랫폼 정보 (null이면 건별 조회/저장)
+     *               있으면 새 행은 lookup.inserts()에 모아 청크 끝에 일괄 INSERT, 기존 행 변경은 flush 때 반영
+     */
+    @Transactional
+    public Long apply(Prepared prepared, MergeLookup lookup) {
+        PlatformData newPlatformData = prepared.platformData();
+
+        // 4. 이미 이 플랫폼 항목으로 만든 작품이 있으면 그 작품을 갱신
+        Optional<PlatformData> existingPlatform = findPlatformData(
+                newPlatformData.getPlatformName(), newPlatformData.getPlatformSpecificId(), lookup);
+        if (existingPlatform.isPresent()) {
+            return refreshExisting(prepared, existingPlatform.get(), lookup);
+        }
+
+        // 5. 중복 체크 및 병합 (domainDoc와 domainMappings 전달)
         Content existingContent = contentMergeService.findAndMergeDuplicate(
-                newContent, 
-                domainSpecificData, 
+                prepared.content(),
+                prepared.domainData(),
                 newPlatformData,
-                domainDoc,
-                rule.getDomainObjectMappings()
+                prepared.domainDoc(),
+                prepared.rule().getDomainObjectMappings(),
+                lookup
         );
         
         if (existingContent != null) {
@@ -67,15 +126,61 @@ public class UpsertService {
             return existingContent.getContentId();
         }
         
-        // 5. 중복 없음 -> 새로 저장
-        Content savedContent = contentUpsertService.saveContent(newContent);
-        savePlatformData(savedContent, platformName, platformSpecificId, url, attributes);
-        domainCoreUpsert.saveDomainData(domain, savedContent, domainDoc, rule);
+        // 6. 중복 없음 -> 새로 저장
+        Domain domain = prepared.domain();
+        Content savedContent = lookup == null
+                ? contentUpsertService.saveContent(prepared.content())
+                : lookup.inserts().addContent(prepared.content());
+        savePlatformData(savedContent, newPlatformData.getPlatformName(), newPlatformData.getPlatformSpecificId(),
+                newPlatformData.getUrl(), prepared.attributes(), lookup);
+        if (lookup == null) {
+            domainCoreUpsert.saveDomainData(domain, savedContent, prepared.domainDoc(), prepared.rule());
+        } else {
+            // 작품 ID가 정해진 뒤 다시 구성 (@MapsId), 같은 청크의 뒤 항목이 중복 후보로 볼 수 있도록 등록
+            Object domainEntity = domainCoreUpsert.buildDomainData(domain, savedContent, prepared.domainDoc(), prepared.rule());
+            if (domainEntity != null) {
+                lookup.inserts().addDomainEntity(domainEntity);
+                lookup.registerCandidate(domain, ContentMergeService.duplicateKey(domainEntity), domainEntity);
+            }
+        }
         
         log.info("새 작품 저장: {}", savedContent.getContentId());
         return savedContent.getContentId();
     }
 
+    /**
+     * 기존 작품 갱신
+     * - Content: 이 플랫폼만 붙은 작품은 새 값으로 덮어쓰고, 다른 플랫폼과 병합된 작품은 빈 필드만 채움
+     * - 도메인 상세 / PlatformData: 새 변환 결과로 갱신
+     */
+    private Long refreshExisting(Prepared prepared, PlatformData existing, MergeLookup lookup) {
+        Content content = existing.getContent();
+        Long contentId = content.getContentId();
+        boolean shared = lookup != null
+                ? lookup.isShared(contentId)
+                : !platformRepo.findSharedContentIds(List.of(contentId)).isEmpty();
+
+        contentUpsertService.refreshContent(content, prepared.content(), !shared);
+        Object domainEntity = lookup != null ? lookup.domainEntity(contentId).orElse(null) : null;
+        domainCoreUpsert.updateDomainData(prepared.domain(), content, domainEntity, prepared.domainDoc(), prepared.rule());
+
+        PlatformData pd = prepared.platformData();
+        savePlatformData(content, pd.getPlatformName(), pd.getPlatformSpecificId(), pd.getUrl(),
+                prepared.attributes(), lookup);
+
+        log.debug("기존 작품 갱신: {} ({} {})", contentId, pd.getPlatformName(), pd.getPlatformSpecificId());
+        return contentId;
+    }
+
+    private Optional<PlatformData> findPlatformData(String platformName, String platformSpecificId, MergeLookup lookup) {
+        if (platformName == null || platformSpecificId == null) {
+            return Optional.empty();
+        }
+        return lookup != null
+                ? lookup.platformData(platformName, platformSpecificId)
+                : platformRepo.findByPlatformNameAndPlatformSpecificId(platformName, platformSpecificId);
+    }
+
     private PlatformData buildPlatformData(String platformName, String platformSpecificId, 
                                           String url, Map<String, Object> attributes) {
         PlatformData pd = new PlatformData();
@@ -88,8 +193,8 @@ public class UpsertService {
     }
 
     private void savePlatformData(Content content, String platformName, String platformSpecificId, 
-                                 String url, Map<String, Object> attributes) {
-        Optional<PlatformData> existing = platformRepo.findByPlatformNameAndPlatformSpecificId(platformName, platformSpecificId);
+                                 String url, Map<String, Object> attributes, MergeLookup lookup) {
+        Optional<PlatformData> existing = findPlatformData(platformName, platformSpecificId, lookup);
 
         PlatformData pd = existing.orElseGet(PlatformData::new);
 
@@ -97,10 +202,38 @@ public class UpsertService {
         pd.setPlatformName(platformName);
         pd.setPlatformSpecificId(platformSpecificId);
         pd.setUrl(url);
-        pd.setAttributes(attributes != null ? attributes : Map.of());
+        pd.setAttributes(existing.isPresent()
+                ? keepMetrics(platformName, pd.getAttributes(), attributes)
+                : (attributes != null ? attributes : Map.of()));
         pd.setLastSeenAt(Instant.now());
 
-        platformRepo.save(pd);
+        if (lookup == null) {
+            platformRepo.save(pd);
+        } else {
+            // 조회된 행은 flush 때 변경 감지로 UPDATE, 새 행은 청크 끝에 INSERT
+            if (existing.isEmpty()) {
+                lookup.inserts().addPlatformData(pd);
+            }
+            lookup.registerPlatformData(pd);
+        }
+    }
+
+    /**
+     * 지표 키는 기존 attributes 값을 유지
+     * - 지표만 바뀐 재수집은 raw_items payload를 다시 쓰지 않고 PlatformMetricsWriter가 attributes에 직접 반영
+     *   → 재변환(규칙 재처리/재시도) 시 오래된 payload 값으로 되돌리지 않도록 지표 경로 값을 우선
+     */
+    private Map<String, Object> keepMetrics(String platformName, Map<String, Object> current,
+                                            Map<String, Object> attributes) {
+        Map<String, Object> merged = new LinkedHashMap<>(attributes != null ? attributes : Map.of());
+        if (current != null) {
+            for (String key : metricCatalog.mappings(platformName).values()) {
+                if (current.get(key) != null) {
+                    merged.put(key, current.get(key));
+                }
+            }
+        }
+        return merged;
     }
 }
 
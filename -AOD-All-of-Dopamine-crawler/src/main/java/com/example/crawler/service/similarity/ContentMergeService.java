@@ -3,15 +3,22 @@ package com.example.crawler.service.similarity;
 import com.example.shared.entity.Content;
 import com.example.shared.entity.*;
 import com.example.shared.repository.*;
+import com.example.crawler.service.BatchInserts;
 import com.example.crawler.service.GenericDomainUpserter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * 중복 작품 탐지 및 병합 서비스
@@ -22,6 +29,8 @@ import java.util.Map;
 public class ContentMergeService {
 
     private final ContentRepository contentRepository;
+    private final MovieContentRepository movieContentRepository;
+    private final TvContentRepository tvContentRepository;
     private final GameContentRepository gameContentRepository;
     private final WebtoonContentRepository webtoonContentRepository;
     private final WebnovelContentRepository webnovelContentRepository;
@@ -45,10 +54,26 @@ public class ContentMergeService {
                                          PlatformData platformData,
                                          Map<String, Object> domainDoc,
                                          Map<String, com.example.crawler.rules.DomainObjectMapping> domainMappings) {
+        return findAndMergeDuplicate(newContent, domainSpecificData, platformData, domainDoc, domainMappings, null);
+    }
+
+    /**
+     * 중복 탐지 및 병합 (배치 변환용)
+     * @param lookup 청크 단위로 미리 조회한 후보/플랫폼 정보 (null이면 건별 조회)
+     */
+    @Transactional
+    public Content findAndMergeDuplicate(Content newContent,
+                                         Object domainSpecificData,
+                                         PlatformData platformData,
+                                         Map<String, Object> domainDoc,
+                                         Map<String, com.example.crawler.rules.DomainObjectMapping> domainMappings,
+                                         MergeLookup lookup) {
         
         log.info("🔍 중복 검사 시작: 제목='{}', Domain={}", newContent.getMasterTitle(), newContent.getDomain());
         
-        List<Content> candidates = findDuplicateCandidates(newContent, domainSpecificData);
+        List<Content> candidates = lookup != null
+                ? lookup.candidates(newContent.getDomain(), duplicateKey(domainSpecificData))
+                : findDuplicateCandidates(newContent, domainSpecificData);
         if (candidates.isEmpty()) {
             log.info("   ℹ️  중복 후보 없음 - 새 작품으로 저장");
             return null; // No duplicate candidates
@@ -72,7 +97,7 @@ public class ContentMergeService {
                         newContent.getMasterTitle(),
                         candidate.getContentId());
 
-                mergeContent(candidate, newContent, domainSpecificData, platformData, domainDoc, domainMappings);
+                mergeContent(candidate, newContent, domainSpecificData, platformData, domainDoc, domainMappings, lookup);
 
                 log.info("✅ 중복 작품 병합 완료: 기존 ID={}", candidate.getContentId());
                 return candidate; // return the merged existing content
@@ -83,6 +108,86 @@ public class ContentMergeService {
         return null; // No duplicates found
     }
 
+    /**
+     * 청크의 중복 후보/플랫폼 정보를 도메인·플랫폼별 쿼리 1회씩으로 일괄 조회
+     * - 이미 PlatformData가 있는 항목(재변환)은 그 작품의 도메인 엔티티와 병합 작품 여부도 함께 조회
+     * @param keysByDomain 도메인별 중복 키 (GAME=developer, WEBTOON/WEBNOVEL=author)
+     * @param psidsByPlatform 플랫폼별 platformSpecificId
+     * @param inserts 청크에서 새로 만든 행을 모을 버퍼
+     */
+    @Transactional(readOnly = true)
+    public MergeLookup prefetch(Map<Domain, Set<String>> keysByDomain, Map<String, Set<String>> psidsByPlatform,
+                                BatchInserts inserts) {
+        MergeLookup lookup = new MergeLookup(inserts);
+        keysByDomain.forEach((domain, keys) -> {
+            if (keys.isEmpty()) return;
+            for (Object entity : findCandidatesByKeys(domain, keys)) {
+                lookup.registerCandidate(domain, duplicateKey(entity), entity);
+            }
+        });
+        Map<Domain, List<Long>> existingByDomain = new EnumMap<>(Domain.class);
+        Set<Long> existingIds = new HashSet<>();
+        psidsByPlatform.forEach((platformName, psids) -> {
+            if (psids.isEmpty()) return;
+            for (PlatformData pd : platformDataRepository.findByPlatformNameAndPlatformSpecificIdIn(platformName, psids)) {
+                lookup.registerPlatformData(pd);
+                Content content = pd.getContent();
+                if (existingIds.add(content.getContentId())) {
+                    existingByDomain.computeIfAbsent(content.getDomain(), d -> new ArrayList<>()).add(content.getContentId());
+                }
+            }
+        });
+        if (!existingIds.isEmpty()) {
+            existingByDomain.forEach((domain, ids) -> findDomainEntitiesByContentIds(domain, ids)
+                    .forEach(lookup::registerDomainEntity));
+            platformDataRepository.findSharedContentIds(existingIds).forEach(lookup::markShared);
+        }
+        return lookup;
+    }
+
+    private List<?> findDomainEntitiesByContentIds(Domain domain, List<Long> contentIds) {
+        return switch (domain) {
+            case MOVIE -> movieContentRepository.findByContentIdIn(contentIds);
+            case TV -> tvContentRepository.findByContentIdIn(contentIds);
+            case GAME -> gameContentRepository.findByContentIdIn(contentIds);
+            case WEBTOON -> webtoonContentRepository.findByContentIdIn(contentIds);
+            case WEBNOVEL -> webnovelContentRepository.findByContentIdIn(contentIds);
+        };
+    }
+
+    private List<?> findCandidatesByKeys(Domain domain, Collection<String> keys) {
+        return switch (domain) {
+            case GAME -> gameContentRepository.findByDeveloperIn(keys);
+            case WEBTOON -> webtoonContentRepository.findByAuthorIn(keys);
+            case WEBNOVEL -> webnovelContentRepository.findByAuthorIn(keys);
+            default -> List.of();
+        };
+    }
+
+    /**
+     * 도메인 엔티티의 중복 탐지 키 (GAME=developer, WEBTOON/WEBNOVEL=author, 그 외 null)
+     */
+    public static String duplicateKey(Object domainSpecificData) {
+        String key = null;
+        if (domainSpecificData instanceof GameContent game) {
+            key = game.getDeveloper();
+        } else if (domainSpecificData instanceof WebtoonContent webtoon) {
+            key = webtoon.getAuthor();
+        } else if (domainSpecificData instanceof WebnovelContent novel) {
+            key = novel.getAuthor();
+        }
+        return key == null || key.isBlank() ? null : key;
+    }
+
+    static Content contentOf(Object domainEntity) {
+        if (domainEntity instanceof GameContent game) return game.getContent();
+        if (domainEntity instanceof WebtoonContent webtoon) return webtoon.getContent();
+        if (domainEntity instanceof WebnovelContent novel) return novel.getContent();
+        if (domainEntity instanceof MovieContent movie) return movie.getContent();
+        if (domainEntity instanceof TvContent tv) return tv.getContent();
+        throw new IllegalArgumentException("Unsupported domain entity: " + domainEntity.getClass().getSimpleName());
+    }
+
     /**
      * 중복 후보 작품 찾기
      * - 같은 domain
@@ -179,6 +284,16 @@ public class ContentMergeService {
                             PlatformData newPlatformData,
                             Map<String, Object> domainDoc,
                             Map<String, com.example.crawler.rules.DomainObjectMapping> domainMappings) {
+        mergeContent(existingContent, newContent, domainSpecificData, newPlatformData, domainDoc, domainMappings, null);
+    }
+
+    private void mergeContent(Content existingContent,
+                              Content newContent,
+                              Object domainSpecificData,
+                              PlatformData newPlatformData,
+                              Map<String, Object> domainDoc,
+                              Map<String, com.example.crawler.rules.DomainObjectMapping> domainMappings,
+                              MergeLookup lookup) {
         
         log.info("📝 작품 병합 시작");
         log.info("   기존 작품: ID={}, 제목='{}', Domain={}", 
@@ -213,7 +328,10 @@ public class ContentMergeService {
         }
         
         if (updated) {
-            contentRepository.save(existingContent);
+            // 배치 변환: 조회된 작품은 flush 때 변경 감지로, 이번 청크의 새 작품은 INSERT 때 반영
+            if (lookup == null) {
+                contentRepository.save(existingContent);
+            }
             log.info("   💾 Content 기본 정보 업데이트 완료");
         } else {
             log.debug("   ℹ️  업데이트할 기본 정보 없음 (모두 이미 존재)");
@@ -221,16 +339,22 @@ public class ContentMergeService {
         
         // 2. 플랫폼 정보 추가 (중복 체크)
         if (newPlatformData != null) {
-            boolean platformExists = platformDataRepository
-                    .findByPlatformNameAndPlatformSpecificId(
+            Optional<PlatformData> existingPlatform = lookup != null
+                    ? lookup.platformData(newPlatformData.getPlatformName(), newPlatformData.getPlatformSpecificId())
+                    : platformDataRepository.findByPlatformNameAndPlatformSpecificId(
                             newPlatformData.getPlatformName(),
                             newPlatformData.getPlatformSpecificId()
-                    )
-                    .isPresent();
+                    );
+            boolean platformExists = existingPlatform.isPresent();
             
             if (!platformExists) {
                 newPlatformData.setContent(existingContent);
-                platformDataRepository.save(newPlatformData);
+                if (lookup == null) {
+                    platformDataRepository.save(newPlatformData);
+                } else {
+                    lookup.inserts().addPlatformData(newPlatformData);
+                    lookup.registerPlatformData(newPlatformData);
+                }
                 log.info("   ➕ 새 플랫폼 정보 추가: {} (ID: {})", 
                         newPlatformData.getPlatformName(),
                         newPlatformData.getPlatformSpecificId());
@@ -242,7 +366,7 @@ public class ContentMergeService {
         }
         
         // 3. 도메인별 상세 정보 병합 (GenericDomainUpserter 사용)
-        mergeDomainSpecificData(existingContent, domainDoc, domainMappings);
+        mergeDomainSpecificData(existingContent, domainDoc, domainMappings, lookup);
         
         log.info("✅ 작품 병합 완료: ID={}, 최종 제목='{}'", 
                 existingContent.getContentId(),
@@ -254,7 +378,8 @@ public class ContentMergeService {
      */
     private void mergeDomainSpecificData(Content existingContent, 
                                          Map<String, Object> domainDoc,
-                                         Map<String, com.example.crawler.rules.DomainObjectMapping> domainMappings) {
+                                         Map<String, com.example.crawler.rules.DomainObjectMapping> domainMappings,
+                                         MergeLookup lookup) {
         
         if (domainDoc == null || domainDoc.isEmpty() || domainMappings == null) {
             log.debug("   ℹ️  병합할 도메인 데이터 없음");
@@ -266,31 +391,31 @@ public class ContentMergeService {
         
         switch (domain) {
             case GAME:
-                GameContent existingGame = gameContentRepository.findById(existingContent.getContentId())
-                        .orElse(null);
+                GameContent existingGame = findDomainEntity(
+                        existingContent.getContentId(), GameContent.class, gameContentRepository, lookup);
                 if (existingGame != null) {
                     genericUpserter.upsert(existingGame, domainDoc, domainMappings);
-                    gameContentRepository.save(existingGame);
+                    if (lookup == null) gameContentRepository.save(existingGame);
                     log.debug("      💾 GameContent 병합 및 저장 완료");
                 }
                 break;
                 
             case WEBTOON:
-                WebtoonContent existingWebtoon = webtoonContentRepository.findById(existingContent.getContentId())
-                        .orElse(null);
+                WebtoonContent existingWebtoon = findDomainEntity(
+                        existingContent.getContentId(), WebtoonContent.class, webtoonContentRepository, lookup);
                 if (existingWebtoon != null) {
                     genericUpserter.upsert(existingWebtoon, domainDoc, domainMappings);
-                    webtoonContentRepository.save(existingWebtoon);
+                    if (lookup == null) webtoonContentRepository.save(existingWebtoon);
                     log.debug("      💾 WebtoonContent 병합 및 저장 완료");
                 }
                 break;
                 
             case WEBNOVEL:
-                WebnovelContent existingNovel = webnovelContentRepository.findById(existingContent.getContentId())
-                        .orElse(null);
+                WebnovelContent existingNovel = findDomainEntity(
+                        existingContent.getContentId(), WebnovelContent.class, webnovelContentRepository, lookup);
                 if (existingNovel != null) {
                     genericUpserter.upsert(existingNovel, domainDoc, domainMappings);
-                    webnovelContentRepository.save(existingNovel);
+                    if (lookup == null) webnovelContentRepository.save(existingNovel);
                     log.debug("      💾 WebnovelContent 병합 및 저장 완료");
                 }
                 break;
@@ -300,6 +425,16 @@ public class ContentMergeService {
                 break;
         }
     }
+
+    private <T> T findDomainEntity(Long contentId, Class<T> type, JpaRepository<T, Long> repository, MergeLookup lookup) {
+        if (lookup != null) {
+            Optional<Object> cached = lookup.domainEntity(contentId);
+            if (cached.isPresent() && type.isInstance(cached.get())) {
+                return type.cast(cached.get());
+            }
+        }
+        return repository.findById(contentId).orElse(null);
+    }
 }
 
 
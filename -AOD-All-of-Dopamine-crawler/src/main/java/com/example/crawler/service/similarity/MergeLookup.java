@@ -0,0 +1,104 @@
+package com.example.crawler.service.similarity;
+
+import com.example.crawler.service.BatchInserts;
+import com.example.shared.entity.Content;
+import com.example.shared.entity.Domain;
+import com.example.shared.entity.PlatformData;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 배치 변환용 중복 탐지/병합 조회 결과 (청크 단위로 미리 일괄 조회)
+ * - 도메인 + 중복 키(developer/author) → 후보 도메인 엔티티 (GameContent 등, Content 포함)
+ * - 플랫폼 + platformSpecificId → 기존 PlatformData (+ 그 작품의 도메인 엔티티, 병합 작품 여부)
+ * - 같은 청크에서 새로 저장된 작품/플랫폼 정보도 register로 추가해 뒤 항목이 볼 수 있게 함
+ * - 새 행은 바로 저장하지 않고 inserts()에 모아 청크 끝에 일괄 INSERT
+ *
+ * 한 트랜잭션(한 스레드) 안에서만 사용
+ */
+public class MergeLookup {
+
+    private final Map<String, List<Object>> candidatesByKey = new HashMap<>();
+    private final Map<Long, Object> domainEntitiesByContentId = new HashMap<>();
+    private final Map<String, PlatformData> platformDataByKey = new HashMap<>();
+    private final Set<Long> sharedContentIds = new HashSet<>();
+    private final BatchInserts inserts;
+
+    public MergeLookup(BatchInserts inserts) {
+        this.inserts = inserts;
+    }
+
+    static String candidateKey(Domain domain, String key) {
+        return domain + "|" + key;
+    }
+
+    static String platformKey(String platformName, String platformSpecificId) {
+        return platformName + "|" + platformSpecificId;
+    }
+
+    /**
+     * 중복 후보 작품 (조회 대상이 아니었던 키면 빈 목록)
+     */
+    public List<Content> candidates(Domain domain, String key) {
+        List<Object> entities = candidatesByKey.get(candidateKey(domain, key));
+        if (entities == null) {
+            return List.of();
+        }
+        List<Content> contents = new ArrayList<>(entities.size());
+        for (Object entity : entities) {
+            contents.add(ContentMergeService.contentOf(entity));
+        }
+        return contents;
+    }
+
+    /**
+     * 후보/기존 작품의 도메인 엔티티 (병합·갱신 시 findById 대신 사용)
+     */
+    public Optional<Object> domainEntity(Long contentId) {
+        return Optional.ofNullable(domainEntitiesByContentId.get(contentId));
+    }
+
+    public Optional<PlatformData> platformData(String platformName, String platformSpecificId) {
+        return Optional.ofNullable(platformDataByKey.get(platformKey(platformName, platformSpecificId)));
+    }
+
+    public void registerCandidate(Domain domain, String key, Object domainEntity) {
+        if (key == null || key.isBlank()) {
+            return;
+        }
+        candidatesByKey.computeIfAbsent(candidateKey(domain, key), k -> new ArrayList<>()).add(domainEntity);
+        domainEntitiesByContentId.put(ContentMergeService.contentOf(domainEntity).getContentId(), domainEntity);
+    }
+
+    /**
+     * 플랫폼 정보가 2개 이상 붙은 (다른 플랫폼과 병합된) 작품인지
+     */
+    public boolean isShared(Long contentId) {
+        return sharedContentIds.contains(contentId);
+    }
+
+    public void registerDomainEntity(Object domainEntity) {
+        domainEntitiesByContentId.put(ContentMergeService.contentOf(domainEntity).getContentId(), domainEntity);
+    }
+
+    public void markShared(Long contentId) {
+        sharedContentIds.add(contentId);
+    }
+
+    /**
+     * 청크 끝에 저장할 새 행
+     */
+    public BatchInserts inserts() {
+        return inserts;
+    }
+
+    public void registerPlatformData(PlatformData platformData) {
+        platformDataByKey.put(platformKey(platformData.getPlatformName(), platformData.getPlatformSpecificId()), platformData);
+    }
+}
@@ -0,0 +1,200 @@
+package com.example.crawler.ingest;
+
+import com.example.crawler.service.BatchInsertWriter;
+import com.example.crawler.service.ContentUpsertService;
+import com.example.crawler.service.DomainCoreUpsertService;
+import com.example.crawler.service.GenericDomainUpserter;
+import com.example.crawler.service.RuleLoader;
+import com.example.crawler.service.RuleRegistry;
+import com.example.crawler.service.TransformEngine;
+import com.example.crawler.service.UpsertService;
+import com.example.crawler.service.similarity.ContentMergeService;
+import com.example.crawler.service.similarity.ContentSimilarityService;
+import com.example.crawler.support.StatementCounter;
+import com.example.crawler.support.TestPostgres;
+import com.example.shared.schema.ContentChangeTracking;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단계별 배치 변환 파이프라인 (claim → transform → lookup → upsert → flush → write) 통합 테스트
+ * - 실제 PostgreSQL 필요 (SKIP LOCKED, jsonb, 시퀀스, 변경 추적 트리거)
+ */
+@DataJpaTest(properties = "crawler.transform.pipeline.chunk-size=50")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIf("com.example.crawler.support.TestPostgres#available")
+@Import({BatchTransformServiceOptimized.class, RuleRegistry.class, RuleLoader.class, TransformEngine.class,
+        UpsertService.class, DomainCoreUpsertService.class, ContentUpsertService.class, GenericDomainUpserter.class,
+        ContentMergeService.class, ContentSimilarityService.class, VolatileMetricCatalog.class,
+        RawItemQuarantine.class, BatchInsertWriter.class, BatchTransformServiceOptimizedTest.Beans.class})
+class BatchTransformServiceOptimizedTest {
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        static StatementCounter statementCounter() {
+            return new StatementCounter();
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry);
+    }
+
+    @Autowired BatchTransformServiceOptimized service;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired StatementCounter statements;
+    @Autowired MeterRegistry meterRegistry;
+
+    private final ObjectMapper om = new ObjectMapper();
+    private long writesBefore;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("TRUNCATE raw_items, transform_runs, game_contents, platform_data, contents RESTART IDENTITY CASCADE");
+        ContentChangeTracking.install(jdbc);
+        writesBefore = writeTimer().count();
+    }
+
+    @Test
+    void insertsNewRowsWithConstantRoundTripsPerChunk() {
+        int small = processFresh(0, 5);
+        int large = processFresh(100, 40);
+
+        // 새 행 수와 관계없이 청크당 왕복 수가 같음 (건별 INSERT면 항목 수에 비례)
+        assertThat(batchWrites()).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+        assertThat(count("contents")).isEqualTo(45);
+        assertThat(count("platform_data")).isEqualTo(45);
+        assertThat(count("game_contents")).isEqualTo(45);
+        assertThat(jdbc.queryForObject(
+                "SELECT count(*) FROM platform_data pd JOIN game_contents g ON g.content_id = pd.content_id " +
+                "JOIN contents c ON c.content_id = pd.content_id " +
+                "WHERE c.master_title = 'Game ' || pd.platform_specific_id " +
+                "AND g.developer = 'Studio ' || pd.platform_specific_id", Integer.class)).isEqualTo(45);
+        assertThat(jdbc.queryForObject("SELECT count(*) FROM raw_items WHERE processed", Integer.class)).isEqualTo(45);
+    }
+
+    @Test
+    void mergesDuplicateWithinOneChunk() {
+        insertRaw(steam("1", "Hollow Knight", "Team Cherry", "first"));
+        insertRaw(steam("2", "Hollow Knight", "Team Cherry", "second"));
+
+        BatchTransformServiceOptimized.BatchResult result = service.processNextBatch(100);
+
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(batchWrites()).isEqualTo(1);
+        assertThat(count("contents")).isEqualTo(1);
+        assertThat(count("game_contents")).isEqualTo(1);
+        assertThat(jdbc.queryForList("SELECT platform_specific_id FROM platform_data ORDER BY 1", String.class))
+                .containsExactly("1", "2");
+        assertThat(jdbc.queryForList("SELECT status FROM transform_runs ORDER BY raw_id", String.class))
+                .containsExactly("SUCCESS", "SUCCESS_DUPLICATE");
+    }
+
+    @Test
+    void refreshesExistingRowsOnRetransform() throws Exception {
+        long rawId = insertRaw(steam("7", "Celeste", "Maddy Makes Games", "old synopsis"));
+        service.processNextBatch(100);
+        Long contentId = jdbc.queryForObject("SELECT content_id FROM contents", Long.class);
+
+        jdbc.update("UPDATE raw_items SET source_payload = CAST(? AS jsonb), processed = false WHERE raw_id = ?",
+                om.writeValueAsString(steam("7", "Celeste", "Maddy Makes Games", "new synopsis")), rawId);
+        service.processNextBatch(100);
+
+        assertThat(batchWrites()).isEqualTo(2);
+        assertThat(count("contents")).isEqualTo(1);
+        assertThat(count("platform_data")).isEqualTo(1);
+        assertThat(jdbc.queryForObject("SELECT synopsis FROM contents WHERE content_id = ?", String.class, contentId))
+                .isEqualTo("new synopsis");
+        assertThat(jdbc.queryForObject("SELECT content_id FROM platform_data", Long.class)).isEqualTo(contentId);
+    }
+
+    /**
+     * 서로 다른 새 게임 n개를 한 배치로 처리하고 그동안의 DB 왕복 수 반환
+     */
+    private int processFresh(int offset, int n) {
+        for (int i = 0; i < n; i++) {
+            String id = String.valueOf(offset + i);
+            insertRaw(steam(id, "Game " + id, "Studio " + id, "synopsis " + id));
+        }
+        statements.reset();
+        BatchTransformServiceOptimized.BatchResult result = service.processNextBatch(100);
+        int roundTrips = statements.count();
+
+        assertThat(result.succeeded()).isEqualTo(n);
+        return roundTrips;
+    }
+
+    private long insertRaw(Map<String, Object> payload) {
+        try {
+            return jdbc.queryForObject(
+                    "INSERT INTO raw_items (platform_name, domain, source_payload, platform_specific_id, url, hash, " +
+                    "fetched_at, processed, attempt_count) VALUES ('Steam', 'GAME', CAST(? AS jsonb), ?, ?, md5(?), " +
+                    "now(), false, 0) RETURNING raw_id",
+                    Long.class, om.writeValueAsString(payload), payload.get("steam_appid"),
+                    "https://store.steampowered.com/app/" + payload.get("steam_appid"), om.writeValueAsString(payload));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이 테스트에서 배치 경로로 끝난 횟수 (롤백 후 건별 재처리로 넘어가면 write 단계가 기록되지 않음)
+     */
+    private long batchWrites() {
+        return writeTimer().count() - writesBefore;
+    }
+
+    private Timer writeTimer() {
+        return Timer.builder("crawler.transform.stage.duration").tag("stage", "write").register(meterRegistry);
+    }
+
+    private int count(String table) {
+        return jdbc.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private static Map<String, Object> steam(String appId, String name, String developer, String synopsis) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("steam_appid", appId);
+        payload.put("name", name);
+        payload.put("short_description", synopsis);
+        payload.put("header_image", "https://cdn.example.com/" + appId + ".jpg");
+        payload.put("release_date", "2020-01-01");
+        payload.put("developers", List.of(developer));
+        payload.put("publishers", List.of(developer));
+        payload.put("platforms", Map.of("windows", true));
+        payload.put("genres", List.of("Action"));
+        payload.put("is_free", false);
+        return payload;
+    }
+}
@@ -0,0 +1,210 @@
+package com.example.crawler.ingest;
+
+import com.example.crawler.ingest.RawSaveResult.Outcome;
+import com.example.shared.entity.RawItem;
+import com.example.shared.repository.RawItemRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CollectorServiceTest {
+
+    private FakeRawItemsTable table;
+    private RawItemRepository rawRepo;
+    private PlatformMetricsWriter metricsWriter;
+    private List<RawItemsArrivedEvent> events;
+    private CollectorService collector;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment env = new MockEnvironment();
+        table = new FakeRawItemsTable();
+        rawRepo = mock(RawItemRepository.class);
+        metricsWriter = mock(PlatformMetricsWriter.class);
+        events = new ArrayList<>();
+
+        AtomicLong ids = new AtomicLong(1000);
+        when(rawRepo.save(any(RawItem.class))).thenAnswer(inv -> {
+            RawItem item = inv.getArgument(0);
+            item.setRawId(ids.incrementAndGet());
+            return item;
+        });
+
+        collector = new CollectorService(rawRepo, table,
+                new PayloadFingerprinter(env, new VolatileMetricCatalog(env)),
+                metricsWriter, new SimpleMeterRegistry(),
+                event -> events.add((RawItemsArrivedEvent) event));
+        ReflectionTestUtils.setField(collector, "batchSize", 50);
+    }
+
+    @Test
+    void reportsOutcomePerDraftInInputOrder() {
+        collector.saveRawBatch(List.of(draft("Steam", "1", "v1"), draft("Steam", "2", "v1")));
+        events.clear();
+
+        List<RawSaveResult> results = collector.saveRawBatch(List.of(
+                draft("Steam", "1", "v1"),   // 해시 동일
+                draft("Steam", "2", "v2"),   // 해시 변경
+                draft("Steam", "3", "v1"),   // 신규
+                draft("Steam", " ", "v1"))); // 유효하지 않은 ID
+
+        assertThat(results).extracting(RawSaveResult::outcome)
+                .containsExactly(Outcome.UNCHANGED, Outcome.CHANGED, Outcome.NEW, Outcome.REJECTED);
+        assertThat(results.get(2).rawId()).isNotNull();
+        assertThat(table.statements).isEqualTo(2);
+        assertThat(events).containsExactly(new RawItemsArrivedEvent("Steam", 2));
+        verify(rawRepo, never()).save(any());
+    }
+
+    @Test
+    void keepsLastDraftForDuplicateKeysInOneBatch() {
+        List<RawSaveResult> results = collector.saveRawBatch(List.of(
+                draft("Steam", "1", "old"),
+                draft("Steam", "1", "new")));
+
+        assertThat(results).extracting(RawSaveResult::outcome).containsExactly(Outcome.NEW, Outcome.NEW);
+        assertThat(table.lastRowsPerStatement).isEqualTo(1);
+        assertThat(table.payloadOf("Steam|1")).contains("new");
+    }
+
+    @Test
+    void fallsBackToSingleSavesOnHashConflict() {
+        // 다른 작품인데 payload가 같아 uk_raw_hash 위반
+        collector.saveRawBatch(List.of(new RawItemDraft("Steam", "GAME", Map.of("title", "same"), "1", null)));
+
+        List<RawSaveResult> results = collector.saveRawBatch(List.of(
+                new RawItemDraft("Steam", "GAME", Map.of("title", "same"), "2", null),
+                draft("Steam", "3", "v1")));
+
+        assertThat(results).extracting(RawSaveResult::outcome).containsExactly(Outcome.NEW, Outcome.NEW);
+        verify(rawRepo, times(2)).save(any(RawItem.class));
+    }
+
+    @Test
+    void publishesArrivalsPerPlatform() {
+        collector.saveRawBatch(List.of(
+                draft("Steam", "1", "v1"),
+                draft("Epic", "1", "v1"),
+                draft("Steam", "2", "v1")));
+
+        assertThat(events).containsExactly(
+                new RawItemsArrivedEvent("Steam", 2),
+                new RawItemsArrivedEvent("Epic", 1));
+    }
+
+    @Test
+    void bufferRetriesOneByOneWhenLastFlushFails() {
+        table.failNextStatement = true;
+
+        RawItemBuffer buffer = collector.newBuffer();
+        buffer.add("Steam", "GAME", Map.of("title", "a"), "1", null);
+        buffer.add("Steam", "GAME", Map.of("title", "b"), "2", null);
+        buffer.close();
+
+        verify(rawRepo, times(2)).save(any(RawItem.class));
+        assertThat(buffer.count(Outcome.NEW)).isEqualTo(2);
+    }
+
+    private static RawItemDraft draft(String platform, String id, String version) {
+        Map<String, Object> payload = new HashMap<>();
+        payload.put("platform", platform);
+        payload.put("id", id);
+        payload.put("version", version);
+        return new RawItemDraft(platform, "GAME", payload, id, "https://example.com/" + id);
+    }
+
+    /**
+     * raw_items upsert 문을 메모리 테이블로 흉내 (ON CONFLICT ... WHERE hash <> / uk_raw_hash)
+     */
+    private static class FakeRawItemsTable extends JdbcTemplate {
+
+        private static final int COLUMNS = 7;
+
+        private final Map<String, Object[]> rows = new HashMap<>();
+        private long nextId = 1;
+        int statements;
+        int lastRowsPerStatement;
+        boolean failNextStatement;
+
+        @Override
+        public <T> T queryForObject(String sql, Class<T> requiredType) {
+            return requiredType.cast(Boolean.TRUE); // 유니크 인덱스 있음
+        }
+
+        @Override
+        public void query(String sql, RowCallbackHandler rch, Object... args) {
+            statements++;
+            if (failNextStatement) {
+                failNextStatement = false;
+                throw new DataAccessResourceFailureException("connection reset");
+            }
+            lastRowsPerStatement = args.length / COLUMNS;
+
+            List<Object[]> returning = new ArrayList<>();
+            Map<String, Object[]> staged = new HashMap<>(rows);
+            for (int i = 0; i < args.length; i += COLUMNS) {
+                String key = args[i] + "|" + args[i + 3];
+                String hash = (String) args[i + 5];
+                Object[] current = staged.get(key);
+                boolean hashTaken = staged.entrySet().stream()
+                        .anyMatch(e -> !e.getKey().equals(key) && e.getValue()[1].equals(hash));
+                if (hashTaken) {
+                    throw new DuplicateKeyException("duplicate key value violates unique constraint \"uk_raw_hash\"");
+                }
+                if (current == null) {
+                    long id = nextId++;
+                    staged.put(key, new Object[]{id, hash, args[i + 2]});
+                    returning.add(new Object[]{id, args[i], args[i + 3], true});
+                } else if (!current[1].equals(hash)) {
+                    staged.put(key, new Object[]{current[0], hash, args[i + 2]});
+                    returning.add(new Object[]{current[0], args[i], args[i + 3], false});
+                }
+            }
+            rows.clear();
+            rows.putAll(staged);
+
+            for (Object[] row : returning) {
+                try {
+                    rch.processRow(resultRow(row));
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+
+        String payloadOf(String key) {
+            return (String) rows.get(key)[2];
+        }
+
+        private static ResultSet resultRow(Object[] row) throws SQLException {
+            ResultSet rs = mock(ResultSet.class);
+            when(rs.getLong("raw_id")).thenReturn((Long) row[0]);
+            when(rs.getString("platform_name")).thenReturn((String) row[1]);
+            when(rs.getString("platform_specific_id")).thenReturn((String) row[2]);
+            when(rs.getBoolean("inserted")).thenReturn((Boolean) row[3]);
+            return rs;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.crawler.ingest;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PayloadFingerprinterTest {
+
+    @Test
+    void ignoresKeyOrderAndNumericRepresentation() {
+        Map<String, Object> a = new LinkedHashMap<>();
+        a.put("title", "나 혼자만 레벨업");
+        a.put("episodeCount", 200);
+        a.put("rating", 9.5);
+        a.put("meta", Map.of("x", 1L, "y", List.of("a", "b")));
+
+        Map<String, Object> b = new LinkedHashMap<>();
+        b.put("meta", new HashMap<>(Map.of("y", List.of("a", "b"), "x", 1.0)));
+        b.put("rating", new BigDecimal("9.50"));
+        b.put("episodeCount", 200L);
+        b.put("title", "나 혼자만 레벨업");
+
+        assertThat(PayloadFingerprinter.sha256(a, Set.of())).isEqualTo(PayloadFingerprinter.sha256(b, Set.of()));
+    }
+
+    @Test
+    void distinguishesStructureAndTypes() {
+        String split = PayloadFingerprinter.sha256(Map.of("tags", List.of("a", "b")), Set.of());
+        String joined = PayloadFingerprinter.sha256(Map.of("tags", List.of("ab")), Set.of());
+        String number = PayloadFingerprinter.sha256(Map.of("id", 1), Set.of());
+        String text = PayloadFingerprinter.sha256(Map.of("id", "1"), Set.of());
+
+        assertThat(split).isNotEqualTo(joined);
+        assertThat(number).isNotEqualTo(text);
+    }
+
+    @Test
+    void excludesConfiguredVolatileFields() {
+        MockEnvironment env = new MockEnvironment().withProperty("crawler.fingerprint.exclude.Epic", "price");
+        PayloadFingerprinter fingerprinter = new PayloadFingerprinter(env, new VolatileMetricCatalog(env));
+
+        // 기본 지표 필드 (VolatileMetricCatalog)
+        String before = fingerprinter.fingerprint("TMDB_MOVIE", Map.of("id", 550, "popularity", 61.4, "vote_count", 30000));
+        String after = fingerprinter.fingerprint("TMDB_MOVIE", Map.of("id", 550, "popularity", 72.9, "vote_count", 30125));
+        assertThat(before).isEqualTo(after).hasSize(64);
+
+        // 중첩 경로는 최상위 키 단위로 제외
+        assertThat(fingerprinter.fingerprint("Steam", Map.of("name", "Portal", "recommendations", Map.of("total", 10))))
+                .isEqualTo(fingerprinter.fingerprint("Steam", Map.of("name", "Portal", "recommendations", Map.of("total", 12))));
+
+        // 설정 제외 필드
+        assertThat(fingerprinter.fingerprint("Epic", Map.of("id", "a", "price", 1000)))
+                .isEqualTo(fingerprinter.fingerprint("Epic", Map.of("id", "a", "price", 900)));
+
+        // 지표가 아닌 필드는 그대로 해시에 포함
+        assertThat(fingerprinter.fingerprint("NaverWebtoon", Map.of("titleId", "1", "episodeCount", 10)))
+                .isNotEqualTo(fingerprinter.fingerprint("NaverWebtoon", Map.of("titleId", "1", "episodeCount", 11)));
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.crawler.ingest;
+
+import com.example.crawler.support.TestPostgres;
+import com.example.shared.entity.RawItem;
+import com.example.shared.repository.RawItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실패 기록(UPDATE ... RETURNING) / lockNextBatch 필터 통합 테스트
+ * - 실제 PostgreSQL 필요
+ * - 대기 시간표: 1s, 2s, 4s, 5s(최대), 6번째 실패에서 격리
+ */
+@DataJpaTest(properties = {
+        "crawler.transform.retry.max-attempts=6",
+        "crawler.transform.retry.base-backoff-ms=1000",
+        "crawler.transform.retry.max-backoff-ms=5000"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIf("com.example.crawler.support.TestPostgres#available")
+@Import({RawItemQuarantine.class, RawItemQuarantineRepositoryTest.Beans.class})
+class RawItemQuarantineRepositoryTest {
+
+    @TestConfiguration
+    static class Beans {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestPostgres.register(registry);
+    }
+
+    @Autowired RawItemQuarantine quarantine;
+    @Autowired RawItemRepository rawItemRepository;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired MeterRegistry meterRegistry;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        jdbc.execute("TRUNCATE raw_items RESTART IDENTITY CASCADE");
+        tx = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void scheduledRetryMatchesBackoffMsThenDeadLetters() {
+        long rawId = insertRaw("1", "NULL", "NULL");
+        double deadLettersBefore = count("crawler.transform.deadletter.added");
+
+        for (int attempt = 1; attempt <= 5; attempt++) {
+            int expectedAttempt = attempt;
+            // 같은 트랜잭션 안에서는 now()가 같으므로 예약된 대기 시간을 정확히 비교
+            Long delayMs = tx.execute(status -> {
+                RawItemQuarantine.Outcome outcome = quarantine.recordFailure(rawId);
+                assertThat(outcome.attemptCount()).isEqualTo(expectedAttempt);
+                assertThat(outcome.deadLettered()).isFalse();
+                return jdbc.queryForObject(
+                        "SELECT (EXTRACT(EPOCH FROM next_attempt_at - now()) * 1000)::bigint FROM raw_items WHERE raw_id = ?",
+                        Long.class, rawId);
+            });
+            assertThat(delayMs).as("%d번째 실패 후 대기 시간", attempt).isEqualTo(quarantine.backoffMs(attempt));
+        }
+
+        // when: max-attempts번째 실패
+        RawItemQuarantine.Outcome last = quarantine.recordFailure(rawId);
+
+        // then: 격리, 변환 대상에서 제외
+        assertThat(last.attemptCount()).isEqualTo(6);
+        assertThat(last.deadLettered()).isTrue();
+        assertThat(count("crawler.transform.deadletter.added") - deadLettersBefore).isEqualTo(1);
+        jdbc.update("UPDATE raw_items SET next_attempt_at = now() - interval '1 minute' WHERE raw_id = ?", rawId);
+        assertThat(lockedIds()).isEmpty();
+
+        // when: 관리자 해제 → 시도 정보 초기화 후 다시 대상
+        assertThat(quarantine.releaseDeadLetters("Steam")).isEqualTo(1);
+        assertThat(lockedIds()).containsExactly(rawId);
+        assertThat(jdbc.queryForObject("SELECT attempt_count FROM raw_items WHERE raw_id = ?", Integer.class, rawId))
+                .isZero();
+    }
+
+    @Test
+    void lockNextBatchSkipsItemsNotYetDueAndDeadLettered() {
+        long fresh = insertRaw("1", "NULL", "NULL");
+        long retryDue = insertRaw("2", "now() - interval '1 second'", "NULL");
+        insertRaw("3", "now() + interval '1 hour'", "NULL");                      // 재시도 대기 중
+        insertRaw("4", "now() - interval '1 second'", "now() - interval '1 minute'"); // 격리
+        long processed = insertRaw("5", "NULL", "NULL");
+        jdbc.update("UPDATE raw_items SET processed = true WHERE raw_id = ?", processed);
+
+        assertThat(lockedIds()).containsExactly(fresh, retryDue);
+    }
+
+    @Test
+    void failureOnProcessedItemIsIgnored() {
+        long rawId = insertRaw("1", "NULL", "NULL");
+        jdbc.update("UPDATE raw_items SET processed = true WHERE raw_id = ?", rawId);
+
+        assertThat(quarantine.recordFailure(rawId)).isNull();
+        assertThat(jdbc.queryForObject("SELECT attempt_count FROM raw_items WHERE raw_id = ?", Integer.class, rawId))
+                .isZero();
+    }
+
+    private List<Long> lockedIds() {
+        return tx.execute(status -> rawItemRepository.lockNextBatch(10).stream().map(RawItem::getRawId).toList());
+    }
+
+    /**
+     * fetched_at은 삽입 순서대로 증가 (lockNextBatch 정렬 기준)
+     */
+    private long insertRaw(String appId, String nextAttemptAt, String deadLetteredAt) {
+        return jdbc.queryForObject(
+                "INSERT INTO raw_items (platform_name, domain, source_payload, platform_specific_id, url, hash, " +
+                "fetched_at, processed, attempt_count, next_attempt_at, dead_lettered_at) " +
+                "VALUES ('Steam', 'GAME', '{}'::jsonb, ?, ?, md5(?), clock_timestamp(), false, 0, " +
+                nextAttemptAt + ", " + deadLetteredAt + ") RETURNING raw_id",
+                Long.class, appId, "https://store.steampowered.com/app/" + appId, appId);
+    }
+
+    private double count(String name) {
+        var counter = meterRegistry.find(name).tag("platform", "Steam").counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
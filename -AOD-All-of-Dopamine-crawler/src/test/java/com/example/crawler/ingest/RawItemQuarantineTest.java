@@ -0,0 +1,59 @@
+package com.example.crawler.ingest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RawItemQuarantineTest {
+
+    @Test
+    void doublesBackoffUntilMaxThenStaysFlat() {
+        RawItemQuarantine quarantine = quarantine(10, 60_000, 600_000);
+
+        assertThat(quarantine.backoffMs(1)).isEqualTo(60_000);
+        assertThat(quarantine.backoffMs(2)).isEqualTo(120_000);
+        assertThat(quarantine.backoffMs(3)).isEqualTo(240_000);
+        assertThat(quarantine.backoffMs(4)).isEqualTo(480_000);
+        assertThat(quarantine.backoffMs(5)).isEqualTo(600_000);
+        assertThat(quarantine.backoffMs(9)).isEqualTo(600_000);
+        // 시도 번호가 0 이하로 들어와도 첫 대기 시간
+        assertThat(quarantine.backoffMs(0)).isEqualTo(60_000);
+    }
+
+    @Test
+    void scheduleStopsAtMaxBackoffMaxAttemptsOrExponentCap() {
+        // 최대치에 닿으면 그 이후는 표에 없음 (SQL CASE는 LEAST로 마지막 값 사용)
+        assertThat(RawItemQuarantine.backoffSchedule(10, 60_000, 600_000))
+                .containsExactly(60_000, 120_000, 240_000, 480_000, 600_000);
+        // max-attempts 이후는 격리되므로 표에 없음
+        assertThat(RawItemQuarantine.backoffSchedule(3, 60_000, 600_000))
+                .containsExactly(60_000, 120_000, 240_000);
+        // 지수는 30에서 멈춤 (오버플로 없음)
+        long[] uncapped = RawItemQuarantine.backoffSchedule(100, 1, Long.MAX_VALUE);
+        assertThat(uncapped).hasSize(31);
+        assertThat(uncapped[30]).isEqualTo(1L << 30);
+        assertThat(quarantine(100, 1, Long.MAX_VALUE).backoffMs(64)).isEqualTo(1L << 30);
+    }
+
+    @Test
+    void failureSqlIsBuiltFromTheSameSchedule() {
+        String sql = RawItemQuarantine.failureSql(new long[]{1_000, 2_000, 3_000});
+
+        assertThat(sql).contains("CASE LEAST(attempt_count, 2) WHEN 0 THEN 1000 WHEN 1 THEN 2000 WHEN 2 THEN 3000 END");
+    }
+
+    @Test
+    void clampsInvalidSettings() {
+        // max-attempts 최소 1, 최대 대기 시간은 기본 대기 시간 이상
+        RawItemQuarantine quarantine = quarantine(0, 5_000, 1_000);
+
+        assertThat(quarantine.backoffMs(1)).isEqualTo(5_000);
+        assertThat(quarantine.backoffMs(2)).isEqualTo(5_000);
+    }
+
+    private static RawItemQuarantine quarantine(int maxAttempts, long baseBackoffMs, long maxBackoffMs) {
+        return new RawItemQuarantine(null, event -> { }, new SimpleMeterRegistry(),
+                maxAttempts, baseBackoffMs, maxBackoffMs);
+    }
+}
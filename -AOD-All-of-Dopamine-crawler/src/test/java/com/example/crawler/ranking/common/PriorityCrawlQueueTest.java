@@ -0,0 +1,36 @@
+package com.example.crawler.ranking.common;
+
+import com.example.crawler.ranking.common.PriorityCrawlQueue.PriorityCrawlTask;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriorityCrawlQueueTest {
+
+    @Test
+    void drainsByRankingAndIgnoresDuplicates() {
+        PriorityCrawlQueue queue = new PriorityCrawlQueue(new SimpleMeterRegistry(), 10);
+
+        assertThat(queue.enqueue("Steam", "730", 5)).isTrue();
+        assertThat(queue.enqueue("TMDB_MOVIE", "550", 1)).isTrue();
+        assertThat(queue.enqueue("Steam", "730", 2)).isFalse();       // 중복
+        assertThat(queue.enqueue("NaverWebtoon", "123", 1)).isFalse(); // 미지원 플랫폼
+
+        List<PriorityCrawlTask> drained = queue.drain(10);
+
+        assertThat(drained).extracting(PriorityCrawlTask::platformSpecificId).containsExactly("550", "730");
+        assertThat(queue.enqueue("Steam", "730", 5)).isTrue();        // 꺼낸 뒤에는 재적재 가능
+    }
+
+    @Test
+    void rejectsWhenFull() {
+        PriorityCrawlQueue queue = new PriorityCrawlQueue(new SimpleMeterRegistry(), 1);
+
+        assertThat(queue.enqueue("Steam", "1", 1)).isTrue();
+        assertThat(queue.enqueue("Steam", "2", 2)).isFalse();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.crawler.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 외부 디렉터리 재로드는 실제 WatchService로 검증 (debounce 0, 반영될 때까지 대기)
+ */
+class RuleRegistryTest {
+
+    @TempDir
+    Path externalDir;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RuleRegistry registry;
+
+    @AfterEach
+    void tearDown() {
+        if (registry != null) registry.stopWatcher();
+    }
+
+    @Test
+    void looksUpClasspathRulesByDomainAndPlatform() {
+        start("");
+
+        RuleRegistry.Entry steam = registry.require("GAME", "Steam");
+        assertThat(steam.source()).isEqualTo("rules/game/steam.yml");
+        assertThat(steam.version()).isEqualTo(2);
+        assertThat(steam.plan().rule()).isSameAs(steam.rule());
+
+        // 도메인은 대문자, 플랫폼은 소문자로 정규화한 키
+        assertThat(registry.find("game", "STEAM")).containsSame(steam);
+        assertThat(registry.findBySource("rules/game/steam.yml")).containsSame(steam);
+        assertThat(registry.find("MOVIE", "Steam")).isEmpty();
+        assertThat(registry.find(null, "Steam")).isEmpty();
+        assertThatThrownBy(() -> registry.require("GAME", "Unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void externalRuleOverridesClasspathRuleAndKeepsHistory() throws IOException {
+        Path file = writeRule(externalDir.resolve("steam.yml"), "Steam", 3);
+
+        start(externalDir.toString());
+
+        RuleRegistry.Entry steam = registry.require("GAME", "Steam");
+        assertThat(steam.version()).isEqualTo(3);
+        assertThat(steam.source()).isEqualTo(file.toAbsolutePath().toString());
+        assertThat(steam.rule().getFieldMappings()).containsOnlyKeys("name");
+
+        // 덮어쓴 classpath 규칙은 버전 이력으로 조회
+        assertThat(registry.find("GAME", "Steam", 2))
+                .hasValueSatisfying(e -> assertThat(e.source()).isEqualTo("rules/game/steam.yml"));
+        assertThat(registry.find("GAME", "Steam", 3)).containsSame(steam);
+        assertThat(registry.find("GAME", "Steam", 9)).isEmpty();
+        // 다른 플랫폼은 classpath 규칙 그대로
+        assertThat(registry.require("GAME", "Epic").source()).isEqualTo("rules/game/epic.yml");
+    }
+
+    @Test
+    void failedReloadKeepsPreviousRuleThenNextVersionIsApplied() throws IOException {
+        Path file = writeRule(externalDir.resolve("steam.yml"), "Steam", 3);
+        start(externalDir.toString());
+        RuleRegistry.Entry v3 = registry.require("GAME", "Steam");
+
+        // when: 파싱할 수 없는 내용으로 저장
+        Files.writeString(file, "platformName: [Steam\ndomain: GAME\n");
+        touch(file, 1);
+        await(() -> reloads("failed") >= 1);
+
+        // then: 기존 규칙 유지
+        assertThat(registry.require("GAME", "Steam")).isSameAs(v3);
+
+        // when: 고쳐서 버전을 올려 저장
+        writeRule(file, "Steam", 4);
+        touch(file, 2);
+        await(() -> registry.require("GAME", "Steam").version() == 4);
+
+        // then: 이력에 classpath v2, 외부 v3, v4 모두 남음
+        assertThat(registry.find("GAME", "Steam", 2)).isPresent();
+        assertThat(registry.find("GAME", "Steam", 3)).containsSame(v3);
+        assertThat(registry.find("GAME", "Steam", 4)).containsSame(registry.require("GAME", "Steam"));
+        assertThat(reloads("success")).isEqualTo(2);
+    }
+
+    @Test
+    void watchesSubdirectoryCreatedAfterStart() throws Exception {
+        start(externalDir.toString());
+
+        // when: 감시 시작 후 하위 디렉터리를 만들고, 감시 등록이 끝난 뒤 그 안에 규칙 저장
+        Path subDir = Files.createDirectory(externalDir.resolve("game"));
+        TimeUnit.MILLISECONDS.sleep(500);
+        Path file = writeRule(subDir.resolve("itch.yml"), "Itch", 1);
+
+        // then: 새 디렉터리의 파일 이벤트로 재로드
+        await(() -> registry.find("GAME", "Itch").isPresent());
+        assertThat(registry.require("GAME", "Itch").source()).isEqualTo(file.toAbsolutePath().toString());
+
+        // 같은 파일을 다시 고쳐도 반영
+        writeRule(file, "Itch", 2);
+        touch(file, 1);
+        await(() -> registry.require("GAME", "Itch").version() == 2);
+    }
+
+    private void start(String dir) {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new RuleRegistry(new RuleLoader(), meterRegistry, dir, 0);
+        registry.init();
+    }
+
+    private double reloads(String result) {
+        return meterRegistry.get("crawler.rules.reloads").tag("result", result).counter().count();
+    }
+
+    private static Path writeRule(Path file, String platformName, int version) throws IOException {
+        return Files.writeString(file, """
+                platformName: %s
+                domain: GAME
+                schemaVersion: %d
+                fieldMappings:
+                  name: master_title
+                """.formatted(platformName, version));
+    }
+
+    /** 같은 초 안에 다시 써도 변경으로 보이도록 수정 시각을 앞당김 */
+    private static void touch(Path file, int seconds) throws IOException {
+        Files.setLastModifiedTime(file, FileTime.from(Instant.now().plusSeconds(seconds)));
+    }
+
+    private static void await(BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            try {
+                TimeUnit.MILLISECONDS.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
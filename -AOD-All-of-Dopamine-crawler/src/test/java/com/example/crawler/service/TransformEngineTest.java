@@ -0,0 +1,204 @@
+package com.example.crawler.service;
+
+import com.example.crawler.rules.CompiledRule;
+import com.example.crawler.rules.MappingRule;
+import com.example.crawler.rules.NormalizerStep;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컴파일된 실행 계획(CompiledRule)과 컴파일 도입 전 변환 결과 비교
+ * - 기준 구현은 기존 transform 복사본 (항목마다 deepGet + 목적지 접두 비교 + String.replaceAll)
+ */
+class TransformEngineTest {
+
+    private final TransformEngine engine = new TransformEngine();
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "rules/movie/tmdb_movie.yml",
+            "rules/tv/tmdb_tv.yml",
+            "rules/game/steam.yml",
+            "rules/game/epic.yml",
+            "rules/webtoon/naverwebtoon.yml",
+            "rules/webnovel/naverseries.yml",
+            "rules/webnovel/kakaopage.yml"
+    })
+    void compiledMatchesLegacyForEveryRuleFile(String ruleFile) {
+        MappingRule rule = new RuleLoader().load(ruleFile);
+
+        // 모든 소스 경로를 채운 payload (정규화 대상이 되도록 괄호/공백/시즌 표기 포함)
+        Map<String, Object> full = new HashMap<>();
+        for (String src : rule.getFieldMappings().keySet()) {
+            fill(full, src.split("\\."), 0, "  Ｔｉｔｌｅ (" + src + ")  [부제]  시즌 2 ");
+        }
+        assertSameResult(full, rule);
+
+        // 빈 payload → platform.attributes 기본값(0 / 빈 목록 / "") 경로
+        assertSameResult(new HashMap<>(), rule);
+    }
+
+    @Test
+    void bracketIndexEdgeCasesMatchLegacy() {
+        Map<String, String> mappings = new LinkedHashMap<>();
+        mappings.put("developers[0]", "domain.first");
+        mappings.put("developers[-1]", "domain.negative");
+        mappings.put("developers[x]", "domain.nonNumeric");
+        mappings.put("developers[5]", "domain.outOfRange");
+        mappings.put("publisher[0]", "domain.notAList");
+        mappings.put("missing[0]", "platform.attributes.missing_count");
+        MappingRule rule = rule(mappings);
+
+        Map<String, Object> raw = new HashMap<>();
+        raw.put("developers", List.of("Valve", "Hidden Path"));
+        raw.put("publisher", "Valve");
+
+        TransformEngine.Triple compiled = assertSameResult(raw, rule);
+
+        assertThat(compiled.domain())
+                .containsEntry("first", "Valve")
+                // 숫자가 아닌 인덱스는 무시하고 목록 전체
+                .containsEntry("nonNumeric", List.of("Valve", "Hidden Path"))
+                // 음수 / 범위 밖 / 목록이 아닌 값은 null → 건너뜀
+                .doesNotContainKeys("negative", "outOfRange", "notAList");
+        assertThat(compiled.platform().attributes()).containsEntry("missing_count", 0);
+    }
+
+    @Test
+    void unknownNormalizerIsIgnoredLikeLegacy() {
+        MappingRule rule = rule(Map.of("name", "master_title"));
+        NormalizerStep unknown = new NormalizerStep();
+        unknown.setType("reverse");
+        unknown.setFields(List.of("master_title"));
+        NormalizerStep lowercase = new NormalizerStep();
+        lowercase.setType("lowercase");
+        lowercase.setFields(List.of("master_title"));
+        rule.setNormalizers(List.of(unknown, lowercase));
+
+        TransformEngine.Triple compiled = assertSameResult(Map.of("name", "Half-Life"), rule);
+
+        assertThat(compiled.master()).containsEntry("master_title", "half-life");
+    }
+
+    private TransformEngine.Triple assertSameResult(Map<String, Object> raw, MappingRule rule) {
+        TransformEngine.Triple legacy = LegacyTransform.transform(raw, rule);
+        TransformEngine.Triple viaRule = engine.transform(raw, rule);
+        TransformEngine.Triple viaPlan = engine.transform(raw, CompiledRule.compile(rule));
+
+        assertThat(viaRule).isEqualTo(legacy);
+        assertThat(viaPlan).isEqualTo(legacy);
+        return viaPlan;
+    }
+
+    private static MappingRule rule(Map<String, String> mappings) {
+        MappingRule rule = new MappingRule();
+        rule.setPlatformName("Test");
+        rule.setDomain("GAME");
+        rule.setFieldMappings(mappings);
+        return rule;
+    }
+
+    /**
+     * 소스 경로대로 payload를 채움 (인덱스 경로는 해당 인덱스까지 목록으로 채움)
+     */
+    @SuppressWarnings("unchecked")
+    private static void fill(Map<String, Object> node, String[] parts, int depth, String leaf) {
+        String part = parts[depth];
+        int index = -1;
+        if (part.contains("[") && part.endsWith("]")) {
+            index = Integer.parseInt(part.substring(part.indexOf('[') + 1, part.length() - 1));
+            part = part.substring(0, part.indexOf('['));
+        }
+        boolean last = depth == parts.length - 1;
+        if (index < 0) {
+            if (last) {
+                node.putIfAbsent(part, leaf);
+            } else {
+                Object child = node.computeIfAbsent(part, k -> new HashMap<String, Object>());
+                if (child instanceof Map<?, ?> m) fill((Map<String, Object>) m, parts, depth + 1, leaf);
+            }
+            return;
+        }
+        Object existing = node.computeIfAbsent(part, k -> new ArrayList<>());
+        if (!(existing instanceof List<?>)) return;
+        List<Object> list = (List<Object>) existing;
+        while (list.size() <= index) {
+            list.add(last ? leaf : new HashMap<String, Object>());
+        }
+        if (!last && list.get(index) instanceof Map<?, ?> m) {
+            fill((Map<String, Object>) m, parts, depth + 1, leaf);
+        }
+    }
+
+    /**
+     * 컴파일 도입 전 TransformEngine.transform 복사본 (비교 기준)
+     */
+    private static final class LegacyTransform {
+
+        static TransformEngine.Triple transform(Map<String, Object> raw, MappingRule rule) {
+            TransformEngine.MasterDoc master = new TransformEngine.MasterDoc();
+            TransformEngine.PlatformDoc platform = new TransformEngine.PlatformDoc();
+            platform.put("platformName", rule.getPlatformName());
+            TransformEngine.DomainDoc domain = new TransformEngine.DomainDoc();
+
+            for (var e : rule.getFieldMappings().entrySet()) {
+                String dst = e.getValue();
+                Object val = TransformEngine.deepGet(raw, e.getKey());
+                if (val == null && dst.startsWith("platform.attributes.")) {
+                    String attrName = dst.substring("platform.attributes.".length());
+                    if (attrName.contains("count") || attrName.contains("runtime")) {
+                        val = 0;
+                    } else if (attrName.equals("cast") || attrName.equals("crew")) {
+                        val = Collections.emptyList();
+                    } else {
+                        val = "";
+                    }
+                }
+                if (val == null) continue;
+                if (dst.startsWith("platform.")) {
+                    String rest = dst.substring("platform.".length());
+                    if (rest.startsWith("attributes.")) {
+                        platform.attributes().put(rest.substring("attributes.".length()), val);
+                    } else {
+                        platform.put(rest, val);
+                    }
+                } else if (dst.startsWith("domain.")) {
+                    domain.put(dst.substring("domain.".length()), val);
+                } else {
+                    master.put(dst, val);
+                }
+            }
+            applyNormalizers(master, rule.getNormalizers());
+            return new TransformEngine.Triple(master, platform, domain);
+        }
+
+        private static void applyNormalizers(TransformEngine.MasterDoc doc, List<NormalizerStep> steps) {
+            if (steps == null) return;
+            for (NormalizerStep step : steps) {
+                if (step.getFields() == null) continue;
+                for (String f : step.getFields()) {
+                    if (!(doc.get(f) instanceof String s)) continue;
+                    switch (step.getType()) {
+                        case "lowercase" -> doc.put(f, s.toLowerCase());
+                        case "strip_parentheses" -> doc.put(f, s.replaceAll("\\([^)]*\\)", ""));
+                        case "collapse_spaces" -> doc.put(f, s.replaceAll("\\s+", " ").trim());
+                        case "nfkc" -> doc.put(f, java.text.Normalizer.normalize(s, java.text.Normalizer.Form.NFKC));
+                        case "strip_brackets" -> doc.put(f, s.replaceAll("\\[[^\\]]*\\]", ""));
+                        case "strip_series_qualifiers" -> doc.put(f, s.replaceAll("(시즌\\s*\\d+|외전|스페셜)$", "").trim());
+                        default -> { /* noop */ }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.crawler.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DB 왕복 수 측정용 DataSource 래퍼 (테스트 전용 빈으로 등록)
+ * - Statement의 execute* 호출 1회 = 왕복 1회 (executeBatch도 1회로 셈)
+ */
+public class StatementCounter implements BeanPostProcessor {
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    public int count() {
+        return executions.get();
+    }
+
+    public void reset() {
+        executions.set(0);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = invoke(target, method, args);
+                return result instanceof Connection con ? proxyConnection(con) : result;
+            });
+        }
+        return bean;
+    }
+
+    private Connection proxyConnection(Connection con) {
+        return proxy(Connection.class, con, (target, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof CallableStatement cs) return proxyStatement(CallableStatement.class, cs);
+            if (result instanceof PreparedStatement ps) return proxyStatement(PreparedStatement.class, ps);
+            if (result instanceof Statement st) return proxyStatement(Statement.class, st);
+            return result;
+        });
+    }
+
+    private <S extends Statement> S proxyStatement(Class<S> type, S statement) {
+        return proxy(type, statement, (target, method, args) -> {
+            if (method.getName().startsWith("execute")) {
+                executions.incrementAndGet();
+            }
+            return invoke(target, method, args);
+        });
+    }
+
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler ih = (p, method, args) -> handler.handle(target, method, args);
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, ih);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.crawler.support;
+
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL 통합 테스트용 DB
+ * - TEST_POSTGRES_URL(+ TEST_POSTGRES_USER / TEST_POSTGRES_PASSWORD)이 있으면 그 DB 사용
+ * - 없으면 Testcontainers postgres:16-alpine 하나를 모든 테스트가 공유
+ * - 둘 다 없으면 available() = false → @EnabledIf로 테스트 건너뜀
+ *
+ * 사용: @EnabledIf("com.example.crawler.support.TestPostgres#available")
+ *       + @DynamicPropertySource에서 TestPostgres.register(registry)
+ */
+public final class TestPostgres {
+
+    private static final String URL = System.getenv("TEST_POSTGRES_URL");
+
+    private static PostgreSQLContainer<?> container;
+
+    private TestPostgres() {
+    }
+
+    public static boolean available() {
+        if (URL != null && !URL.isBlank()) {
+            return true;
+        }
+        try {
+            return DockerClientFactory.instance().isDockerAvailable();
+        } catch (Throwable e) {
+            return false;
+        }
+    }
+
+    public static void register(DynamicPropertyRegistry registry) {
+        if (URL != null && !URL.isBlank()) {
+            registry.add("spring.datasource.url", () -> URL);
+            registry.add("spring.datasource.username", () -> env("TEST_POSTGRES_USER", "postgres"));
+            registry.add("spring.datasource.password", () -> env("TEST_POSTGRES_PASSWORD", ""));
+            return;
+        }
+        PostgreSQLContainer<?> pg = container();
+        registry.add("spring.datasource.url", pg::getJdbcUrl);
+        registry.add("spring.datasource.username", pg::getUsername);
+        registry.add("spring.datasource.password", pg::getPassword);
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine");
+            container.start();
+        }
+        return container;
+    }
+
+    private static String env(String name, String fallback) {
+        String value = System.getenv(name);
+        return value != null ? value : fallback;
+    }
+}
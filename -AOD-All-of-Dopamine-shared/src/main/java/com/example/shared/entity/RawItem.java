@@ -11,9 +11,12 @@ import java.util.Map;
 
 @Entity @Getter @Setter
 @Table(name = "raw_items", indexes = {
-        @Index(name="idx_raw_proc", columnList = "processed,fetchedAt"),
-        @Index(name="idx_platform_id", columnList = "platformName,platformSpecificId")  // 중복 검사용 인덱스
-}, uniqueConstraints = @UniqueConstraint(name="uk_raw_hash", columnNames = {"hash"}))
+        @Index(name="idx_raw_proc", columnList = "processed,fetchedAt")
+}, uniqueConstraints = {
+        @UniqueConstraint(name="uk_raw_hash", columnNames = {"hash"}),
+        // 중복 검사 + 배치 upsert(ON CONFLICT) 대상 키
+        @UniqueConstraint(name="uk_raw_platform_id", columnNames = {"platformName", "platformSpecificId"})
+})
 public class RawItem {
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long rawId;
@@ -34,5 +37,10 @@ public class RawItem {
 
     @Column(nullable=false) private boolean processed = false;
     private Instant processedAt;
+
+    // 변환 실패 재시도 (실패마다 지수 백오프, max-attempts 도달 시 dead letter로 격리)
+    @Column(nullable=false, columnDefinition="integer default 0") private int attemptCount = 0;
+    private Instant nextAttemptAt;   // 이 시각 전에는 lockNextBatch 대상 아님
+    private Instant deadLetteredAt;  // null이 아니면 격리됨 (payload 변경 또는 수동 해제 시 복귀)
 }
 
@@ -4,6 +4,7 @@ import com.example.shared.entity.Content;
 import com.example.shared.entity.Domain;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,105 +14,170 @@ import java.util.List;
 import java.util.Optional;
 
 public interface ContentRepository extends JpaRepository<Content, Long> {
+
+    // 목록용 컬럼 프로젝션 (synopsis 제외)
+    String SUMMARY_SELECT = "SELECT new com.example.shared.repository.ContentSummary(" +
+            "c.contentId, c.domain, c.masterTitle, c.originalTitle, c.posterImageUrl, c.releaseDate) ";
+    String DISTINCT_SUMMARY_SELECT = "SELECT DISTINCT new com.example.shared.repository.ContentSummary(" +
+            "c.contentId, c.domain, c.masterTitle, c.originalTitle, c.posterImageUrl, c.releaseDate) ";
+
+    // 공통 조건절
+    String KEYWORD_WHERE = "(LOWER(c.masterTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
+            "LOWER(c.originalTitle) LIKE LOWER(CONCAT('%', :keyword, '%')))";
+    String PLATFORM_JOIN = "FROM Content c JOIN PlatformData pd ON pd.content = c ";
+
     Optional<Content> findFirstByDomainAndMasterTitleAndReleaseDate(Domain domain, String masterTitle, LocalDate releaseDate);
 
     // 도메인별 페이징 조회
     Page<Content> findByDomain(Domain domain, Pageable pageable);
-    
+
+    // 도메인별 / 전체 목록용 컬럼만 페이징 조회
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE c.domain = :domain",
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE c.domain = :domain")
+    Page<ContentSummary> findSummariesByDomain(@Param("domain") Domain domain, Pageable pageable);
+
+    @Query(value = SUMMARY_SELECT + "FROM Content c",
+           countQuery = "SELECT COUNT(c) FROM Content c")
+    Page<ContentSummary> findAllSummaries(Pageable pageable);
+
     // 검색을 위한 메서드
-    @Query("SELECT c FROM Content c WHERE c.domain = :domain AND " +
-           "(LOWER(c.masterTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.originalTitle) LIKE LOWER(CONCAT('%', :keyword, '%')))")
-    Page<Content> searchByDomainAndKeyword(@Param("domain") Domain domain, 
-                                           @Param("keyword") String keyword, 
-                                           Pageable pageable);
-    
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE c.domain = :domain AND " + KEYWORD_WHERE,
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE c.domain = :domain AND " + KEYWORD_WHERE)
+    Page<ContentSummary> searchByDomainAndKeyword(@Param("domain") Domain domain,
+                                                  @Param("keyword") String keyword,
+                                                  Pageable pageable);
+
     // 전체 검색
-    @Query("SELECT c FROM Content c WHERE " +
-           "LOWER(c.masterTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(c.originalTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Content> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
-    
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE " + KEYWORD_WHERE,
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE " + KEYWORD_WHERE)
+    Page<ContentSummary> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
     // ID 리스트로 조회 (추천용)
     List<Content> findByContentIdIn(List<Long> ids);
-    
+
+    // ID 리스트로 목록용 컬럼만 조회
+    @Query(SUMMARY_SELECT + "FROM Content c WHERE c.contentId IN :ids")
+    List<ContentSummary> findSummariesByContentIdIn(@Param("ids") List<Long> ids);
+
     // [✨ 신작/공개예정 조회용 메서드]
     // 특정 날짜 이후 출시된 작품 (신작) - 도메인별
     @Query("SELECT c FROM Content c WHERE c.domain = :domain AND c.releaseDate <= :endDate " +
            "ORDER BY c.releaseDate DESC")
-    Page<Content> findRecentReleases(@Param("domain") Domain domain, 
-                                     @Param("endDate") LocalDate endDate, 
+    Page<Content> findRecentReleases(@Param("domain") Domain domain,
+                                     @Param("endDate") LocalDate endDate,
                                      Pageable pageable);
-    
+
     // 특정 날짜 이후 출시된 작품 (신작) - 전체 도메인
     @Query("SELECT c FROM Content c WHERE c.releaseDate <= :endDate " +
            "ORDER BY c.releaseDate DESC")
-    Page<Content> findRecentReleases(@Param("endDate") LocalDate endDate, 
+    Page<Content> findRecentReleases(@Param("endDate") LocalDate endDate,
                                      Pageable pageable);
-    
+
     // 특정 날짜 이후 출시 예정인 작품 (공개예정) - 도메인별
-    @Query("SELECT c FROM Content c WHERE c.domain = :domain AND c.releaseDate > :startDate " +
-           "ORDER BY c.releaseDate ASC")
-    Page<Content> findUpcomingReleases(@Param("domain") Domain domain, 
-                                       @Param("startDate") LocalDate startDate, 
-                                       Pageable pageable);
-    
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE c.domain = :domain AND c.releaseDate > :startDate " +
+                   "ORDER BY c.releaseDate ASC",
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE c.domain = :domain AND c.releaseDate > :startDate")
+    Page<ContentSummary> findUpcomingReleases(@Param("domain") Domain domain,
+                                              @Param("startDate") LocalDate startDate,
+                                              Pageable pageable);
+
     // 특정 날짜 이후 출시 예정인 작품 (공개예정) - 전체 도메인
-    @Query("SELECT c FROM Content c WHERE c.releaseDate > :startDate " +
-           "ORDER BY c.releaseDate ASC")
-    Page<Content> findUpcomingReleases(@Param("startDate") LocalDate startDate, 
-                                       Pageable pageable);
-    
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE c.releaseDate > :startDate " +
+                   "ORDER BY c.releaseDate ASC",
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE c.releaseDate > :startDate")
+    Page<ContentSummary> findUpcomingReleases(@Param("startDate") LocalDate startDate,
+                                              Pageable pageable);
+
     // 특정 날짜 범위의 신작 조회 - 도메인별
-    @Query("SELECT c FROM Content c WHERE c.domain = :domain AND c.releaseDate BETWEEN :startDate AND :endDate " +
-           "ORDER BY c.releaseDate DESC")
-    Page<Content> findReleasesInDateRange(@Param("domain") Domain domain,
-                                          @Param("startDate") LocalDate startDate,
-                                          @Param("endDate") LocalDate endDate,
-                                          Pageable pageable);
-    
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE c.domain = :domain AND c.releaseDate BETWEEN :startDate AND :endDate " +
+                   "ORDER BY c.releaseDate DESC",
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE c.domain = :domain AND c.releaseDate BETWEEN :startDate AND :endDate")
+    Page<ContentSummary> findReleasesInDateRange(@Param("domain") Domain domain,
+                                                 @Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 Pageable pageable);
+
     // 특정 날짜 범위의 신작 조회 - 전체 도메인
-    @Query("SELECT c FROM Content c WHERE c.releaseDate BETWEEN :startDate AND :endDate " +
-           "ORDER BY c.releaseDate DESC")
-    Page<Content> findReleasesInDateRange(@Param("startDate") LocalDate startDate,
-                                          @Param("endDate") LocalDate endDate,
-                                          Pageable pageable);
-    
+    @Query(value = SUMMARY_SELECT + "FROM Content c WHERE c.releaseDate BETWEEN :startDate AND :endDate " +
+                   "ORDER BY c.releaseDate DESC",
+           countQuery = "SELECT COUNT(c) FROM Content c WHERE c.releaseDate BETWEEN :startDate AND :endDate")
+    Page<ContentSummary> findReleasesInDateRange(@Param("startDate") LocalDate startDate,
+                                                 @Param("endDate") LocalDate endDate,
+                                                 Pageable pageable);
+
     // [✨ 플랫폼 필터링 쿼리 - 메모리 부하 해결]
     // 도메인 + 플랫폼 필터링
-    @Query("SELECT DISTINCT c FROM Content c " +
-           "JOIN PlatformData pd ON pd.content = c " +
-           "WHERE c.domain = :domain AND LOWER(pd.platformName) IN :platforms")
-    Page<Content> findByDomainAndPlatforms(@Param("domain") Domain domain,
-                                           @Param("platforms") List<String> platforms,
-                                           Pageable pageable);
-    
+    @Query(value = DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+                   "WHERE c.domain = :domain AND LOWER(pd.platformName) IN :platforms",
+           countQuery = "SELECT COUNT(DISTINCT c) " + PLATFORM_JOIN +
+                   "WHERE c.domain = :domain AND LOWER(pd.platformName) IN :platforms")
+    Page<ContentSummary> findByDomainAndPlatforms(@Param("domain") Domain domain,
+                                                  @Param("platforms") List<String> platforms,
+                                                  Pageable pageable);
+
     // 플랫폼 필터링만 (도메인 무관)
-    @Query("SELECT DISTINCT c FROM Content c " +
-           "JOIN PlatformData pd ON pd.content = c " +
-           "WHERE LOWER(pd.platformName) IN :platforms")
-    Page<Content> findByPlatforms(@Param("platforms") List<String> platforms,
-                                  Pageable pageable);
-    
+    @Query(value = DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+                   "WHERE LOWER(pd.platformName) IN :platforms",
+           countQuery = "SELECT COUNT(DISTINCT c) " + PLATFORM_JOIN +
+                   "WHERE LOWER(pd.platformName) IN :platforms")
+    Page<ContentSummary> findByPlatforms(@Param("platforms") List<String> platforms,
+                                         Pageable pageable);
+
     // 도메인 + 키워드 + 플랫폼 필터링
-    @Query("SELECT DISTINCT c FROM Content c " +
-           "JOIN PlatformData pd ON pd.content = c " +
-           "WHERE c.domain = :domain " +
-           "AND (LOWER(c.masterTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "     LOWER(c.originalTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND LOWER(pd.platformName) IN :platforms")
-    Page<Content> findByDomainAndKeywordAndPlatforms(@Param("domain") Domain domain,
-                                                     @Param("keyword") String keyword,
-                                                     @Param("platforms") List<String> platforms,
-                                                     Pageable pageable);
-    
+    @Query(value = DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+                   "WHERE c.domain = :domain AND " + KEYWORD_WHERE + " AND LOWER(pd.platformName) IN :platforms",
+           countQuery = "SELECT COUNT(DISTINCT c) " + PLATFORM_JOIN +
+                   "WHERE c.domain = :domain AND " + KEYWORD_WHERE + " AND LOWER(pd.platformName) IN :platforms")
+    Page<ContentSummary> findByDomainAndKeywordAndPlatforms(@Param("domain") Domain domain,
+                                                            @Param("keyword") String keyword,
+                                                            @Param("platforms") List<String> platforms,
+                                                            Pageable pageable);
+
     // 키워드 + 플랫폼 필터링 (도메인 무관)
-    @Query("SELECT DISTINCT c FROM Content c " +
-           "JOIN PlatformData pd ON pd.content = c " +
-           "WHERE (LOWER(c.masterTitle) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "       LOWER(c.originalTitle) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
-           "AND LOWER(pd.platformName) IN :platforms")
-    Page<Content> findByKeywordAndPlatforms(@Param("keyword") String keyword,
-                                           @Param("platforms") List<String> platforms,
-                                           Pageable pageable);
-}
\ No newline at end of file
+    @Query(value = DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+                   "WHERE " + KEYWORD_WHERE + " AND LOWER(pd.platformName) IN :platforms",
+           countQuery = "SELECT COUNT(DISTINCT c) " + PLATFORM_JOIN +
+                   "WHERE " + KEYWORD_WHERE + " AND LOWER(pd.platformName) IN :platforms")
+    Page<ContentSummary> findByKeywordAndPlatforms(@Param("keyword") String keyword,
+                                                   @Param("platforms") List<String> platforms,
+                                                   Pageable pageable);
+
+    // [✨ Slice 조회 - COUNT 쿼리 없이 다음 페이지 존재 여부만 확인 (size+1건 조회)]
+    @Query(SUMMARY_SELECT + "FROM Content c")
+    Slice<ContentSummary> findAllSlice(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "FROM Content c WHERE c.domain = :domain")
+    Slice<ContentSummary> findSliceByDomain(@Param("domain") Domain domain, Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "FROM Content c WHERE c.domain = :domain AND " + KEYWORD_WHERE)
+    Slice<ContentSummary> searchSliceByDomainAndKeyword(@Param("domain") Domain domain,
+                                                        @Param("keyword") String keyword,
+                                                        Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "FROM Content c WHERE " + KEYWORD_WHERE)
+    Slice<ContentSummary> searchSliceByKeyword(@Param("keyword") String keyword, Pageable pageable);
+
+    @Query(DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+           "WHERE c.domain = :domain AND LOWER(pd.platformName) IN :platforms")
+    Slice<ContentSummary> findSliceByDomainAndPlatforms(@Param("domain") Domain domain,
+                                                        @Param("platforms") List<String> platforms,
+                                                        Pageable pageable);
+
+    @Query(DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+           "WHERE LOWER(pd.platformName) IN :platforms")
+    Slice<ContentSummary> findSliceByPlatforms(@Param("platforms") List<String> platforms,
+                                               Pageable pageable);
+
+    @Query(DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+           "WHERE c.domain = :domain AND " + KEYWORD_WHERE + " AND LOWER(pd.platformName) IN :platforms")
+    Slice<ContentSummary> findSliceByDomainAndKeywordAndPlatforms(@Param("domain") Domain domain,
+                                                                  @Param("keyword") String keyword,
+                                                                  @Param("platforms") List<String> platforms,
+                                                                  Pageable pageable);
+
+    @Query(DISTINCT_SUMMARY_SELECT + PLATFORM_JOIN +
+           "WHERE " + KEYWORD_WHERE + " AND LOWER(pd.platformName) IN :platforms")
+    Slice<ContentSummary> findSliceByKeywordAndPlatforms(@Param("keyword") String keyword,
+                                                         @Param("platforms") List<String> platforms,
+                                                         Pageable pageable);
+}
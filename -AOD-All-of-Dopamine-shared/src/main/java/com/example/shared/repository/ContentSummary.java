@@ -0,0 +1,21 @@
+package com.example.shared.repository;
+
+import com.example.shared.entity.Domain;
+
+import java.time.LocalDate;
+
+/**
+ * 목록 조회용 Content 컬럼 프로젝션
+ * - synopsis(text) 등 목록에 필요 없는 컬럼을 읽지 않음
+ * - 엔티티가 아니므로 영속성 컨텍스트/dirty checking 스냅샷 대상에서 제외
+ * - JPQL: SELECT new com.example.shared.repository.ContentSummary(c.contentId, c.domain, c.masterTitle, c.originalTitle, c.posterImageUrl, c.releaseDate)
+ */
+public record ContentSummary(
+        Long contentId,
+        Domain domain,
+        String masterTitle,
+        String originalTitle,
+        String posterImageUrl,
+        LocalDate releaseDate
+) {
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface GameContentRepository extends JpaRepository<GameContent, Long> {
@@ -28,6 +29,12 @@ public interface GameContentRepository extends JpaRepository<GameContent, Long>
      */
     @Query("SELECT gc FROM GameContent gc WHERE gc.developer = :developer")
     List<GameContent> findByDeveloper(@Param("developer") String developer);
+
+    /**
+     * 여러 Developer 일괄 검색 (배치 변환 중복 탐지용, Content 함께 로딩)
+     */
+    @Query("SELECT gc FROM GameContent gc JOIN FETCH gc.content WHERE gc.developer IN :developers")
+    List<GameContent> findByDeveloperIn(@Param("developers") Collection<String> developers);
     
     /**
      * Publisher로 게임 작품 검색 (중복 탐지용)
@@ -7,12 +7,29 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PlatformDataRepository extends JpaRepository<PlatformData, Long> {
     Optional<PlatformData> findByPlatformNameAndPlatformSpecificId(String platformName, String platformSpecificId);
     List<PlatformData> findByContent(Content content);
+
+    /**
+     * 한 플랫폼의 여러 작품 일괄 조회 (배치 변환용, 기존 작품 갱신에 쓰이므로 Content 함께 로딩)
+     */
+    @Query("SELECT pd FROM PlatformData pd JOIN FETCH pd.content " +
+           "WHERE pd.platformName = :platformName AND pd.platformSpecificId IN :platformSpecificIds")
+    List<PlatformData> findByPlatformNameAndPlatformSpecificIdIn(@Param("platformName") String platformName,
+                                                                 @Param("platformSpecificIds") Collection<String> platformSpecificIds);
+
+    /**
+     * 주어진 작품 중 플랫폼 정보가 2개 이상인 (병합된) 작품 ID
+     */
+    @Query("SELECT pd.content.contentId FROM PlatformData pd " +
+           "WHERE pd.content.contentId IN :contentIds " +
+           "GROUP BY pd.content.contentId HAVING COUNT(pd) > 1")
+    List<Long> findSharedContentIds(@Param("contentIds") Collection<Long> contentIds);
     
     /**
      * 도메인별 고유 플랫폼 이름 조회 (N+1 쿼리 방지)
@@ -32,4 +49,13 @@ public interface PlatformDataRepository extends JpaRepository<PlatformData, Long
            "WHERE pd.platformName IS NOT NULL " +
            "ORDER BY pd.platformName")
     List<String> findDistinctPlatformNames();
-}
\ No newline at end of file
+    
+    /**
+     * 주어진 작품 중 특정 플랫폼에 등록된 작품 ID 조회 (작품별 개별 조회 대신 일괄 조회)
+     * - platforms는 소문자로 전달
+     */
+    @Query("SELECT DISTINCT pd.content.contentId FROM PlatformData pd " +
+           "WHERE pd.content.contentId IN :contentIds AND LOWER(pd.platformName) IN :platforms")
+    List<Long> findContentIdsByPlatforms(@Param("contentIds") List<Long> contentIds,
+                                         @Param("platforms") List<String> platforms);
+}
@@ -18,15 +18,26 @@ public interface RawItemRepository extends JpaRepository<RawItem, Long> {
     Optional<RawItem> findByPlatformNameAndPlatformSpecificId(String platformName, String platformSpecificId);
     
     // Postgres: SKIP LOCKED로 다중 워커 경쟁 처리
+    // - 격리(dead letter)됐거나 재시도 대기 중(next_attempt_at 미도래)인 항목은 건너뜀
     @Query(value = """
       SELECT * FROM raw_items
       WHERE processed = false
+        AND dead_lettered_at IS NULL
+        AND (next_attempt_at IS NULL OR next_attempt_at <= now())
       ORDER BY fetched_at
       LIMIT :batchSize
       FOR UPDATE SKIP LOCKED
       """, nativeQuery = true)
     List<RawItem> lockNextBatch(@Param("batchSize") int batchSize);
     
+    // 배치 실패 시 건별 재처리용: 아직 미처리이고 다른 워커가 잡고 있지 않을 때만 반환
+    @Query(value = """
+      SELECT * FROM raw_items
+      WHERE raw_id = :rawId AND processed = false AND dead_lettered_at IS NULL
+      FOR UPDATE SKIP LOCKED
+      """, nativeQuery = true)
+    Optional<RawItem> lockUnprocessedById(@Param("rawId") Long rawId);
+    
     long countByProcessedFalse();
     
     @Query("SELECT r FROM RawItem r WHERE r.platformName = :platformName AND r.processed = false ORDER BY r.fetchedAt ASC")
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface WebnovelContentRepository extends JpaRepository<WebnovelContent, Long> {
@@ -29,6 +30,12 @@ public interface WebnovelContentRepository extends JpaRepository<WebnovelContent
      */
     @Query("SELECT wn FROM WebnovelContent wn WHERE wn.author = :author")
     List<WebnovelContent> findByAuthor(@Param("author") String author);
+
+    /**
+     * 여러 Author 일괄 검색 (배치 변환 중복 탐지용, Content 함께 로딩)
+     */
+    @Query("SELECT wn FROM WebnovelContent wn JOIN FETCH wn.content WHERE wn.author IN :authors")
+    List<WebnovelContent> findByAuthorIn(@Param("authors") Collection<String> authors);
     
     /**
      * Content ID 목록으로 조회
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface WebtoonContentRepository extends JpaRepository<WebtoonContent, Long> {
@@ -28,6 +29,12 @@ public interface WebtoonContentRepository extends JpaRepository<WebtoonContent,
      */
     @Query("SELECT wc FROM WebtoonContent wc WHERE wc.author = :author")
     List<WebtoonContent> findByAuthor(@Param("author") String author);
+
+    /**
+     * 여러 Author 일괄 검색 (배치 변환 중복 탐지용, Content 함께 로딩)
+     */
+    @Query("SELECT wc FROM WebtoonContent wc JOIN FETCH wc.content WHERE wc.author IN :authors")
+    List<WebtoonContent> findByAuthorIn(@Param("authors") Collection<String> authors);
     
     /**
      * Content ID 목록으로 조회
@@ -0,0 +1,145 @@
+package com.example.shared.schema;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+/**
+ * 작품 변경 추적 트리거 (contents.updated_at / change_txid, content_tombstones)
+ * - platform_data / 도메인 상세 테이블이 바뀌면 소유 작품의 contents.updated_at을 같은 트랜잭션에서 now()로 갱신
+ *   → 상세 ETag/Last-Modified, 변경 피드, 홈 피드 마커가 contents 본문 외 변경도 반영
+ * - UPDATE는 실제 값이 바뀐 행만 (platform_data는 수집 시각 last_seen_at 제외)
+ * - 한 트랜잭션에서 같은 작품을 여러 번 건드려도 contents 갱신은 한 번
+ * - contents / content_tombstones 행마다 쓴 트랜잭션 ID(change_txid) 기록
+ *   → 변경 피드는 커밋 순서 기준 워터마크(스냅샷 xmin)로 조회 (updated_at은 커밋이 아닌 flush 시각)
+ * - contents 행 삭제 시 content_tombstones에 기록 (크롤러/관리 작업 등 삭제 경로와 무관)
+ * - API / 크롤러 기동 시 모두 설치 (크롤러가 ddl-auto=create로 테이블을 다시 만들어도 복구)
+ */
+public final class ContentChangeTracking {
+
+    public static final List<String> DOMAIN_TABLES =
+            List.of("movie_contents", "tv_contents", "game_contents", "webtoon_contents", "webnovel_contents");
+
+    private static final String TOUCH_FUNCTION =
+            "CREATE OR REPLACE FUNCTION touch_owner_content() RETURNS trigger AS $$ " +
+            "BEGIN " +
+            "  IF TG_OP = 'INSERT' THEN " +
+            "    PERFORM touch_content(NEW.content_id); " +
+            "  ELSIF TG_OP = 'DELETE' THEN " +
+            "    PERFORM touch_content(OLD.content_id); " +
+            "  ELSE " +
+            "    PERFORM touch_content(NEW.content_id); " +
+            "    IF OLD.content_id IS DISTINCT FROM NEW.content_id THEN " +
+            "      PERFORM touch_content(OLD.content_id); " +
+            "    END IF; " +
+            "  END IF; " +
+            "  RETURN NULL; " +
+            "END; $$ LANGUAGE plpgsql";
+
+    private static final String TOUCH_CONTENT_FUNCTION =
+            "CREATE OR REPLACE FUNCTION touch_content(bigint) RETURNS void AS $$ " +
+            "  UPDATE contents SET updated_at = now() " +
+            "  WHERE content_id = $1 AND updated_at IS DISTINCT FROM now() " +
+            "$$ LANGUAGE sql";
+
+    private static final String CHANGE_TXID_FUNCTION =
+            "CREATE OR REPLACE FUNCTION stamp_change_txid() RETURNS trigger AS $$ " +
+            "BEGIN " +
+            "  NEW.change_txid := txid_current(); " +
+            "  RETURN NEW; " +
+            "END; $$ LANGUAGE plpgsql";
+
+    private static final String TOMBSTONE_FUNCTION =
+            "CREATE OR REPLACE FUNCTION record_content_tombstone() RETURNS trigger AS $$ " +
+            "BEGIN " +
+            "  INSERT INTO content_tombstones (content_id, deleted_at, change_txid) " +
+            "  VALUES (OLD.content_id, now(), txid_current()) " +
+            "  ON CONFLICT (content_id) DO UPDATE " +
+            "  SET deleted_at = EXCLUDED.deleted_at, change_txid = EXCLUDED.change_txid; " +
+            "  RETURN OLD; " +
+            "END; $$ LANGUAGE plpgsql";
+
+    private ContentChangeTracking() {
+    }
+
+    /**
+     * 트리거 설치 (존재하는 테이블만, 반복 실행 가능)
+     */
+    public static void install(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute(TOUCH_CONTENT_FUNCTION);
+        jdbcTemplate.execute(TOUCH_FUNCTION);
+
+        if (tableExists(jdbcTemplate, "platform_data")) {
+            createTrigger(jdbcTemplate, "platform_data", "trg_platform_data_touch",
+                    "AFTER INSERT OR DELETE", "touch_owner_content()");
+            createTrigger(jdbcTemplate, "platform_data", "trg_platform_data_touch_upd",
+                    "AFTER UPDATE", "touch_owner_content()",
+                    "OLD.content_id IS DISTINCT FROM NEW.content_id OR OLD.url IS DISTINCT FROM NEW.url " +
+                    "OR OLD.attributes IS DISTINCT FROM NEW.attributes " +
+                    "OR OLD.platform_name IS DISTINCT FROM NEW.platform_name " +
+                    "OR OLD.platform_specific_id IS DISTINCT FROM NEW.platform_specific_id");
+        }
+        for (String table : DOMAIN_TABLES) {
+            if (tableExists(jdbcTemplate, table)) {
+                createTrigger(jdbcTemplate, table, "trg_" + table + "_touch",
+                        "AFTER INSERT OR DELETE", "touch_owner_content()");
+                createTrigger(jdbcTemplate, table, "trg_" + table + "_touch_upd",
+                        "AFTER UPDATE", "touch_owner_content()", "OLD.* IS DISTINCT FROM NEW.*");
+            }
+        }
+
+        installChangeFeed(jdbcTemplate);
+    }
+
+    /**
+     * 변경 피드용 change_txid / tombstone
+     * - contents.change_txid: 행을 마지막으로 쓴 트랜잭션 ID (BEFORE 트리거, 기존 행은 한 번 채움)
+     * - content_tombstones: 삭제된 작품 (삭제 트랜잭션 ID 포함)
+     */
+    private static void installChangeFeed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute(CHANGE_TXID_FUNCTION);
+        jdbcTemplate.execute(TOMBSTONE_FUNCTION);
+
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS content_tombstones (" +
+                "  content_id bigint PRIMARY KEY," +
+                "  deleted_at timestamptz NOT NULL DEFAULT now()" +
+                ")");
+        jdbcTemplate.execute(
+                "ALTER TABLE content_tombstones ADD COLUMN IF NOT EXISTS change_txid bigint NOT NULL DEFAULT txid_current()");
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_content_tombstones_txid_id ON content_tombstones (change_txid, content_id)");
+
+        if (tableExists(jdbcTemplate, "contents")) {
+            jdbcTemplate.execute("ALTER TABLE contents ADD COLUMN IF NOT EXISTS change_txid bigint");
+            createTrigger(jdbcTemplate, "contents", "trg_contents_change_txid",
+                    "BEFORE INSERT OR UPDATE", "stamp_change_txid()");
+            jdbcTemplate.update("UPDATE contents SET change_txid = txid_current() WHERE change_txid IS NULL");
+            jdbcTemplate.execute(
+                    "CREATE INDEX IF NOT EXISTS idx_contents_change_txid_id ON contents (change_txid, content_id)");
+
+            createTrigger(jdbcTemplate, "contents", "trg_contents_tombstone",
+                    "AFTER DELETE", "record_content_tombstone()");
+        }
+    }
+
+    static boolean tableExists(JdbcTemplate jdbcTemplate, String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT FROM information_schema.tables " +
+                "WHERE table_schema = 'public' AND table_name = ?)",
+                Boolean.class, table));
+    }
+
+    private static void createTrigger(JdbcTemplate jdbcTemplate, String table, String name, String timing,
+                                      String function) {
+        createTrigger(jdbcTemplate, table, name, timing, function, null);
+    }
+
+    private static void createTrigger(JdbcTemplate jdbcTemplate, String table, String name, String timing,
+                                      String function, String when) {
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS " + name + " ON " + table);
+        jdbcTemplate.execute("CREATE TRIGGER " + name + " " + timing + " ON " + table + " FOR EACH ROW " +
+                (when != null ? "WHEN (" + when + ") " : "") +
+                "EXECUTE FUNCTION " + function);
+    }
+}
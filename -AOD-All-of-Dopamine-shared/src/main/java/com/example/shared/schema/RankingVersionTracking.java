@@ -0,0 +1,95 @@
+package com.example.shared.schema;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 랭킹 버전 추적 (ranking_versions: 플랫폼별 version / updated_at)
+ * - external_ranking 행이 추가/변경/삭제되면 해당 플랫폼 버전 +1, updated_at = 수집 반영 시각
+ * - 랭킹에 매핑된 작품의 응답 컬럼(제목/포스터/도메인)이 바뀌어도 그 작품을 가진 플랫폼 버전 +1
+ * - 한 트랜잭션에서 여러 행을 바꿔도 플랫폼당 한 번만 증가 (change_txid로 구분)
+ * - 조건부 GET은 PK 조회 1회로 ETag(version) / Last-Modified(updated_at) 계산 (랭킹 본문 해시 불필요)
+ * - 설치 시 모든 플랫폼 버전을 한 번 올림 (ddl-auto=create로 external_ranking이 트리거 없이 비워졌을 수 있음)
+ * - API / 크롤러 기동 시 모두 설치
+ */
+public final class RankingVersionTracking {
+
+    private static final String BUMP_FUNCTION =
+            "CREATE OR REPLACE FUNCTION bump_ranking_version(text) RETURNS void AS $$ " +
+            "  INSERT INTO ranking_versions (platform, version, updated_at, change_txid) " +
+            "  VALUES ($1, 1, clock_timestamp(), txid_current()) " +
+            "  ON CONFLICT (platform) DO UPDATE " +
+            "  SET version = ranking_versions.version + 1, " +
+            "      updated_at = GREATEST(ranking_versions.updated_at, EXCLUDED.updated_at), " +
+            "      change_txid = EXCLUDED.change_txid " +
+            "  WHERE ranking_versions.change_txid IS DISTINCT FROM EXCLUDED.change_txid " +
+            "$$ LANGUAGE sql";
+
+    private static final String RANKING_TRIGGER_FUNCTION =
+            "CREATE OR REPLACE FUNCTION bump_ranking_version_row() RETURNS trigger AS $$ " +
+            "BEGIN " +
+            "  IF TG_OP = 'INSERT' THEN " +
+            "    PERFORM bump_ranking_version(NEW.platform); " +
+            "  ELSIF TG_OP = 'DELETE' THEN " +
+            "    PERFORM bump_ranking_version(OLD.platform); " +
+            "  ELSE " +
+            "    PERFORM bump_ranking_version(NEW.platform); " +
+            "    IF OLD.platform IS DISTINCT FROM NEW.platform THEN " +
+            "      PERFORM bump_ranking_version(OLD.platform); " +
+            "    END IF; " +
+            "  END IF; " +
+            "  RETURN NULL; " +
+            "END; $$ LANGUAGE plpgsql";
+
+    private static final String CONTENT_TRIGGER_FUNCTION =
+            "CREATE OR REPLACE FUNCTION bump_ranking_version_content() RETURNS trigger AS $$ " +
+            "BEGIN " +
+            "  PERFORM bump_ranking_version(p.platform) " +
+            "  FROM (SELECT DISTINCT platform FROM external_ranking WHERE content_id = NEW.content_id) p; " +
+            "  RETURN NULL; " +
+            "END; $$ LANGUAGE plpgsql";
+
+    private RankingVersionTracking() {
+    }
+
+    /**
+     * 테이블/트리거 설치 (존재하는 테이블만, 반복 실행 가능)
+     */
+    public static void install(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute(
+                "CREATE TABLE IF NOT EXISTS ranking_versions (" +
+                "  platform varchar(255) PRIMARY KEY," +
+                "  version bigint NOT NULL," +
+                "  updated_at timestamptz NOT NULL," +
+                "  change_txid bigint" +
+                ")");
+        jdbcTemplate.execute(BUMP_FUNCTION);
+        jdbcTemplate.execute(RANKING_TRIGGER_FUNCTION);
+        jdbcTemplate.execute(CONTENT_TRIGGER_FUNCTION);
+
+        if (!ContentChangeTracking.tableExists(jdbcTemplate, "external_ranking")) {
+            return;
+        }
+        jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_external_ranking_version ON external_ranking");
+        jdbcTemplate.execute("CREATE TRIGGER trg_external_ranking_version " +
+                "AFTER INSERT OR UPDATE OR DELETE ON external_ranking FOR EACH ROW " +
+                "EXECUTE FUNCTION bump_ranking_version_row()");
+        jdbcTemplate.execute(
+                "CREATE INDEX IF NOT EXISTS idx_external_ranking_content ON external_ranking (content_id)");
+
+        if (ContentChangeTracking.tableExists(jdbcTemplate, "contents")) {
+            jdbcTemplate.execute("DROP TRIGGER IF EXISTS trg_contents_ranking_version ON contents");
+            jdbcTemplate.execute("CREATE TRIGGER trg_contents_ranking_version " +
+                    "AFTER UPDATE ON contents FOR EACH ROW " +
+                    "WHEN (OLD.master_title IS DISTINCT FROM NEW.master_title " +
+                    "OR OLD.poster_image_url IS DISTINCT FROM NEW.poster_image_url " +
+                    "OR OLD.domain IS DISTINCT FROM NEW.domain) " +
+                    "EXECUTE FUNCTION bump_ranking_version_content()");
+        }
+
+        jdbcTemplate.update("UPDATE ranking_versions SET version = version + 1, updated_at = clock_timestamp()");
+        jdbcTemplate.update(
+                "INSERT INTO ranking_versions (platform, version, updated_at) " +
+                "SELECT DISTINCT platform, 1, clock_timestamp() FROM external_ranking " +
+                "ON CONFLICT (platform) DO NOTHING");
+    }
+}